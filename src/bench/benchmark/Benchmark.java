@@ -0,0 +1,9 @@
+package benchmark;
+
+// Represents a single operation to be timed by a BenchmarkRunner
+@FunctionalInterface
+public interface Benchmark {
+
+    // EFFECTS: performs the operation once, passing anything it computes to blackhole so it is not optimized away
+    void run(Blackhole blackhole) throws Exception;
+}
@@ -0,0 +1,152 @@
+package benchmark;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents a harness that times registered benchmarks. Each benchmark is run for a number of warmup iterations,
+// whose timings are discarded, and then for a number of measured iterations. Every iteration repeats the benchmark
+// until iterationMillis have passed and reports the average time per operation. The clock is read once per batch of
+// operations, its size calibrated so that a batch takes at least BATCH_NANOS, so the cost of reading the clock does
+// not show in the score of a fast operation. Every benchmark runs in the JVM of the runner, so unlike JMH there is no
+// fork per benchmark: benchmarks run earlier shape the JIT's profile of code shared with later ones. Run one
+// benchmark per JVM (see Benchmarks) when comparing figures for shared code. Results are returned as JSON in the
+// same shape as JMH's "-rf json" output so results from different builds can be diffed with the same tools.
+public class BenchmarkRunner {
+    public static final String MODE = "avgt";       // Benchmarks report the average time per operation
+    public static final String UNIT = "ns/op";      // Unit of every score
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final double Z_999 = 3.291;      // Two-sided z-score of a 99.9% confidence interval
+    private static final long BATCH_NANOS = 10_000;     // Shortest batch, so reading the clock costs < 1% of it
+    private static final long MAX_BATCH = 1L << 30;     // Largest batch, in operations
+
+    private final Map<String, Benchmark> benchmarks;    // Registered benchmarks by name, in registration order
+    private final int warmupIterations;                 // Iterations run before measuring
+    private final int measurementIterations;            // Iterations measured
+    private final long iterationMillis;                 // Length of each iteration
+    private final Blackhole blackhole;                  // Sink shared by every benchmark
+
+    // REQUIRES: warmupIterations >= 0, measurementIterations > 0 and iterationMillis > 0
+    // EFFECTS: constructs a runner with no benchmarks registered
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.benchmarks = new LinkedHashMap<>();
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationMillis = iterationMillis;
+        this.blackhole = new Blackhole();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: registers benchmark under name, replacing any benchmark already registered under name
+    public void register(String name, Benchmark benchmark) {
+        benchmarks.put(name, benchmark);
+    }
+
+    // EFFECTS: returns the names of the registered benchmarks
+    public List<String> getNames() {
+        return new ArrayList<>(benchmarks.keySet());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs every registered benchmark whose name contains filter and returns the results as JSON
+    public JSONArray run(String filter) throws Exception {
+        JSONArray results = new JSONArray();
+        for (Map.Entry<String, Benchmark> entry : benchmarks.entrySet()) {
+            if (entry.getKey().contains(filter)) {
+                results.put(run(entry.getKey(), entry.getValue()));
+            }
+        }
+        return results;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs benchmark and returns its result as JSON
+    private JSONObject run(String name, Benchmark benchmark) throws Exception {
+        long batch = calibrate(benchmark);
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(benchmark, batch);
+        }
+
+        batch = calibrate(benchmark);
+        double[] scores = new double[measurementIterations];
+        for (int i = 0; i < measurementIterations; i++) {
+            scores[i] = iteration(benchmark, batch);
+        }
+
+        JSONObject result = new JSONObject();
+        result.put("benchmark", name);
+        result.put("mode", MODE);
+        result.put("warmupIterations", warmupIterations);
+        result.put("measurementIterations", measurementIterations);
+        result.put("measurementTime", iterationMillis + " ms");
+        result.put("primaryMetric", primaryMetric(scores));
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the number of operations of benchmark, a power of two, that take at least BATCH_NANOS
+    private long calibrate(Benchmark benchmark) throws Exception {
+        long batch = 1;
+        while (batch < MAX_BATCH) {
+            long start = System.nanoTime();
+            runBatch(benchmark, batch);
+            if (System.nanoTime() - start >= BATCH_NANOS) {
+                break;
+            }
+            batch *= 2;
+        }
+        return batch;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: repeats batches of benchmark for iterationMillis and returns the average nanoseconds per operation
+    private double iteration(Benchmark benchmark, long batch) throws Exception {
+        long deadline = System.nanoTime() + iterationMillis * NANOS_PER_MILLI;
+        long operations = 0;
+        long start = System.nanoTime();
+        long now;
+
+        do {
+            runBatch(benchmark, batch);
+            operations += batch;
+            now = System.nanoTime();
+        } while (now < deadline);
+
+        return (double) (now - start) / operations;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs benchmark batch times without reading the clock
+    private void runBatch(Benchmark benchmark, long batch) throws Exception {
+        for (long i = 0; i < batch; i++) {
+            benchmark.run(blackhole);
+        }
+    }
+
+    // EFFECTS: returns the mean of scores, its 99.9% confidence interval and the raw scores as JSON
+    private static JSONObject primaryMetric(double[] scores) {
+        double mean = 0;
+        for (double score : scores) {
+            mean += score / scores.length;
+        }
+
+        double variance = 0;
+        for (double score : scores) {
+            variance += (score - mean) * (score - mean) / Math.max(1, scores.length - 1);
+        }
+        double error = Z_999 * Math.sqrt(variance / scores.length);
+
+        JSONObject metric = new JSONObject();
+        metric.put("score", mean);
+        metric.put("scoreError", error);
+        metric.put("scoreConfidence", new JSONArray().put(mean - error).put(mean + error));
+        metric.put("scoreUnit", UNIT);
+        metric.put("rawData", new JSONArray().put(new JSONArray(scores)));
+        return metric;
+    }
+}
@@ -0,0 +1,44 @@
+package benchmark;
+
+import bot.BotBenchmarks;
+import model.ModelBenchmarks;
+import persistence.PersistenceBenchmarks;
+import ui.HintBenchmarks;
+
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+
+// Runs every benchmark and writes the results as JSON so they can be diffed between builds
+//  Usage: Benchmarks [output file] [name filter]
+//  e.g. java -cp out/production/Codenames:lib/json-20210307.jar:data benchmark.Benchmarks bench.json model.
+// Every benchmark matched runs in this one JVM, so they share JIT profiles; to measure one in isolation, run this
+// once per benchmark with its full name as the filter.
+public class Benchmarks {
+    private static final String DEFAULT_OUTPUT = "bench-results.json";
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final long ITERATION_MILLIS = 500;
+    private static final int TAB = 4;
+
+    public static void main(String[] args) throws Exception {
+        String output = args.length > 0 ? args[0] : DEFAULT_OUTPUT;
+        String filter = args.length > 1 ? args[1] : "";
+
+        BenchmarkRunner runner = new BenchmarkRunner(WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS, ITERATION_MILLIS);
+        new ModelBenchmarks().register(runner);
+        new PersistenceBenchmarks().register(runner);
+        new HintBenchmarks().register(runner);
+        new BotBenchmarks().register(runner);
+
+        String results = runner.run(filter).toString(TAB);
+        save(output, results);
+        System.out.println(results);
+    }
+
+    // EFFECTS: writes results to output; throws FileNotFoundException if output cannot be opened for writing
+    private static void save(String output, String results) throws FileNotFoundException {
+        try (PrintWriter writer = new PrintWriter(output)) {
+            writer.println(results);
+        }
+    }
+}
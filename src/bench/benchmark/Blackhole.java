@@ -0,0 +1,36 @@
+package benchmark;
+
+// Represents a sink for the results of benchmarked operations. Consuming a result stops the JIT compiler from
+// removing the work that produced it as dead code.
+public class Blackhole {
+    private volatile int sink;              // Folded sum of every primitive consumed
+    private volatile Object objectSink;     // Object consumed last
+
+    // MODIFIES: this
+    // EFFECTS: consumes value
+    public void consume(int value) {
+        sink += value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes value
+    public void consume(boolean value) {
+        consume(value ? 1 : 0);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes object
+    public void consume(Object object) {
+        objectSink = object;
+    }
+
+    // EFFECTS: returns the folded sum of every primitive consumed
+    public int getSink() {
+        return sink;
+    }
+
+    // EFFECTS: returns the object consumed last, or null if none has been
+    public Object getObjectSink() {
+        return objectSink;
+    }
+}
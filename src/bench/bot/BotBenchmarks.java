@@ -0,0 +1,127 @@
+package bot;
+
+import benchmark.BenchmarkRunner;
+import model.Board;
+import model.BoardFactory;
+import model.Spymaster;
+import model.Team;
+import model.WordPool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static model.Team.*;
+
+// Benchmarks for the automated players, over random embeddings the size of a real clue vocabulary
+public class BotBenchmarks {
+    private static final int VOCABULARY = 50_000;   // Candidate clues besides the dictionary words
+    private static final int DIMENSIONS = 300;      // Length of every vector, as in common pretrained embeddings
+    private static final int TRIVIAL_GAMES = 256;   // Games of trivial strategies per run, spread over the pool
+
+    private final WordEmbeddings embeddings;    // Dictionary words and VOCABULARY other words
+    private final IvfIndex index;               // Index of the embeddings
+    private final Board board;                  // Board the clues are suggested for
+
+    // EFFECTS: builds the random embeddings and their index, and deals the board shared by the benchmarks
+    public BotBenchmarks() {
+        WordPool pool = WordPool.getInstance();
+        String[] words = new String[pool.size() + VOCABULARY];
+        float[][] vectors = new float[words.length][DIMENSIONS];
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = i < pool.size() ? pool.getWord(i) : clueWord(i);
+            for (int d = 0; d < DIMENSIONS; d++) {
+                vectors[i][d] = (float) (random.nextDouble() - 0.5);
+            }
+        }
+        embeddings = WordEmbeddings.of(words, vectors);
+        index = IvfIndex.build(embeddings, 1);
+        board = BoardFactory.fromSeed(1);
+    }
+
+    // EFFECTS: returns a made-up word of letters only, so it is a legal clue, that is different for every i
+    private static String clueWord(int i) {
+        StringBuilder word = new StringBuilder("Q");
+        for (int rest = i; rest > 0; rest /= 26) {
+            word.append((char) ('A' + rest % 26));
+        }
+        return word.toString();
+    }
+
+    // MODIFIES: runner
+    // EFFECTS: registers the bot benchmarks with runner
+    public void register(BenchmarkRunner runner) {
+        ClueSuggester suggester = new ClueSuggester(embeddings);
+        ClueSuggester indexed = new ClueSuggester(embeddings, index);
+        runner.register("bot.ClueSuggester.suggest", bh -> bh.consume(suggester.suggest(board, RED)));
+        runner.register("bot.ClueSuggester.suggestIndexed", bh -> bh.consume(indexed.suggest(board, RED)));
+
+        OperativeBot operative = new OperativeBot(embeddings);
+        Spymaster spymaster = new Spymaster(RED, board.getBoard().get(0).getWord(), 2);
+        runner.register("bot.OperativeBot.rank", bh -> bh.consume(operative.rank(board, spymaster)));
+        registerSimilarities(runner);
+
+        KeySampler sampler = new KeySampler(board);
+        int[][] sequences = KeySampler.prefixes(operative.rank(board, spymaster), 8);
+        runner.register("bot.KeySampler.evaluate", bh -> bh.consume(
+                sampler.evaluate(RED, sequences, KeySampler.DEFAULT_SAMPLES, 1)));
+
+        long budget = TimeUnit.MILLISECONDS.toNanos(250);
+        runner.register("bot.CluePlanner.suggest", bh -> bh.consume(
+                new CluePlanner(indexed, operative, CluePlanner.DEFAULT_DEPTH, CluePlanner.DEFAULT_BEAM_WIDTH, budget)
+                        .suggest(board, RED)));
+
+        Simulator simulator = new Simulator(indexed, operative, indexed, operative);
+        SimulationStats stats = new SimulationStats();
+        AtomicLong seeds = new AtomicLong();
+        runner.register("bot.Simulator.play", bh -> bh.consume(simulator.play(seeds.incrementAndGet(), stats)));
+
+        Simulator trivial = new Simulator(BotBenchmarks::firstClue, BotBenchmarks::firstCard,
+                BotBenchmarks::firstClue, BotBenchmarks::firstCard);
+        runner.register("bot.Simulator.run.trivial" + TRIVIAL_GAMES, bh -> bh.consume(
+                trivial.run(TRIVIAL_GAMES, seeds.addAndGet(TRIVIAL_GAMES))));
+    }
+
+    // EFFECTS: returns the same clue for one card whatever the board, so a game costs only the simulator and engine
+    private static ClueSuggestion firstClue(Board board, Team team) {
+        return new ClueSuggestion("HINT", 1, 0, 0);
+    }
+
+    // EFFECTS: returns a guess of the first unrevealed card, so a game costs only the simulator and engine
+    private static List<RankedGuess> firstCard(Board board, Spymaster spymaster) {
+        int position = Integer.numberOfTrailingZeros(~board.getBitBoard().getRevealedMask());
+        return List.of(new RankedGuess(position, board.getBoard().get(position).getWord(), 1, 1));
+    }
+
+    // MODIFIES: runner
+    // EFFECTS: registers lookups of a similarity computed from the embeddings and read from a similarity matrix
+    private void registerSimilarities(BenchmarkRunner runner) {
+        SimilarityMatrix matrix;
+        try {
+            Path file = Files.createTempFile("bench", ".cnsm");
+            file.toFile().deleteOnExit();
+            SimilarityMatrix.build(embeddings, WordPool.getInstance(), file.toString(),
+                    SimilarityMatrix.DEFAULT_NEIGHBOURS);
+            matrix = SimilarityMatrix.open(file.toString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int clues = embeddings.size();
+        int words = matrix.getPoolSize();
+        AtomicLong lookups = new AtomicLong();
+        runner.register("bot.WordEmbeddings.similarity", bh -> {
+            long n = lookups.incrementAndGet();
+            bh.consume(Float.floatToIntBits(embeddings.similarity((int) (n * 7919 % clues), (int) (n % words))));
+        });
+        runner.register("bot.SimilarityMatrix.similarity", bh -> {
+            long n = lookups.incrementAndGet();
+            bh.consume(Float.floatToIntBits(matrix.similarity((int) (n * 7919 % clues), (int) (n % words))));
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package model;
+
+import benchmark.BenchmarkRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.Team.*;
+
+// Benchmarks for dealing boards, counting cards and resolving guesses
+public class ModelBenchmarks {
+    private static final Team[] TEAMS = {RED, BLUE, NEUTRAL, ASSASSIN};
+
+    private final List<Card> layout;    // Cards of one dealt board, in board order
+    private final Board dealtBoard;     // Board dealt once and only read by benchmarks
+    private long seed;                  // Seed of the next board dealt by fromSeed
+
+    // EFFECTS: deals the board shared by the benchmarks
+    public ModelBenchmarks() {
+        dealtBoard = GameEngine.dealBoard(RED);
+        layout = new ArrayList<>(dealtBoard.getBoard());
+    }
+
+    // MODIFIES: runner
+    // EFFECTS: registers the model benchmarks with runner
+    public void register(BenchmarkRunner runner) {
+        runner.register("model.Dictionary.initializeDictionary", bh -> {
+            Dictionary dictionary = new Dictionary();
+            dictionary.initializeDictionary();
+            bh.consume(dictionary.getDictionary());
+        });
+        runner.register("model.Board.addCards", bh -> bh.consume(addCards()));
+        runner.register("model.GameEngine.dealBoard", bh -> bh.consume(GameEngine.dealBoard(RED)));
+        runner.register("model.BoardFactory.fromSeed", bh -> bh.consume(BoardFactory.fromSeed(seed++)));
+        runner.register("model.Board.getRemainingCards", bh -> {
+            for (Team team : TEAMS) {
+                bh.consume(dealtBoard.getRemainingCards(team));
+            }
+        });
+        runner.register("model.GameEngine.guess", bh -> bh.consume(playGame()));
+        String variant = layout.get(0).getWord() + "S";
+        runner.register("model.Board.isLegalClue", bh -> {
+            bh.consume(dealtBoard.isLegalClue("OCEAN"));
+            bh.consume(dealtBoard.isLegalClue(variant));
+        });
+    }
+
+    // EFFECTS: deals every team's cards from a freshly shuffled dictionary onto a new board and returns it
+    private Board addCards() {
+        Board board = new Board(RED);
+        board.initializeGameDictionary();
+        for (Team team : TEAMS) {
+            board.addCards(team);
+        }
+        return board;
+    }
+
+    // EFFECTS: guesses every card of the dealt layout in order, giving a clue whenever a spymaster is up, until the
+    //          game is over, and returns the outcome; building the board is included in the timing
+    private Outcome playGame() {
+        Board board = new Board(RED);
+        for (Card card : layout) {
+            board.addCards(new Card(card.getWord(), card.getTeam()));
+        }
+        GameEngine game = new GameEngine(board);
+
+        for (int position = 0; !game.getOutcome().isGameOver(); position++) {
+            if (game.getCurrentPlayer() == Role.SPYMASTER) {
+                game.giveClue("CLUE", 2);
+            }
+            game.guess(position);
+        }
+        return game.getOutcome();
+    }
+}
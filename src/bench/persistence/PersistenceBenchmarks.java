@@ -0,0 +1,108 @@
+package persistence;
+
+import benchmark.BenchmarkRunner;
+import model.Board;
+import model.GameEngine;
+import model.Outcome;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+
+import static model.Team.*;
+
+// Benchmarks for saving and loading a game as JSON and as a binary snapshot
+public class PersistenceBenchmarks {
+    private static final int ARCHIVED_GAMES = 100_000;  // Games in the archive that is scanned
+
+    private final GameEngine game;  // Game saved by the benchmarks
+    private final String file;      // Scratch file the game is saved to and loaded from
+    private final GameArchive archive;  // Archive of ARCHIVED_GAMES freshly dealt games
+
+    // EFFECTS: deals the game to be saved, creates the scratch file and fills the archive; the scratch file and the
+    //          archive's segments are deleted on exit
+    public PersistenceBenchmarks() throws IOException {
+        game = GameEngine.newGame(RED);
+        File scratch = File.createTempFile("codenames-bench", ".json");
+        scratch.deleteOnExit();
+        file = scratch.getPath();
+
+        File directory = Files.createTempDirectory("codenames-bench-archive").toFile();
+        directory.deleteOnExit();
+        archive = GameArchive.open(directory.getPath());
+        for (long seed = 0; seed < ARCHIVED_GAMES; seed++) {
+            archive.append(GameEngine.newGame(seed), new GameRecorder());
+        }
+        for (File segment : directory.listFiles()) {
+            segment.deleteOnExit();
+        }
+    }
+
+    // MODIFIES: runner
+    // EFFECTS: registers the persistence benchmarks with runner
+    public void register(BenchmarkRunner runner) {
+        runner.register("persistence.JsonWriter.toJson", bh -> bh.consume(toJson(new JsonWriter(file))));
+        runner.register("persistence.roundTrip", bh -> {
+            save();
+            bh.consume(load());
+        });
+        runner.register("persistence.JsonStreamWriter.write", bh -> {
+            StringWriter out = new StringWriter(4096);
+            JsonStreamWriter.write(game, out);
+            bh.consume(out);
+        });
+        runner.register("persistence.streamRoundTrip", bh -> {
+            new JsonStreamWriter(file).write(game);
+            bh.consume(load());
+        });
+        runner.register("persistence.JsonStreamReader.read", bh -> {
+            new JsonStreamWriter(file).write(game);
+            JsonStreamReader reader = new JsonStreamReader(file);
+            reader.read();
+            bh.consume(reader.readBoard());
+        });
+        runner.register("persistence.BinaryWriter.toBytes", bh -> bh.consume(BinaryWriter.toBytes(game)));
+        runner.register("persistence.binaryRoundTrip", bh -> {
+            new BinaryWriter(file).write(game);
+            BinaryReader reader = new BinaryReader(file);
+            reader.read();
+            bh.consume(reader.readBoard());
+        });
+        runner.register("persistence.GameArchive.scan", bh -> {
+            int[] redAgentsLeft = new int[1];
+            archive.scan(archived -> {
+                if (archived.getOutcome() == Outcome.IN_PROGRESS) {
+                    redAgentsLeft[0] += Integer.bitCount(archived.getTeamMask(RED) & ~archived.getRevealedMask());
+                }
+            });
+            bh.consume(redAgentsLeft[0]);
+        });
+    }
+
+    // EFFECTS: returns the merged JSON representation of the game, as saved by the GUI
+    private JSONObject toJson(JsonWriter writer) {
+        return writer.getMergedObject(writer.write(game.getBoard()),
+                writer.write(game.getSpymaster(RED)), writer.write(game.getSpymaster(BLUE)),
+                writer.write(game.getOperative(RED)), writer.write(game.getOperative(BLUE)));
+    }
+
+    // MODIFIES: file
+    // EFFECTS: saves the game to file
+    private void save() throws IOException {
+        JsonWriter writer = new JsonWriter(file);
+        writer.open();
+        writer.write(toJson(writer));
+        writer.close();
+    }
+
+    // EFFECTS: loads a game from file and returns it
+    private GameEngine load() throws IOException {
+        JsonReader reader = new JsonReader(file);
+        reader.read();
+        Board board = reader.readBoard();
+        return new GameEngine(board, reader.readSpymaster(RED), reader.readSpymaster(BLUE),
+                reader.readOperative(RED), reader.readOperative(BLUE));
+    }
+}
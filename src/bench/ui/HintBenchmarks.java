@@ -0,0 +1,28 @@
+package ui;
+
+import benchmark.BenchmarkRunner;
+import model.Board;
+import model.BoardFactory;
+import model.ClueParser;
+
+// Benchmarks for validating the hints entered by spymasters
+public class HintBenchmarks {
+    private static final String VALID_HINT = "Fruit / 3";
+    private static final String MULTI_WORD_HINT = "Red fruit / 3";
+    private static final String MISSING_DELIMITER_HINT = "Fruit 3";
+
+    // MODIFIES: runner
+    // EFFECTS: registers the hint validation benchmarks with runner
+    public void register(BenchmarkRunner runner) {
+        Board board = BoardFactory.fromSeed(1);
+        ClueParser parser = new ClueParser();
+        runner.register("model.ClueParser.parse.valid", bh -> {
+            bh.consume(parser.parse(VALID_HINT, board));
+            bh.consume(parser.getCount());
+        });
+        runner.register("model.ClueParser.parse.invalid", bh -> {
+            bh.consume(parser.parse(MULTI_WORD_HINT, board));
+            bh.consume(parser.parse(MISSING_DELIMITER_HINT, board));
+        });
+    }
+}
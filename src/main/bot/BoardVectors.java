@@ -0,0 +1,151 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import model.ClueIndex;
+import model.Team;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+// Represents the vectors of the unrevealed cards of a board that have an embedding, copied onto the heap so that the
+// similarities of many candidate words to every card can be computed without touching the off-heap embeddings again.
+// The cards of one team are held first, so that a search can compare a candidate against that team's agents alone
+// and skip the other cards for candidates that cannot point at any agent.
+class BoardVectors {
+    private final int size;             // Number of cards held
+    private final int agents;           // Number of cards held belonging to the team held first
+    private final int dimensions;       // Length of every vector
+    private final int[] positions;      // 0-based board position of every card held
+    private final int[] rows;           // Embedding row of every card held
+    private final Team[] teams;         // Team of every card held
+    private final float[] vectors;      // Component d of card j at j * dimensions + d
+    private final ClueIndex clues;      // Index of the words of the board's cards
+    private final int revealed;         // Mask of the board's revealed cards, whose words may be given as clues
+
+    // MODIFIES: board
+    // EFFECTS: collects the vectors of board's unrevealed cards, those of team first; cards whose word has no
+    //          embedding are left out
+    BoardVectors(WordEmbeddings embeddings, Board board, Team team) {
+        List<Card> cards = board.getBoard();
+        this.dimensions = embeddings.getDimensions();
+        this.positions = new int[cards.size()];
+        this.rows = new int[cards.size()];
+        this.teams = new Team[cards.size()];
+        int held = hold(embeddings, board, 0, card -> card == team);
+        this.agents = held;
+        this.size = hold(embeddings, board, held, card -> card != team);
+        this.vectors = copyVectors(embeddings);
+        this.clues = board.getClueIndex();
+        this.revealed = board.getBitBoard().getRevealedMask();
+    }
+
+    // REQUIRES: vector.length >= dimensions and out.length >= to
+    // MODIFIES: out
+    // EFFECTS: stores the similarity of vector to card j in out[j], for every card j in [from, to)
+    void similarities(float[] vector, float[] out, int from, int to) {
+        for (int j = from; j < to; j++) {
+            int start = j * dimensions;
+            float sum = 0;
+            for (int d = 0; d < dimensions; d++) {
+                sum += vector[d] * vectors[start + d];
+            }
+            out[j] = sum;
+        }
+    }
+
+    // REQUIRES: panel holds a panel of WordEmbeddings.PANEL_ROWS vectors of length dimensions, laid out component by
+    //           component, and out.length >= to * PANEL_ROWS
+    // MODIFIES: out
+    // EFFECTS: stores the similarity of the panel's r-th vector to card j in out[j * PANEL_ROWS + r], for every card
+    //          j in [from, to); the innermost loop runs over the panel's vectors, so it is unit-stride and vectorised
+    void panelSimilarities(float[] panel, float[] out, int from, int to) {
+        for (int j = from; j < to; j++) {
+            WordEmbeddings.panelDots(panel, vectors, j * dimensions, dimensions, out, j * WordEmbeddings.PANEL_ROWS);
+        }
+    }
+
+    // EFFECTS: returns true if one of the cards held is the word in the given embedding row
+    boolean containsRow(int row) {
+        for (int j = 0; j < size; j++) {
+            if (rows[j] == row) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // EFFECTS: returns true if clue may be given for the board: it is a single word of letters that the board's
+    //          ClueIndex allows (see Board.isLegalClue)
+    boolean isLegalClue(String clue) {
+        return !clue.isEmpty() && clue.chars().allMatch(Character::isLetter) && clues.isLegal(clue, revealed);
+    }
+
+    // EFFECTS: returns the number of cards held
+    int size() {
+        return size;
+    }
+
+    // EFFECTS: returns the number of cards held belonging to the team held first; they are cards [0, getAgents())
+    int getAgents() {
+        return agents;
+    }
+
+    // REQUIRES: 0 <= j < size()
+    // EFFECTS: returns the 0-based board position of card j
+    int getPosition(int j) {
+        return positions[j];
+    }
+
+    // REQUIRES: 0 <= j < size()
+    // EFFECTS: returns the team of card j
+    Team getTeam(int j) {
+        return teams[j];
+    }
+
+    // REQUIRES: 0 <= j < size() and out.length >= dimensions
+    // MODIFIES: out
+    // EFFECTS: copies the vector of card j to the start of out
+    void copyVector(int j, float[] out) {
+        System.arraycopy(vectors, j * dimensions, out, 0, dimensions);
+    }
+
+    // EFFECTS: returns the number of cards held belonging to team
+    int count(Team team) {
+        int count = 0;
+        for (int j = 0; j < size; j++) {
+            if (teams[j] == team) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: holds the unrevealed cards of board with an embedding whose team matches, starting at index held, and
+    //          returns the number of cards then held
+    private int hold(WordEmbeddings embeddings, Board board, int held, Predicate<Team> matches) {
+        List<Card> cards = board.getBoard();
+        for (int i = 0; i < cards.size(); i++) {
+            int row = embeddings.indexOf(cards.get(i).getWord());
+            if (!board.isRevealed(i) && row >= 0 && matches.test(cards.get(i).getTeam())) {
+                positions[held] = i;
+                rows[held] = row;
+                teams[held] = cards.get(i).getTeam();
+                held++;
+            }
+        }
+        return held;
+    }
+
+    // EFFECTS: returns the vectors of the cards held, one after another
+    private float[] copyVectors(WordEmbeddings embeddings) {
+        float[] result = new float[dimensions * size];
+        float[] vector = new float[dimensions];
+        for (int j = 0; j < size; j++) {
+            embeddings.copyVector(rows[j], vector);
+            System.arraycopy(vector, 0, result, j * dimensions, dimensions);
+        }
+        return result;
+    }
+}
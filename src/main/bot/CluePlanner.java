@@ -0,0 +1,230 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import model.Role;
+import model.Spymaster;
+import model.Team;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static model.Team.*;
+
+// Represents a spymaster that plans several turns ahead. A beam search starts from the board as it stands; in every
+// position it tries the best clue for each count, predicts what an OperativeBot would reveal for it using the hidden
+// key the spymaster knows, and keeps the beamWidth most valuable lines of play for the next turn. A line is worth the
+// agents it wins, discounted by DISCOUNT per turn, less the cost of the opponent's agents and assassin it reveals and
+// of the operative's confidence in those cards. The search deepens one turn at a time until its time budget runs out,
+// so it always has an answer. Positions are expanded once: the moves found are kept in a transposition table per
+// board, keyed on the team and the board's revealed mask. The opponent's turns in between are not modelled.
+public class CluePlanner implements SpymasterStrategy {
+    public static final int DEFAULT_DEPTH = 3;                  // Turns planned ahead by default
+    public static final int DEFAULT_BEAM_WIDTH = 4;             // Lines kept per turn by default
+    public static final long DEFAULT_BUDGET_NANOS = TimeUnit.SECONDS.toNanos(1);   // Time per plan by default
+
+    static final float DISCOUNT = 0.8f;         // Worth of a card won one turn later, as the opponent may win first
+    static final float OPPONENT_COST = 1f;      // Cost of revealing an agent of the opponent
+    static final float ASSASSIN_COST = 10f;     // Cost of revealing the assassin, which loses the game
+
+    private final ClueSuggester suggester;      // Finds the best clue for each count in a position
+    private final OperativeBot operative;       // Predicts the guesses made for a clue
+    private final int depth;                    // Most turns planned ahead
+    private final int beamWidth;                // Lines kept per turn
+    private final long budgetNanos;             // Time allowed for a plan
+    private final Map<Board, Map<Long, Move[]>> tables;     // Transposition table of every board still in use
+
+    // EFFECTS: constructs a planner using suggester and operative with the default depth, beam width and budget
+    public CluePlanner(ClueSuggester suggester, OperativeBot operative) {
+        this(suggester, operative, DEFAULT_DEPTH, DEFAULT_BEAM_WIDTH, DEFAULT_BUDGET_NANOS);
+    }
+
+    // REQUIRES: depth > 0, beamWidth > 0 and budgetNanos >= 0
+    // EFFECTS: constructs a planner using suggester and operative that plans up to depth turns ahead, keeping
+    //          beamWidth lines per turn, within budgetNanos per plan
+    public CluePlanner(ClueSuggester suggester, OperativeBot operative, int depth, int beamWidth, long budgetNanos) {
+        this.suggester = suggester;
+        this.operative = operative;
+        this.depth = depth;
+        this.beamWidth = beamWidth;
+        this.budgetNanos = budgetNanos;
+        this.tables = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the first clue of the best plan for team found within the budget, or null if no clue safely
+    //          points at any of its agents; safe to call from many threads at once
+    @Override
+    public ClueSuggestion suggest(Board board, Team team) {
+        long deadline = System.nanoTime() + budgetNanos;
+        Map<Long, Move[]> table = tables.computeIfAbsent(board, b -> new ConcurrentHashMap<>());
+        Line best = null;
+        for (int turns = 1; turns <= depth; turns++) {
+            Line found = search(board, team, table, turns, deadline);
+            if (found == null) {
+                break;
+            }
+            best = found;
+            if (System.nanoTime() - deadline >= 0) {
+                break;
+            }
+        }
+        return best == null ? null : best.first;
+    }
+
+    // EFFECTS: returns the number of positions of board whose moves are in the transposition table
+    int getCachedPositions(Board board) {
+        Map<Long, Move[]> table = tables.get(board);
+        return table == null ? 0 : table.size();
+    }
+
+    // EFFECTS: returns the best line of play for team over the given number of turns, or null if there is no clue to
+    //          give or, when planning more than one turn, the deadline (a System.nanoTime value) passed first
+    private Line search(Board board, Team team, Map<Long, Move[]> table, int turns, long deadline) {
+        List<Line> beam = List.of(new Line(board.getBitBoard().getRevealedMask(), 0, null, false));
+        float weight = 1;
+        for (int turn = 0; turn < turns; turn++) {
+            List<Line> next = new ArrayList<>();
+            for (Line line : beam) {
+                if (line.terminal) {
+                    next.add(line);
+                    continue;
+                }
+                if (turns > 1 && System.nanoTime() - deadline >= 0) {
+                    return null;
+                }
+                for (Move move : expand(board, team, table, line.revealed)) {
+                    next.add(line.then(move, weight));
+                }
+            }
+            beam = prune(next);
+            weight *= DISCOUNT;
+        }
+        return beam.isEmpty() ? null : beam.get(0);
+    }
+
+    // EFFECTS: returns the beamWidth most valuable of lines, best first, keeping only the best line to each position
+    private List<Line> prune(List<Line> lines) {
+        lines.sort(Comparator.comparingDouble((Line line) -> line.value).reversed());
+        Map<Integer, Line> best = new LinkedHashMap<>();
+        for (Line line : lines) {
+            if (best.size() < beamWidth) {
+                best.putIfAbsent(line.revealed, line);
+            }
+        }
+        return new ArrayList<>(best.values());
+    }
+
+    // EFFECTS: returns the moves for team from the position of board with the given cards revealed, from the
+    //          transposition table if they have been found before
+    private Move[] expand(Board board, Team team, Map<Long, Move[]> table, int revealed) {
+        long key = (long) team.ordinal() << Integer.SIZE | (revealed & 0xFFFFFFFFL);
+        Move[] moves = table.get(key);
+        if (moves == null) {
+            Board position = position(board, team, revealed);
+            List<Move> found = new ArrayList<>();
+            for (ClueSuggestion clue : suggester.suggestPerCount(position, team)) {
+                if (clue != null) {
+                    found.add(move(board, position, team, clue, revealed));
+                }
+            }
+            moves = found.toArray(new Move[0]);
+            table.put(key, moves);
+        }
+        return moves;
+    }
+
+    // EFFECTS: returns the move of giving clue to team in position, whose cards are those of board with the given
+    //          cards revealed: the operative's guesses are played out against board's key until one misses
+    private Move move(Board board, Board position, Team team, ClueSuggestion clue, int revealed) {
+        Spymaster spymaster = new Spymaster(team, clue.getClue(), clue.getCount());
+        float value = -risk(board, team, operative.rank(position, spymaster));
+        int own = board.getBitBoard().getTeamMask(team);
+        int after = revealed;
+        for (RankedGuess guess : operative.choose(position, spymaster)) {
+            Team card = board.getBoard().get(guess.getPosition()).getTeam();
+            after |= 1 << guess.getPosition();
+            if (card == team) {
+                value++;
+                if ((own & ~after) == 0) {
+                    return new Move(clue, after, value, true);
+                }
+            } else {
+                value -= card == ASSASSIN ? ASSASSIN_COST : card == NEUTRAL ? 0 : OPPONENT_COST;
+                return new Move(clue, after, value, card == ASSASSIN);
+            }
+        }
+        return new Move(clue, after, value, false);
+    }
+
+    // EFFECTS: returns the expected cost of the operative's first guess for team, given its ranking: its confidence in
+    //          each of the opponent's agents and the assassin, times the cost of revealing that card
+    private static float risk(Board board, Team team, List<RankedGuess> ranking) {
+        float risk = 0;
+        for (RankedGuess guess : ranking) {
+            Team card = board.getBoard().get(guess.getPosition()).getTeam();
+            if (card == ASSASSIN) {
+                risk += guess.getConfidence() * ASSASSIN_COST;
+            } else if (card == team.opponent()) {
+                risk += guess.getConfidence() * OPPONENT_COST;
+            }
+        }
+        return risk;
+    }
+
+    // EFFECTS: returns a copy of board with only the cards in revealed revealed, at team's operative's turn
+    private static Board position(Board board, Team team, int revealed) {
+        Board position = new Board(board.getStartingTeam(), team, Role.OPERATIVE, board.getNumOriginalRedCards(),
+                board.getNumOriginalBlueCards());
+        List<Card> cards = board.getBoard();
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            Team visible = (revealed & 1 << i) != 0 ? card.getTeam() : UNKNOWN;
+            position.addCards(new Card(card.getWord(), card.getTeam(), visible, card.getIndex()));
+        }
+        return position;
+    }
+
+    // Represents giving one clue in a position: the clue, the cards revealed afterwards and what the turn is worth
+    private static class Move {
+        private final ClueSuggestion clue;      // Clue given
+        private final int revealed;             // Cards revealed once the operative has finished guessing
+        private final float value;              // Agents won, less the cost of cards revealed and of the risk taken
+        private final boolean terminal;         // True if the turn ended the game
+
+        private Move(ClueSuggestion clue, int revealed, float value, boolean terminal) {
+            this.clue = clue;
+            this.revealed = revealed;
+            this.value = value;
+            this.terminal = terminal;
+        }
+    }
+
+    // Represents a line of play: the position it reaches, what it is worth and the clue it starts with
+    private static class Line {
+        private final int revealed;             // Cards revealed at the end of the line
+        private final float value;              // Discounted value of every move of the line
+        private final ClueSuggestion first;     // Clue given first, or null for the empty line
+        private final boolean terminal;         // True if the line ends the game
+
+        private Line(int revealed, float value, ClueSuggestion first, boolean terminal) {
+            this.revealed = revealed;
+            this.value = value;
+            this.first = first;
+            this.terminal = terminal;
+        }
+
+        // EFFECTS: returns this line followed by move, whose value counts weight times
+        private Line then(Move move, float weight) {
+            return new Line(move.revealed, value + weight * move.value, first == null ? move.clue : first,
+                    move.terminal);
+        }
+    }
+}
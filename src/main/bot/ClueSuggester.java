@@ -0,0 +1,312 @@
+package bot;
+
+import model.Board;
+import model.Team;
+
+import java.util.Arrays;
+
+import static model.Team.*;
+
+// Represents an automated spymaster that proposes a clue and a count for a board. Every word in the embeddings is a
+// candidate clue; a candidate may be given for the team's unrevealed cards that it is more similar to than to any
+// other unrevealed card, with extra margins kept from the assassin and the opponent's agents. Of those candidates,
+// the one that points at the most cards wins, ties going to the one with the widest margin.
+public class ClueSuggester implements SpymasterStrategy {
+    public static final int DEFAULT_MAX_COUNT = 4;  // Most agents a clue is given for by default
+
+    static final float MIN_SIMILARITY = 0.2f;       // Least similarity for a card to count as pointed at
+    static final float ASSASSIN_MARGIN = 0.1f;      // Extra similarity a target must have over the assassin
+    static final float OPPONENT_MARGIN = 0.05f;     // Extra similarity a target must have over an opponent's agent
+    static final float NEUTRAL_MARGIN = 0f;         // Extra similarity a target must have over a bystander
+
+    private final WordEmbeddings embeddings;    // Vectors of every board word and candidate clue
+    private final IvfIndex index;               // Index narrowing down the candidate clues, or null to try every word
+    private final int maxCount;                 // Most agents a clue is given for
+
+    // EFFECTS: constructs a suggester choosing clues from embeddings for up to DEFAULT_MAX_COUNT agents
+    public ClueSuggester(WordEmbeddings embeddings) {
+        this(embeddings, null, DEFAULT_MAX_COUNT);
+    }
+
+    // REQUIRES: maxCount > 0
+    // EFFECTS: constructs a suggester choosing clues from embeddings for up to maxCount agents
+    public ClueSuggester(WordEmbeddings embeddings, int maxCount) {
+        this(embeddings, null, maxCount);
+    }
+
+    // REQUIRES: index was built over embeddings
+    // EFFECTS: constructs a suggester choosing clues for up to DEFAULT_MAX_COUNT agents from the words of embeddings
+    //          that index finds near the agents
+    public ClueSuggester(WordEmbeddings embeddings, IvfIndex index) {
+        this(embeddings, index, DEFAULT_MAX_COUNT);
+    }
+
+    // REQUIRES: index is null or was built over embeddings, and maxCount > 0
+    // EFFECTS: constructs a suggester choosing clues for up to maxCount agents from the words of embeddings that
+    //          index finds near the agents, or from every word if index is null
+    public ClueSuggester(WordEmbeddings embeddings, IvfIndex index, int maxCount) {
+        this.embeddings = embeddings;
+        this.index = index;
+        this.maxCount = maxCount;
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the best clue for team on board, or null if no candidate safely points at any of its agents;
+    //          safe to call from many threads at once
+    @Override
+    public ClueSuggestion suggest(Board board, Team team) {
+        BoardVectors cards = new BoardVectors(embeddings, board, team);
+        int[] candidates = index == null ? null : index.candidates(cards, IvfIndex.DEFAULT_PROBES);
+        return suggest(cards, team, candidates);
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the best clue for team on board for every count: element c - 1 is the best clue for exactly c
+    //          agents, or null if no candidate safely points at c of them; safe to call from many threads at once
+    public ClueSuggestion[] suggestPerCount(Board board, Team team) {
+        BoardVectors cards = new BoardVectors(embeddings, board, team);
+        int[] candidates = index == null ? null : index.candidates(cards, IvfIndex.DEFAULT_PROBES);
+        Search search = search(cards, team, candidates, true);
+        ClueSuggestion[] suggestions = new ClueSuggestion[maxCount];
+        for (int count = 1; count <= maxCount; count++) {
+            suggestions[count - 1] = suggestion(search, search.bestRows[count]);
+        }
+        return suggestions;
+    }
+
+    // REQUIRES: team is RED or BLUE, cards holds team's agents first, and every element of candidates is a row of the
+    //           embeddings
+    // EFFECTS: returns the best clue for team out of the words in the given rows (every word if candidates is null)
+    ClueSuggestion suggest(BoardVectors cards, Team team, int[] candidates) {
+        Search search = search(cards, team, candidates, false);
+        return suggestion(search, search.bestRows[0]);
+    }
+
+    // REQUIRES: as for suggest
+    // EFFECTS: returns the finished search for the best clue for team out of the words in the given rows (every word
+    //          if candidates is null), keeping the best clue for every count if perCount
+    private Search search(BoardVectors cards, Team team, int[] candidates, boolean perCount) {
+        Search search = new Search(cards, team, perCount);
+        if (candidates == null) {
+            scanPanels(search);
+        } else {
+            scanRows(search, candidates);
+        }
+        return search;
+    }
+
+    // MODIFIES: search
+    // EFFECTS: considers every word of the embeddings as a clue, a panel at a time
+    private void scanPanels(Search search) {
+        int width = WordEmbeddings.PANEL_ROWS;
+        float[] panel = new float[width * embeddings.getDimensions()];
+        float[] panelSimilarities = new float[width * search.cards.size()];
+        for (int p = 0; p < embeddings.getPanels(); p++) {
+            embeddings.copyPanel(p, panel);
+            search.cards.panelSimilarities(panel, panelSimilarities, 0, search.cards.getAgents());
+            int rows = Math.min(width, embeddings.size() - p * width);
+            for (int r = 0; r < rows; r++) {
+                if (canImprove(search, panelSimilarities, width, r)) {
+                    scanPanelRow(search, panel, panelSimilarities, r);
+                    consider(search, p * width + r);
+                }
+            }
+        }
+    }
+
+    // MODIFIES: search
+    // EFFECTS: returns true if a word whose similarity to agent j of the team the clue is for is
+    //          similarities[j * stride + r] might score higher than the best clue so far (for its count, if the search
+    //          keeps one per count); as a clue for c agents, its margin is at most half the amount by which its c-th
+    //          most similar agent exceeds MIN_SIMILARITY
+    private boolean canImprove(Search search, float[] similarities, int stride, int r) {
+        int above = 0;
+        for (int j = 0; j < search.cards.getAgents(); j++) {
+            float similarity = similarities[j * stride + r];
+            if (similarity > MIN_SIMILARITY) {
+                above = insert(search.top, above, similarity);
+            }
+        }
+        for (int count = 1; count <= above; count++) {
+            float bound = count + (search.top[count - 1] - MIN_SIMILARITY) / 2;
+            if (bound > search.bestScores[search.perCount ? count : 0]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // REQUIRES: top holds n values in descending order
+    // MODIFIES: top
+    // EFFECTS: inserts value among the values in top, keeping them in descending order and dropping the smallest if
+    //          top is full, and returns the number of values top then holds
+    private static int insert(float[] top, int n, float value) {
+        int i = Math.min(n, top.length - 1);
+        if (n == top.length && value <= top[i]) {
+            return n;
+        }
+        while (i > 0 && top[i - 1] < value) {
+            top[i] = top[i - 1];
+            i--;
+        }
+        top[i] = value;
+        return Math.min(n + 1, top.length);
+    }
+
+    // MODIFIES: search
+    // EFFECTS: stores the similarities of the r-th word of panel to every card in search: those to the agents are
+    //          already in panelSimilarities, those to the other cards are computed from the word's vector
+    private void scanPanelRow(Search search, float[] panel, float[] panelSimilarities, int r) {
+        int width = WordEmbeddings.PANEL_ROWS;
+        int agents = search.cards.getAgents();
+        for (int j = 0; j < agents; j++) {
+            search.similarities[j] = panelSimilarities[j * width + r];
+        }
+        for (int d = 0; d < search.vector.length; d++) {
+            search.vector[d] = panel[d * width + r];
+        }
+        search.cards.similarities(search.vector, search.similarities, agents, search.cards.size());
+    }
+
+    // MODIFIES: search
+    // EFFECTS: considers the words in the given rows of the embeddings as clues
+    private void scanRows(Search search, int[] candidates) {
+        BoardVectors cards = search.cards;
+        for (int row : candidates) {
+            embeddings.copyVector(row, search.vector);
+            cards.similarities(search.vector, search.similarities, 0, cards.getAgents());
+            if (canImprove(search, search.similarities, 1, 0)) {
+                cards.similarities(search.vector, search.similarities, cards.getAgents(), cards.size());
+                consider(search, row);
+            }
+        }
+    }
+
+    // MODIFIES: search
+    // EFFECTS: makes the word in the given row, whose similarities to the cards are in search, the best clue so far
+    //          (for its count, if the search keeps one per count) if it is legal and scores higher
+    private void consider(Search search, int row) {
+        float score = score(search.cards, search.team, search.similarities);
+        if (score == Float.NEGATIVE_INFINITY) {
+            return;
+        }
+        int bucket = search.perCount ? (int) score : 0;
+        if (score > search.bestScores[bucket] && !search.cards.containsRow(row)
+                && search.cards.isLegalClue(embeddings.getWord(row))) {
+            search.bestScores[bucket] = score;
+            search.bestRows[bucket] = row;
+        }
+    }
+
+    // EFFECTS: returns how good a clue with the given similarities to the cards is for team: the number of agents
+    //          it points at, plus up to one half for the margin by which the last of them is pointed at; returns
+    //          negative infinity if it points at no agent
+    private float score(BoardVectors cards, Team team, float[] similarities) {
+        float threshold = threshold(cards, team, similarities);
+        int count = countAbove(cards, team, similarities, threshold);
+        if (count == 0) {
+            return Float.NEGATIVE_INFINITY;
+        }
+        count = Math.min(count, maxCount);
+        return count + (kthLargest(cards, team, similarities, threshold, count) - threshold) / 2;
+    }
+
+    // EFFECTS: returns the similarity an agent of team must exceed to be pointed at: at least MIN_SIMILARITY, and
+    //          more than every other card by that card's margin
+    private static float threshold(BoardVectors cards, Team team, float[] similarities) {
+        float threshold = MIN_SIMILARITY;
+        for (int j = 0; j < cards.size(); j++) {
+            Team card = cards.getTeam(j);
+            if (card != team) {
+                threshold = Math.max(threshold, similarities[j] + marginOf(card));
+            }
+        }
+        return threshold;
+    }
+
+    // EFFECTS: returns the margin a target must keep from a card of the given (non-guessing) team
+    private static float marginOf(Team card) {
+        if (card == ASSASSIN) {
+            return ASSASSIN_MARGIN;
+        } else if (card == NEUTRAL) {
+            return NEUTRAL_MARGIN;
+        }
+        return OPPONENT_MARGIN;
+    }
+
+    // EFFECTS: returns the number of agents of team whose similarity exceeds threshold
+    private static int countAbove(BoardVectors cards, Team team, float[] similarities, float threshold) {
+        int count = 0;
+        for (int j = 0; j < cards.size(); j++) {
+            if (cards.getTeam(j) == team && similarities[j] > threshold) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // REQUIRES: at least k agents of team have a similarity above threshold
+    // EFFECTS: returns the k-th largest similarity of an agent of team: the largest similarity reached by at least k
+    //          agents
+    private static float kthLargest(BoardVectors cards, Team team, float[] similarities, float threshold, int k) {
+        float kth = threshold;
+        for (int j = 0; j < cards.size(); j++) {
+            if (cards.getTeam(j) == team && similarities[j] > kth
+                    && countAbove(cards, team, similarities, Math.nextDown(similarities[j])) >= k) {
+                kth = similarities[j];
+            }
+        }
+        return kth;
+    }
+
+    // EFFECTS: returns the suggestion of the word in the given row for the search's team, or null if row is -1
+    private ClueSuggestion suggestion(Search search, int row) {
+        if (row < 0) {
+            return null;
+        }
+        embeddings.copyVector(row, search.vector);
+        search.cards.similarities(search.vector, search.similarities, 0, search.cards.size());
+        return suggestion(search.cards, search.team, row, search.similarities);
+    }
+
+    // EFFECTS: returns the suggestion for team of the word in the given row, whose similarities to the cards are
+    //          given
+    private ClueSuggestion suggestion(BoardVectors cards, Team team, int row, float[] similarities) {
+        float threshold = threshold(cards, team, similarities);
+        int count = Math.min(countAbove(cards, team, similarities, threshold), maxCount);
+        float kth = kthLargest(cards, team, similarities, threshold, count);
+
+        int targets = 0;
+        for (int j = 0; j < cards.size(); j++) {
+            if (cards.getTeam(j) == team && similarities[j] >= kth && Integer.bitCount(targets) < count) {
+                targets |= 1 << cards.getPosition(j);
+            }
+        }
+        return new ClueSuggestion(embeddings.getWord(row), count, targets, score(cards, team, similarities));
+    }
+
+    // Represents the state of one search for a clue, so that searches on different threads share nothing
+    private class Search {
+        private final BoardVectors cards;       // Cards the clue is for
+        private final Team team;                // Team the clue is for
+        private final boolean perCount;         // True if the best clue for every count is kept
+        private final float[] vector;           // Vector of the candidate being considered
+        private final float[] similarities;     // Similarity of the candidate being considered to every card
+        private final float[] top;              // Largest similarities of the candidate to an agent, in order
+        private final float[] bestScores;       // Score of the best clue so far for every count, or overall at 0
+        private final int[] bestRows;           // Row of the best clue so far for every count, or -1 if there is none
+
+        private Search(BoardVectors cards, Team team, boolean perCount) {
+            this.cards = cards;
+            this.team = team;
+            this.perCount = perCount;
+            this.vector = new float[embeddings.getDimensions()];
+            this.similarities = new float[cards.size()];
+            this.top = new float[maxCount];
+            this.bestScores = new float[maxCount + 1];
+            this.bestRows = new int[maxCount + 1];
+            Arrays.fill(bestScores, Float.NEGATIVE_INFINITY);
+            Arrays.fill(bestRows, -1);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package bot;
+
+// Represents a clue proposed for a spymaster: the clue word, the number of agents it is for, which cards it is meant
+// to point at and how good it is judged to be
+public class ClueSuggestion {
+    private final String clue;      // Word to give as the clue
+    private final int count;        // Number of agents the clue is for
+    private final int targets;      // Bit i is set if the clue is meant to point at the card in position i
+    private final float score;      // Higher is better; only comparable between suggestions for the same board
+
+    // EFFECTS: constructs a suggestion of clue for count agents, meant to point at the cards in targets
+    public ClueSuggestion(String clue, int count, int targets, float score) {
+        this.clue = clue;
+        this.count = count;
+        this.targets = targets;
+        this.score = score;
+    }
+
+    // EFFECTS: returns the word to give as the clue
+    public String getClue() {
+        return clue;
+    }
+
+    // EFFECTS: returns the number of agents the clue is for
+    public int getCount() {
+        return count;
+    }
+
+    // EFFECTS: returns the mask of the 0-based positions of the cards the clue is meant to point at
+    public int getTargets() {
+        return targets;
+    }
+
+    // EFFECTS: returns how good the suggestion is judged to be
+    public float getScore() {
+        return score;
+    }
+
+    @Override
+    public String toString() {
+        return clue + " / " + count;
+    }
+}
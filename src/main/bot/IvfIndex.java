@@ -0,0 +1,366 @@
+package bot;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Represents an inverted-file (IVF) index over the words of a WordEmbeddings, for approximate nearest-neighbour
+// search. The words are clustered by spherical k-means into lists around unit centroids, and a query only looks at
+// the words of the few lists whose centroids are most similar to it. The index never changes once built or loaded, so
+// any number of threads may query it at once. Saved files are, in big-endian order:
+//  int    MAGIC
+//  byte   VERSION
+//  int    number of words, int dimensions, int number of lists, n
+//  n * dimensions *    float component d of centroid c, at d * n + c
+//  n + 1 *             int start of every list in the rows, then the number of words
+//  words *             int row of every word, list by list
+public class IvfIndex {
+    public static final int MAGIC = 0x434E4956;     // "CNIV": CodeNames IVf index
+    public static final byte VERSION = 1;           // Version of the format written
+    public static final int DEFAULT_PROBES = 4;     // Lists searched per query vector by default
+
+    static final int ITERATIONS = 8;                // Rounds of k-means while building
+    static final int TRAINING_ROWS_PER_LIST = 32;   // Words sampled per list to train the centroids on
+
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + 3 * Integer.BYTES;
+
+    private final int size;             // Number of words indexed
+    private final int dimensions;       // Length of every vector
+    private final int lists;            // Number of lists
+    private final float[] centroids;    // Component d of centroid c at d * lists + c
+    private final int[] starts;         // Start of list c in rows at starts[c]; starts[lists] == size
+    private final int[] rows;           // Embedding row of every word, list by list
+
+    // REQUIRES: the arrays describe an index of size words in lists lists, as laid out in the file format
+    // EFFECTS: constructs an index from its parts
+    private IvfIndex(int size, int dimensions, int lists, float[] centroids, int[] starts, int[] rows) {
+        this.size = size;
+        this.dimensions = dimensions;
+        this.lists = lists;
+        this.centroids = centroids;
+        this.starts = starts;
+        this.rows = rows;
+    }
+
+    // EFFECTS: builds an index of embeddings with about the square root of its size lists, sampling with seed
+    public static IvfIndex build(WordEmbeddings embeddings, long seed) {
+        int lists = (int) Math.max(1, Math.round(Math.sqrt(embeddings.size())));
+        return build(embeddings, lists, seed);
+    }
+
+    // REQUIRES: 0 < lists <= embeddings.size()
+    // EFFECTS: builds an index of embeddings with the given number of lists, training the centroids on a sample of
+    //          TRAINING_ROWS_PER_LIST words per list drawn with seed
+    public static IvfIndex build(WordEmbeddings embeddings, int lists, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        float[][] sample = sample(embeddings, Math.min(embeddings.size(), lists * TRAINING_ROWS_PER_LIST), random);
+        float[] centroids = train(sample, lists, random);
+
+        int[] assignment = new int[embeddings.size()];
+        float[] vector = new float[embeddings.getDimensions()];
+        float[] scores = new float[lists];
+        for (int row = 0; row < assignment.length; row++) {
+            embeddings.copyVector(row, vector);
+            assignment[row] = nearest(centroids, lists, vector, scores);
+        }
+        return group(embeddings, lists, centroids, assignment);
+    }
+
+    // EFFECTS: loads the index of embeddings saved in source
+    //          throws IOException if source cannot be read, is not an index, was built over other embeddings, or its
+    //          number of lists, length or lists are corrupt; nothing is allocated before the length is checked
+    public static IvfIndex load(String source, WordEmbeddings embeddings) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(Paths.get(source)));
+        try {
+            if (in.getInt() != MAGIC || in.get() != VERSION) {
+                throw new IOException(source + " is not an index of version " + VERSION);
+            }
+            int size = in.getInt();
+            int dimensions = in.getInt();
+            int lists = in.getInt();
+            if (size != embeddings.size() || dimensions != embeddings.getDimensions()) {
+                throw new IOException(source + " indexes other embeddings");
+            }
+            if (lists <= 0 || lists > size
+                    || in.remaining() != ((long) lists * dimensions + lists + 1 + size) * Integer.BYTES) {
+                throw new IOException(source + " is corrupt");
+            }
+            float[] centroids = new float[lists * dimensions];
+            int[] starts = new int[lists + 1];
+            int[] rows = new int[size];
+            in.asFloatBuffer().get(centroids);
+            in.position(in.position() + centroids.length * Float.BYTES);
+            in.asIntBuffer().get(starts).get(rows);
+            if (!isValid(starts, rows)) {
+                throw new IOException(source + " is corrupt");
+            }
+            return new IvfIndex(size, dimensions, lists, centroids, starts, rows);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(source + " is truncated", e);
+        }
+    }
+
+    // EFFECTS: loads the index of embeddings saved in file if there is a valid one, otherwise builds one with seed
+    //          and saves it to file for the next start
+    //          throws IOException if a built index cannot be saved
+    public static IvfIndex loadOrBuild(String file, WordEmbeddings embeddings, long seed) throws IOException {
+        if (Files.exists(Paths.get(file))) {
+            try {
+                return load(file, embeddings);
+            } catch (IOException e) {
+                // Stale or damaged: rebuild it below
+            }
+        }
+        IvfIndex index = build(embeddings, seed);
+        index.save(file);
+        return index;
+    }
+
+    // EFFECTS: saves this index to destination, atomically replacing anything already there
+    //          throws IOException if the file cannot be written
+    public void save(String destination) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES
+                + (centroids.length + starts.length + rows.length) * Integer.BYTES);
+        out.putInt(MAGIC).put(VERSION).putInt(size).putInt(dimensions).putInt(lists);
+        out.asFloatBuffer().put(centroids);
+        out.position(out.position() + centroids.length * Float.BYTES);
+        out.asIntBuffer().put(starts).put(rows);
+
+        Path target = Paths.get(destination);
+        Path temp = Paths.get(destination + ".tmp");
+        Files.write(temp, out.array());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    // REQUIRES: query.length >= getDimensions() and probes > 0
+    // EFFECTS: returns the rows of the words in the probes lists whose centroids are most similar to query, list by
+    //          list
+    public int[] search(float[] query, int probes) {
+        boolean[] probed = new boolean[lists];
+        probe(query, probes, probed, new float[lists]);
+        return rowsOf(probed);
+    }
+
+    // REQUIRES: probes > 0
+    // EFFECTS: returns the rows of the candidate clues for the agents held first by cards: the words of the probes
+    //          lists nearest to each of those agents
+    int[] candidates(BoardVectors cards, int probes) {
+        boolean[] probed = new boolean[lists];
+        float[] vector = new float[dimensions];
+        float[] scores = new float[lists];
+        for (int j = 0; j < cards.getAgents(); j++) {
+            cards.copyVector(j, vector);
+            probe(vector, probes, probed, scores);
+        }
+        return rowsOf(probed);
+    }
+
+    // EFFECTS: returns the number of words indexed
+    public int size() {
+        return size;
+    }
+
+    // EFFECTS: returns the length of every vector
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    // EFFECTS: returns the number of lists
+    public int getLists() {
+        return lists;
+    }
+
+    // REQUIRES: 0 <= c < getLists()
+    // EFFECTS: returns the number of words in list c
+    public int getListSize(int c) {
+        return starts[c + 1] - starts[c];
+    }
+
+    // MODIFIES: probed, scores
+    // EFFECTS: marks in probed the probes lists whose centroids are most similar to vector
+    private void probe(float[] vector, int probes, boolean[] probed, float[] scores) {
+        similarities(centroids, lists, vector, scores);
+        for (int i = 0; i < Math.min(probes, lists); i++) {
+            int best = 0;
+            for (int c = 1; c < lists; c++) {
+                if (scores[c] > scores[best]) {
+                    best = c;
+                }
+            }
+            probed[best] = true;
+            scores[best] = Float.NEGATIVE_INFINITY;
+        }
+    }
+
+    // EFFECTS: returns the rows of the words in the lists marked in probed, list by list
+    private int[] rowsOf(boolean[] probed) {
+        int count = 0;
+        for (int c = 0; c < lists; c++) {
+            count += probed[c] ? getListSize(c) : 0;
+        }
+        int[] result = new int[count];
+        int next = 0;
+        for (int c = 0; c < lists; c++) {
+            if (probed[c]) {
+                System.arraycopy(rows, starts[c], result, next, getListSize(c));
+                next += getListSize(c);
+            }
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the vectors of count distinct words of embeddings chosen at random
+    private static float[][] sample(WordEmbeddings embeddings, int count, SplittableRandom random) {
+        int[] order = new int[embeddings.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        float[][] sample = new float[count][embeddings.getDimensions()];
+        for (int i = 0; i < count; i++) {
+            int pick = i + random.nextInt(order.length - i);
+            int row = order[pick];
+            order[pick] = order[i];
+            order[i] = row;
+            embeddings.copyVector(row, sample[i]);
+        }
+        return sample;
+    }
+
+    // REQUIRES: 0 < lists <= sample.length
+    // EFFECTS: returns the centroids of lists clusters of sample found by spherical k-means, starting from its first
+    //          lists vectors, laid out as in the index
+    private static float[] train(float[][] sample, int lists, SplittableRandom random) {
+        int dimensions = sample[0].length;
+        float[] centroids = new float[lists * dimensions];
+        for (int c = 0; c < lists; c++) {
+            setCentroid(centroids, lists, c, sample[c]);
+        }
+
+        int[] assignment = new int[sample.length];
+        float[] scores = new float[lists];
+        for (int round = 0; round < ITERATIONS; round++) {
+            for (int i = 0; i < sample.length; i++) {
+                assignment[i] = nearest(centroids, lists, sample[i], scores);
+            }
+            update(sample, assignment, centroids, lists, random);
+        }
+        return centroids;
+    }
+
+    // MODIFIES: centroids
+    // EFFECTS: moves every centroid to the normalised mean of the sample vectors assigned to it; a centroid with
+    //          none is moved onto a sample vector chosen at random
+    private static void update(float[][] sample, int[] assignment, float[] centroids, int lists,
+                               SplittableRandom random) {
+        int dimensions = sample[0].length;
+        int[] members = new int[lists];
+        Arrays.fill(centroids, 0f);
+        for (int i = 0; i < sample.length; i++) {
+            int c = assignment[i];
+            members[c]++;
+            for (int d = 0; d < dimensions; d++) {
+                centroids[d * lists + c] += sample[i][d];
+            }
+        }
+        for (int c = 0; c < lists; c++) {
+            if (members[c] == 0) {
+                setCentroid(centroids, lists, c, sample[random.nextInt(sample.length)]);
+            } else {
+                normaliseCentroid(centroids, lists, c, dimensions);
+            }
+        }
+    }
+
+    // MODIFIES: centroids
+    // EFFECTS: makes vector centroid c
+    private static void setCentroid(float[] centroids, int lists, int c, float[] vector) {
+        for (int d = 0; d < vector.length; d++) {
+            centroids[d * lists + c] = vector[d];
+        }
+    }
+
+    // MODIFIES: centroids
+    // EFFECTS: scales centroid c to unit length, unless it is all zero
+    private static void normaliseCentroid(float[] centroids, int lists, int c, int dimensions) {
+        double sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            sum += centroids[d * lists + c] * centroids[d * lists + c];
+        }
+        if (sum > 0) {
+            float scale = (float) (1 / Math.sqrt(sum));
+            for (int d = 0; d < dimensions; d++) {
+                centroids[d * lists + c] *= scale;
+            }
+        }
+    }
+
+    // MODIFIES: scores
+    // EFFECTS: returns the centroid most similar to vector, leaving the similarity to every centroid in scores
+    private static int nearest(float[] centroids, int lists, float[] vector, float[] scores) {
+        similarities(centroids, lists, vector, scores);
+        int best = 0;
+        for (int c = 1; c < lists; c++) {
+            if (scores[c] > scores[best]) {
+                best = c;
+            }
+        }
+        return best;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: stores the similarity of vector to centroid c in out[c], for every centroid; the innermost loop runs
+    //          over the centroids, so it is unit-stride and vectorised
+    private static void similarities(float[] centroids, int lists, float[] vector, float[] out) {
+        Arrays.fill(out, 0, lists, 0f);
+        int dimensions = centroids.length / lists;
+        for (int d = 0; d < dimensions; d++) {
+            float x = vector[d];
+            int offset = d * lists;
+            for (int c = 0; c < lists; c++) {
+                out[c] += x * centroids[offset + c];
+            }
+        }
+    }
+
+    // EFFECTS: returns the index of embeddings whose words are in the lists given by assignment
+    private static IvfIndex group(WordEmbeddings embeddings, int lists, float[] centroids, int[] assignment) {
+        int[] starts = new int[lists + 1];
+        for (int c : assignment) {
+            starts[c + 1]++;
+        }
+        for (int c = 0; c < lists; c++) {
+            starts[c + 1] += starts[c];
+        }
+        int[] next = Arrays.copyOf(starts, lists);
+        int[] rows = new int[assignment.length];
+        for (int row = 0; row < assignment.length; row++) {
+            rows[next[assignment[row]]++] = row;
+        }
+        return new IvfIndex(embeddings.size(), embeddings.getDimensions(), lists, centroids, starts, rows);
+    }
+
+    // EFFECTS: returns true if starts begins at 0, never decreases and ends at rows.length, and every element of rows
+    //          is a row in [0, rows.length)
+    private static boolean isValid(int[] starts, int[] rows) {
+        if (starts[0] != 0 || starts[starts.length - 1] != rows.length) {
+            return false;
+        }
+        for (int c = 1; c < starts.length; c++) {
+            if (starts[c] < starts[c - 1]) {
+                return false;
+            }
+        }
+        for (int row : rows) {
+            if (row < 0 || row >= rows.length) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
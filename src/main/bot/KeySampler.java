@@ -0,0 +1,172 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import model.Team;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static model.Team.*;
+
+// Represents what an operative can know about the hidden key of a board: the teams of the revealed cards and how
+// many cards of each team were dealt. It samples hidden keys uniformly from those consistent with that knowledge and
+// plays guess sequences against them to estimate their value and risk. A key is a single long: bit i is set if card
+// i is RED, bit BLUE_SHIFT + i if it is BLUE, the bits from ASSASSIN_SHIFT hold the assassin's position, and every
+// other card is NEUTRAL. The sampler never changes once constructed, so it may be used from many threads at once.
+public class KeySampler {
+    public static final int MAX_CARDS = 25;         // Most cards on a board whose keys fit in a long
+    public static final int DEFAULT_SAMPLES = 4096; // Keys sampled per evaluation by default
+
+    static final int BLUE_SHIFT = MAX_CARDS;            // First bit of the BLUE mask in a key
+    static final int ASSASSIN_SHIFT = 2 * MAX_CARDS;    // First bit of the assassin's position in a key
+    static final int SAMPLES_PER_TASK = 512;            // Keys a parallel task samples and evaluates itself
+
+    private static final long CARDS_MASK = (1L << MAX_CARDS) - 1;
+
+    private final int size;             // Number of cards on the board
+    private final long known;           // Key bits of the revealed RED and BLUE cards
+    private final int knownAssassin;    // Position of the revealed assassin, or -1 if it is hidden
+    private final int[] hidden;         // Positions of the unrevealed cards
+    private final int redLeft;          // Unrevealed RED cards
+    private final int blueLeft;         // Unrevealed BLUE cards
+
+    // REQUIRES: board has at most MAX_CARDS cards and exactly one assassin
+    // EFFECTS: constructs a sampler of the keys of board consistent with its revealed cards and the number of RED
+    //          and BLUE cards dealt
+    public KeySampler(Board board) {
+        List<Card> cards = board.getBoard();
+        this.size = cards.size();
+        this.hidden = IntStream.range(0, size).filter(i -> !board.isRevealed(i)).toArray();
+        long revealed = 0;
+        int assassin = -1;
+        for (int i = 0; i < size; i++) {
+            Team team = board.isRevealed(i) ? cards.get(i).getVisibleTeam() : UNKNOWN;
+            revealed |= team == RED ? 1L << i : team == BLUE ? 1L << (BLUE_SHIFT + i) : 0;
+            assassin = team == ASSASSIN ? i : assassin;
+        }
+        this.known = revealed;
+        this.knownAssassin = assassin;
+        this.redLeft = board.getNumOriginalRedCards() - Long.bitCount(revealed & CARDS_MASK);
+        this.blueLeft = board.getNumOriginalBlueCards() - Long.bitCount(revealed >>> BLUE_SHIFT);
+    }
+
+    // EFFECTS: returns a key drawn uniformly from those consistent with the board
+    public long sample(SplittableRandom random) {
+        return sample(random, hidden.clone());
+    }
+
+    // REQUIRES: team is RED or BLUE, every sequence holds distinct unrevealed positions, and samples > 0
+    // EFFECTS: plays every sequence of guesses for team against the same samples keys drawn with seed, in parallel,
+    //          and returns the estimate of each; the results depend only on seed, not on how the work was split
+    public RiskEstimate[] evaluate(Team team, int[][] sequences, int samples, long seed) {
+        int tasks = (samples + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK;
+        long[] tally = IntStream.range(0, tasks).parallel()
+                .mapToObj(task -> tally(team, sequences, task,
+                        Math.min(SAMPLES_PER_TASK, samples - task * SAMPLES_PER_TASK), seed))
+                .reduce(new long[3 * sequences.length], KeySampler::add);
+
+        int penalty = team == RED ? redLeft : blueLeft;
+        RiskEstimate[] estimates = new RiskEstimate[sequences.length];
+        for (int s = 0; s < sequences.length; s++) {
+            estimates[s] = new RiskEstimate(samples, tally[3 * s], tally[3 * s + 1], tally[3 * s + 2], penalty);
+        }
+        return estimates;
+    }
+
+    // REQUIRES: maxLength >= 0
+    // EFFECTS: returns the sequences made of the first 1, 2, ... maxLength guesses of ranking (fewer if the ranking
+    //          is shorter), the candidates an operative chooses between when deciding how far to go
+    public static int[][] prefixes(List<RankedGuess> ranking, int maxLength) {
+        int count = Math.min(maxLength, ranking.size());
+        int[][] sequences = new int[count][];
+        for (int s = 0; s < count; s++) {
+            sequences[s] = new int[s + 1];
+            for (int g = 0; g <= s; g++) {
+                sequences[s][g] = ranking.get(g).getPosition();
+            }
+        }
+        return sequences;
+    }
+
+    // REQUIRES: 0 <= position < MAX_CARDS
+    // EFFECTS: returns the team of the card in position according to key
+    public static Team teamOf(long key, int position) {
+        if ((key >>> ASSASSIN_SHIFT) == position) {
+            return ASSASSIN;
+        } else if ((key & 1L << position) != 0) {
+            return RED;
+        } else if ((key & 1L << (BLUE_SHIFT + position)) != 0) {
+            return BLUE;
+        }
+        return NEUTRAL;
+    }
+
+    // MODIFIES: positions
+    // EFFECTS: returns a random consistent key, shuffling the first cards of positions (a copy of hidden) to choose
+    //          which unrevealed cards are RED, which are BLUE and which one is the assassin
+    private long sample(SplittableRandom random, int[] positions) {
+        int draws = redLeft + blueLeft + (knownAssassin < 0 ? 1 : 0);
+        for (int i = 0; i < draws; i++) {
+            int pick = i + random.nextInt(positions.length - i);
+            int position = positions[pick];
+            positions[pick] = positions[i];
+            positions[i] = position;
+        }
+
+        long key = known;
+        for (int i = 0; i < redLeft; i++) {
+            key |= 1L << positions[i];
+        }
+        for (int i = redLeft; i < redLeft + blueLeft; i++) {
+            key |= 1L << (BLUE_SHIFT + positions[i]);
+        }
+        int assassin = knownAssassin < 0 ? positions[draws - 1] : knownAssassin;
+        return key | (long) assassin << ASSASSIN_SHIFT;
+    }
+
+    // EFFECTS: returns, for every sequence s, the agents found, opponents' agents revealed and assassins revealed
+    //          over count keys drawn for the given task, at tally[3s], tally[3s + 1] and tally[3s + 2]
+    private long[] tally(Team team, int[][] sequences, int task, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed + task * (long) SAMPLES_PER_TASK);
+        int[] positions = hidden.clone();
+        long[] tally = new long[3 * sequences.length];
+        for (int k = 0; k < count; k++) {
+            long key = sample(random, positions);
+            int own = (int) (team == RED ? key & CARDS_MASK : key >>> BLUE_SHIFT & CARDS_MASK);
+            int opponent = (int) (team == RED ? key >>> BLUE_SHIFT & CARDS_MASK : key & CARDS_MASK);
+            int assassin = 1 << (key >>> ASSASSIN_SHIFT);
+            for (int s = 0; s < sequences.length; s++) {
+                play(sequences[s], own, opponent, assassin, tally, 3 * s);
+            }
+        }
+        return tally;
+    }
+
+    // MODIFIES: tally
+    // EFFECTS: reveals the cards of sequence in order until one is not in own, adding the number of own agents
+    //          found to tally[at], and one to tally[at + 1] if the turn ended on opponent or tally[at + 2] if it
+    //          ended on the assassin
+    private static void play(int[] sequence, int own, int opponent, int assassin, long[] tally, int at) {
+        for (int position : sequence) {
+            int card = 1 << position;
+            if ((own & card) != 0) {
+                tally[at]++;
+            } else {
+                tally[at + 1] += (opponent & card) != 0 ? 1 : 0;
+                tally[at + 2] += (assassin & card) != 0 ? 1 : 0;
+                return;
+            }
+        }
+    }
+
+    // EFFECTS: returns the element-wise sum of a and b
+    private static long[] add(long[] a, long[] b) {
+        long[] sum = new long[a.length];
+        for (int i = 0; i < a.length; i++) {
+            sum[i] = a[i] + b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,142 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import model.GameEngine;
+import model.Spymaster;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Represents an automated operative that guesses from the active spymaster's clue. Every unrevealed card is ranked by
+// the similarity of its word to the clue, turned into a confidence by a softmax over the unrevealed cards. The bot
+// guesses down the ranking until it runs out of guesses or reaches a card whose confidence is below its stop
+// threshold. The similarities of every card of a board to a clue are computed once and cached for as long as the
+// board is in use, so ranking again after each guess of a turn costs only the softmax.
+public class OperativeBot implements OperativeStrategy {
+    public static final float DEFAULT_STOP_THRESHOLD = 0.2f;   // Least confidence for a guess after the first
+
+    static final float TEMPERATURE = 0.1f;      // Softmax temperature: lower trusts small similarity gaps more
+
+    private final WordSimilarity words;         // Similarities of clues to board words
+    private final float stopThreshold;          // Least confidence for a guess after the first
+    private final Map<Board, BoardSimilarities> caches;     // Cached similarities of every board still in use
+
+    // EFFECTS: constructs a bot guessing from the similarities of words (such as embeddings) that stops below
+    //          DEFAULT_STOP_THRESHOLD
+    public OperativeBot(WordSimilarity words) {
+        this(words, DEFAULT_STOP_THRESHOLD);
+    }
+
+    // REQUIRES: 0 <= stopThreshold <= 1
+    // EFFECTS: constructs a bot guessing from the similarities of words that stops before a guess with less than
+    //          stopThreshold confidence
+    public OperativeBot(WordSimilarity words, float stopThreshold) {
+        this.words = words;
+        this.stopThreshold = stopThreshold;
+        this.caches = Collections.synchronizedMap(new WeakHashMap<>());
+    }
+
+    // EFFECTS: returns the unrevealed cards of board ranked from most to least likely to be what the spymaster's
+    //          hint points at, or an empty list if the hint has no embedding; safe to call from many threads at once
+    public List<RankedGuess> rank(Board board, Spymaster spymaster) {
+        int clue = words.clueIndex(spymaster.getHint().trim());
+        if (clue < 0) {
+            return new ArrayList<>();
+        }
+        float[] similarities = cacheOf(board).similarities(clue);
+        float[] confidences = softmax(board, similarities);
+
+        List<Card> cards = board.getBoard();
+        List<RankedGuess> ranking = new ArrayList<>();
+        for (int i = 0; i < cards.size(); i++) {
+            if (!board.isRevealed(i)) {
+                ranking.add(new RankedGuess(i, cards.get(i).getWord(), similarities[i], confidences[i]));
+            }
+        }
+        ranking.sort(Comparator.comparing(RankedGuess::getConfidence).reversed());
+        return ranking;
+    }
+
+    // EFFECTS: returns the guesses to make for the spymaster's hint, best first: at most spymaster.getGuesses() of
+    //          the ranking, stopping before the first guess after the first whose confidence is below the stop
+    //          threshold
+    @Override
+    public List<RankedGuess> choose(Board board, Spymaster spymaster) {
+        List<RankedGuess> ranking = rank(board, spymaster);
+        int count = Math.min(spymaster.getGuesses(), ranking.size());
+        int chosen = Math.min(count, 1);
+        while (chosen < count && ranking.get(chosen).getConfidence() >= stopThreshold) {
+            chosen++;
+        }
+        return ranking.subList(0, chosen);
+    }
+
+    // EFFECTS: returns the guesses to make in game for the current spymaster's hint
+    public List<RankedGuess> choose(GameEngine game) {
+        return choose(game.getBoard(), game.getCurrentSpymaster());
+    }
+
+    // EFFECTS: returns the number of clues whose similarities to board's cards are cached
+    int getCachedClues(Board board) {
+        BoardSimilarities cache = caches.get(board);
+        return cache == null ? 0 : cache.byClue.size();
+    }
+
+    // EFFECTS: returns the softmax of the similarities of board's unrevealed cards at TEMPERATURE, zero for the
+    //          revealed cards
+    private static float[] softmax(Board board, float[] similarities) {
+        float[] result = new float[similarities.length];
+        float total = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (!board.isRevealed(i)) {
+                result[i] = (float) Math.exp(similarities[i] / TEMPERATURE);
+                total += result[i];
+            }
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] /= total;
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the cache of board's similarities, creating it if this is the board's first query
+    private BoardSimilarities cacheOf(Board board) {
+        return caches.computeIfAbsent(board, BoardSimilarities::new);
+    }
+
+    // Represents the similarities of the cards of one board to every clue given on it so far. It does not refer to
+    // the board, so the board and its cache are collected together once the game is over
+    private class BoardSimilarities {
+        private final int[] indices;                        // Index of every card's word, or -1
+        private final Map<Integer, float[]> byClue;         // Similarity of every card to the clue of an index
+
+        // EFFECTS: looks up the index of every card of board
+        private BoardSimilarities(Board board) {
+            List<Card> cards = board.getBoard();
+            this.indices = new int[cards.size()];
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = words.cardIndex(cards.get(i).getWord());
+            }
+            this.byClue = new ConcurrentHashMap<>();
+        }
+
+        // EFFECTS: returns the similarity of every card to the clue of the given index, zero for a card whose
+        //          similarities are not known, computing them on the first call for the clue
+        private float[] similarities(int clue) {
+            return byClue.computeIfAbsent(clue, c -> {
+                float[] result = new float[indices.length];
+                for (int i = 0; i < indices.length; i++) {
+                    result[i] = indices[i] < 0 ? 0 : words.similarity(c, indices[i]);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package bot;
+
+import model.Board;
+import model.Spymaster;
+
+import java.util.List;
+
+// Represents a way of playing as an operative without a human: given the board and the spymaster's clue, choose the
+// cards to reveal
+public interface OperativeStrategy {
+
+    // EFFECTS: returns the unrevealed cards of board to guess for the spymaster's hint and guesses, in the order they
+    //          are to be revealed; an empty list passes the turn; must be safe to call from many threads at once
+    List<RankedGuess> choose(Board board, Spymaster spymaster);
+}
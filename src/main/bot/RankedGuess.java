@@ -0,0 +1,44 @@
+package bot;
+
+// Represents a card an automated operative considers guessing: its position and word, how similar it is to the clue
+// and how likely the bot judges it to be what the clue points at
+public class RankedGuess {
+    private final int position;         // 0-based board position of the card
+    private final String word;          // Word of the card
+    private final float similarity;     // Similarity of the card to the clue, in [-1, 1]
+    private final float confidence;     // Probability that the clue points at the card, in [0, 1]
+
+    // EFFECTS: constructs a guess of the card in position with the given similarity and confidence
+    public RankedGuess(int position, String word, float similarity, float confidence) {
+        this.position = position;
+        this.word = word;
+        this.similarity = similarity;
+        this.confidence = confidence;
+    }
+
+    // EFFECTS: returns the 0-based board position of the card
+    public int getPosition() {
+        return position;
+    }
+
+    // EFFECTS: returns the word of the card
+    public String getWord() {
+        return word;
+    }
+
+    // EFFECTS: returns the similarity of the card to the clue
+    public float getSimilarity() {
+        return similarity;
+    }
+
+    // EFFECTS: returns the probability that the clue points at the card; the confidences of every unrevealed card
+    //          add up to one
+    public float getConfidence() {
+        return confidence;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.2f)", word, confidence);
+    }
+}
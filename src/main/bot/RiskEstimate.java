@@ -0,0 +1,55 @@
+package bot;
+
+// Represents what a sequence of guesses is expected to bring a team, estimated over many sampled hidden keys: how
+// many of its agents it finds on average, and how often it ends on an opponent's agent or on the assassin
+public class RiskEstimate {
+    private final int samples;              // Keys the sequence was played against
+    private final double expectedAgents;    // Average number of the team's agents revealed
+    private final double opponentRisk;      // Fraction of keys on which an opponent's agent was revealed
+    private final double assassinRisk;      // Fraction of keys on which the assassin was revealed
+    private final double expectedValue;     // Average agents found, less opponents' agents and assassin losses
+
+    // REQUIRES: samples > 0
+    // EFFECTS: constructs the estimate of a sequence that, over samples keys, found agents agents in total and
+    //          revealed an opponent's agent on opponents keys and the assassin on assassins keys; revealing the
+    //          assassin costs assassinPenalty
+    public RiskEstimate(int samples, long agents, long opponents, long assassins, int assassinPenalty) {
+        this.samples = samples;
+        this.expectedAgents = (double) agents / samples;
+        this.opponentRisk = (double) opponents / samples;
+        this.assassinRisk = (double) assassins / samples;
+        this.expectedValue = expectedAgents - opponentRisk - assassinRisk * assassinPenalty;
+    }
+
+    // EFFECTS: returns the number of keys the sequence was played against
+    public int getSamples() {
+        return samples;
+    }
+
+    // EFFECTS: returns the average number of the team's agents the sequence reveals
+    public double getExpectedAgents() {
+        return expectedAgents;
+    }
+
+    // EFFECTS: returns the estimated probability that the sequence reveals an opponent's agent
+    public double getOpponentRisk() {
+        return opponentRisk;
+    }
+
+    // EFFECTS: returns the estimated probability that the sequence reveals the assassin and loses the game
+    public double getAssassinRisk() {
+        return assassinRisk;
+    }
+
+    // EFFECTS: returns the expected value of the sequence: agents found, less one for revealing an opponent's agent
+    //          and the assassin penalty for revealing the assassin
+    public double getExpectedValue() {
+        return expectedValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EV %.3f (agents %.3f, opponent %.3f, assassin %.3f)", expectedValue, expectedAgents,
+                opponentRisk, assassinRisk);
+    }
+}
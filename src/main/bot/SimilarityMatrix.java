@@ -0,0 +1,329 @@
+package bot;
+
+import model.WordPool;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Represents the similarities of every word of the WordPool to every candidate clue, precomputed from word embeddings
+// by build (or the main method) and quantised to one byte each. The file is memory-mapped read-only, so every JVM on
+// a host that opens it shares one copy in the page cache, and a similarity is a single read from the mapping. The
+// file also holds the clues most similar to every pool word. The layout, big-endian, is:
+//  int    MAGIC
+//  byte   VERSION
+//  int    number of pool words, p; int number of clues, c; int neighbours per pool word, k
+//  p *    pool word, then c * clue, each as a short length and that many bytes of UTF-8
+//  p * c  byte similarity of pool word i to clue j at i * c + j, times QUANTUM and rounded
+//  p * k  int  clues most similar to pool word i, most similar first
+public class SimilarityMatrix implements WordSimilarity {
+    public static final int MAGIC = 0x434E534D;     // "CNSM": CodeNames Similarity Matrix
+    public static final byte VERSION = 1;           // Version of the format written
+    public static final int DEFAULT_NEIGHBOURS = 32;    // Neighbours kept per pool word by default
+    public static final float QUANTUM = 127f;       // Quantised value of a similarity of 1
+    public static final long MAX_FILE_BYTES = Integer.MAX_VALUE - 8;   // Largest file, mapped and built in one array
+
+    private static final int HEADER_BYTES = Integer.BYTES + 1 + 3 * Integer.BYTES;
+
+    private final MappedByteBuffer buffer;          // The whole file
+    private final String[] clues;                   // Every clue, in column order
+    private final Map<String, Integer> columns;     // Column of every clue
+    private final Map<String, Integer> poolWords;   // Row of every pool word
+    private final int neighbours;                   // Neighbours kept per pool word
+    private final int matrixStart;                  // Offset of the similarities in buffer
+    private final long neighboursStart;             // Offset of the neighbour lists in buffer
+
+    // REQUIRES: buffer holds a valid matrix file whose words and clues are as given, up to matrixStart
+    // EFFECTS: constructs a view of the matrix in buffer
+    private SimilarityMatrix(MappedByteBuffer buffer, String[] pool, String[] clues, int neighbours) {
+        this.buffer = buffer;
+        this.clues = clues;
+        this.neighbours = neighbours;
+        this.matrixStart = buffer.position();
+        this.neighboursStart = matrixStart + (long) pool.length * clues.length;
+        this.columns = indexWords(clues);
+        this.poolWords = indexWords(pool);
+    }
+
+    // REQUIRES: k > 0
+    // EFFECTS: builds the matrix of every word of pool against every word of embeddings, keeping k neighbours per
+    //          pool word, and saves it to destination, atomically replacing anything already there; a pool word
+    //          without an embedding has similarity 0 to every clue
+    //          throws IllegalArgumentException if the file would be larger than MAX_FILE_BYTES
+    //          throws IOException if the file cannot be written, leaving nothing behind
+    public static void build(WordEmbeddings embeddings, WordPool pool, String destination, int k) throws IOException {
+        ByteBuffer header = header(embeddings, pool, k);
+        checkSize(header.remaining() + (long) pool.size() * embeddings.size() + (long) pool.size() * k * Integer.BYTES);
+        byte[] matrix = quantise(embeddings, pool);
+        int[] nearest = neighbours(matrix, embeddings, pool, k);
+
+        Path temp = Paths.get(destination + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(channel, header);
+                write(channel, ByteBuffer.wrap(matrix));
+                ByteBuffer lists = ByteBuffer.allocate(nearest.length * Integer.BYTES);
+                lists.asIntBuffer().put(nearest);
+                write(channel, lists);
+            }
+            Files.move(temp, Paths.get(destination), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // EFFECTS: maps the matrix saved in source
+    //          throws IOException if source cannot be read, is not a matrix, or was built for another word pool
+    public static SimilarityMatrix open(String source) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(Paths.get(source), StandardOpenOption.READ)) {
+            if (channel.size() > MAX_FILE_BYTES) {
+                throw new IOException(source + " is larger than a matrix can be");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        try {
+            return read(buffer, source);
+        } catch (RuntimeException e) {
+            throw new IOException(source + " is malformed", e);
+        }
+    }
+
+    // EFFECTS: builds a matrix of the WordPool against the embeddings in the file named by args[0] and saves it to
+    //          the file named by args[1], keeping args[2] (or DEFAULT_NEIGHBOURS) neighbours per pool word
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SimilarityMatrix <embeddings> <matrix> [neighbours]");
+            return;
+        }
+        int k = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_NEIGHBOURS;
+        long start = System.nanoTime();
+        WordEmbeddings embeddings = WordEmbeddings.load(args[0]);
+        build(embeddings, WordPool.getInstance(), args[1], k);
+        System.out.printf("Wrote %d x %d similarities to %s in %d ms%n", WordPool.getInstance().size(),
+                embeddings.size(), args[1], (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // EFFECTS: returns the column of clue (in any case), or -1 if it is not in the matrix
+    @Override
+    public int clueIndex(String clue) {
+        return columns.getOrDefault(clue.toUpperCase(Locale.ROOT), -1);
+    }
+
+    // EFFECTS: returns the row of the pool word (in any case), or -1 if it is not in the matrix
+    @Override
+    public int cardIndex(String word) {
+        return poolWords.getOrDefault(word.toUpperCase(Locale.ROOT), -1);
+    }
+
+    // REQUIRES: 0 <= clue < getClues() and 0 <= word < getPoolSize()
+    // EFFECTS: returns the similarity of the pool word in the given row to the clue in the given column, to within
+    //          half of 1 / QUANTUM
+    @Override
+    public float similarity(int clue, int word) {
+        return buffer.get(matrixStart + word * clues.length + clue) / QUANTUM;
+    }
+
+    // REQUIRES: 0 <= word < getPoolSize() and 0 <= rank < getNeighbours()
+    // EFFECTS: returns the column of the clue with the given rank among the clues most similar to the pool word in
+    //          the given row, most similar at rank 0, or -1 if there are fewer clues
+    public int getNeighbour(int word, int rank) {
+        return buffer.getInt((int) (neighboursStart + ((long) word * neighbours + rank) * Integer.BYTES));
+    }
+
+    // REQUIRES: 0 <= clue < getClues()
+    // EFFECTS: returns the clue in the given column
+    public String getClue(int clue) {
+        return clues[clue];
+    }
+
+    // EFFECTS: returns the number of clues
+    public int getClues() {
+        return clues.length;
+    }
+
+    // EFFECTS: returns the number of pool words
+    public int getPoolSize() {
+        return poolWords.size();
+    }
+
+    // EFFECTS: returns the number of neighbours kept per pool word
+    public int getNeighbours() {
+        return neighbours;
+    }
+
+    // MODIFIES: buffer
+    // EFFECTS: reads the header and word lists of the matrix in buffer, which was mapped from source, leaving buffer
+    //          at the start of the similarities
+    //          throws IOException if buffer is not a matrix, or was built for another word pool
+    private static SimilarityMatrix read(MappedByteBuffer buffer, String source) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.get() != VERSION) {
+            throw new IOException(source + " is not a similarity matrix of version " + VERSION);
+        }
+        String[] pool = new String[buffer.getInt()];
+        String[] clues = new String[buffer.getInt()];
+        int neighbours = buffer.getInt();
+        readWords(buffer, pool);
+        readWords(buffer, clues);
+        if (!isWordPool(pool)) {
+            throw new IOException(source + " was built for another word pool");
+        }
+        long expected = buffer.position() + (long) pool.length * clues.length
+                + (long) pool.length * neighbours * Integer.BYTES;
+        if (buffer.capacity() != expected) {
+            throw new IOException(source + " is truncated");
+        }
+        return new SimilarityMatrix(buffer, pool, clues, neighbours);
+    }
+
+    // EFFECTS: returns true if words are the words of the WordPool, in order
+    private static boolean isWordPool(String[] words) {
+        WordPool pool = WordPool.getInstance();
+        if (words.length != pool.size()) {
+            return false;
+        }
+        for (int i = 0; i < words.length; i++) {
+            if (!words[i].equals(pool.getWord(i).toUpperCase(Locale.ROOT))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // EFFECTS: returns the quantised similarity of every word of pool to every word of embeddings, laid out as in
+    //          the file; the embeddings are compared a panel at a time
+    private static byte[] quantise(WordEmbeddings embeddings, WordPool pool) {
+        int width = WordEmbeddings.PANEL_ROWS;
+        int dimensions = embeddings.getDimensions();
+        float[] vectors = poolVectors(embeddings, pool);
+        byte[] matrix = new byte[pool.size() * embeddings.size()];
+        float[] panel = new float[width * dimensions];
+        float[] dots = new float[width];
+        for (int p = 0; p < embeddings.getPanels(); p++) {
+            embeddings.copyPanel(p, panel);
+            int rows = Math.min(width, embeddings.size() - p * width);
+            for (int i = 0; i < pool.size(); i++) {
+                WordEmbeddings.panelDots(panel, vectors, i * dimensions, dimensions, dots, 0);
+                int start = i * embeddings.size() + p * width;
+                for (int r = 0; r < rows; r++) {
+                    matrix[start + r] = (byte) Math.max(-QUANTUM, Math.min(QUANTUM, Math.round(dots[r] * QUANTUM)));
+                }
+            }
+        }
+        return matrix;
+    }
+
+    // EFFECTS: returns the vectors of the words of pool, one after another; zero for a word without an embedding
+    private static float[] poolVectors(WordEmbeddings embeddings, WordPool pool) {
+        int dimensions = embeddings.getDimensions();
+        float[] vectors = new float[pool.size() * dimensions];
+        float[] vector = new float[dimensions];
+        for (int i = 0; i < pool.size(); i++) {
+            int row = embeddings.indexOf(pool.getWord(i));
+            if (row >= 0) {
+                embeddings.copyVector(row, vector);
+                System.arraycopy(vector, 0, vectors, i * dimensions, dimensions);
+            }
+        }
+        return vectors;
+    }
+
+    // EFFECTS: returns the k clues most similar to every word of pool according to matrix, laid out as in the file;
+    //          a pool word is not its own neighbour, and lists are padded with -1 if there are too few clues
+    private static int[] neighbours(byte[] matrix, WordEmbeddings embeddings, WordPool pool, int k) {
+        int[] nearest = new int[pool.size() * k];
+        for (int i = 0; i < pool.size(); i++) {
+            int self = embeddings.indexOf(pool.getWord(i));
+            int found = 0;
+            for (int clue = 0; clue < embeddings.size(); clue++) {
+                if (clue != self) {
+                    found = insert(matrix, i * embeddings.size(), nearest, i * k, k, found, clue);
+                }
+            }
+            Arrays.fill(nearest, i * k + found, (i + 1) * k, -1);
+        }
+        return nearest;
+    }
+
+    // REQUIRES: nearest[at, at + found) holds columns in descending order of their similarity matrix[start + column]
+    // MODIFIES: nearest
+    // EFFECTS: inserts clue among those columns if it is one of the k most similar, and returns how many they then are
+    private static int insert(byte[] matrix, int start, int[] nearest, int at, int k, int found, int clue) {
+        byte value = matrix[start + clue];
+        int i = Math.min(found, k - 1);
+        if (found == k && value <= matrix[start + nearest[at + i]]) {
+            return found;
+        }
+        while (i > 0 && matrix[start + nearest[at + i - 1]] < value) {
+            nearest[at + i] = nearest[at + i - 1];
+            i--;
+        }
+        nearest[at + i] = clue;
+        return Math.min(found + 1, k);
+    }
+
+    // EFFECTS: returns the header and word lists of a matrix of pool against embeddings with k neighbours
+    private static ByteBuffer header(WordEmbeddings embeddings, WordPool pool, int k) {
+        byte[][] words = new byte[pool.size() + embeddings.size()][];
+        int bytes = HEADER_BYTES;
+        for (int i = 0; i < words.length; i++) {
+            String word = i < pool.size() ? pool.getWord(i) : embeddings.getWord(i - pool.size());
+            words[i] = word.toUpperCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+            bytes += Short.BYTES + words[i].length;
+        }
+        ByteBuffer header = ByteBuffer.allocate(bytes);
+        header.putInt(MAGIC).put(VERSION).putInt(pool.size()).putInt(embeddings.size()).putInt(k);
+        for (byte[] word : words) {
+            header.putShort((short) word.length).put(word);
+        }
+        return header.flip();
+    }
+
+    // MODIFIES: buffer, words
+    // EFFECTS: reads words.length length-prefixed words from buffer into words
+    private static void readWords(ByteBuffer buffer, String[] words) {
+        for (int i = 0; i < words.length; i++) {
+            byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(bytes);
+            words[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // EFFECTS: returns the index of every word in words
+    private static Map<String, Integer> indexWords(String[] words) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (int i = words.length - 1; i >= 0; i--) {
+            indices.put(words[i], i);
+        }
+        return indices;
+    }
+
+    // EFFECTS: throws IllegalArgumentException if a file of the given number of bytes is larger than MAX_FILE_BYTES
+    private static void checkSize(long bytes) {
+        if (bytes > MAX_FILE_BYTES) {
+            throw new IllegalArgumentException("A matrix of " + bytes + " bytes is larger than " + MAX_FILE_BYTES);
+        }
+    }
+
+    // MODIFIES: channel
+    // EFFECTS: writes all of bytes to channel
+    private static void write(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package bot;
+
+import model.Team;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import static model.Team.*;
+
+// Represents the results of many simulated games. Every counter is a LongAdder, so the games of a simulation can
+// record their results from many threads at once without contending on a lock.
+public class SimulationStats {
+    private final LongAdder games;          // Games played
+    private final LongAdder redWins;        // Games won by RED
+    private final LongAdder blueWins;       // Games won by BLUE
+    private final LongAdder assassinHits;   // Games ended by an operative revealing the assassin
+    private final LongAdder winningTurns;   // Turns taken by the winner, summed over every won game
+    private final LongAdder clues;          // Clues given
+    private final LongAdder agentsFound;    // Cards revealed by an operative of their own team
+
+    // EFFECTS: constructs statistics of no games
+    public SimulationStats() {
+        games = new LongAdder();
+        redWins = new LongAdder();
+        blueWins = new LongAdder();
+        assassinHits = new LongAdder();
+        winningTurns = new LongAdder();
+        clues = new LongAdder();
+        agentsFound = new LongAdder();
+    }
+
+    // REQUIRES: winner is RED, BLUE or null if the game was abandoned
+    // MODIFIES: this
+    // EFFECTS: records a game won by winner after winnerTurns of its turns, in which clueCount clues were given and
+    //          found agents were revealed by their own team, ending on the assassin if byAssassin
+    public void record(Team winner, int winnerTurns, boolean byAssassin, int clueCount, int found) {
+        games.increment();
+        if (winner != null) {
+            (winner == RED ? redWins : blueWins).increment();
+            winningTurns.add(winnerTurns);
+        }
+        if (byAssassin) {
+            assassinHits.increment();
+        }
+        clues.add(clueCount);
+        agentsFound.add(found);
+    }
+
+    // EFFECTS: returns the number of games played
+    public long getGames() {
+        return games.sum();
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the number of games won by team
+    public long getWins(Team team) {
+        return team == RED ? redWins.sum() : blueWins.sum();
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the fraction of games won by team, or 0 if no game has been played
+    public double getWinRate(Team team) {
+        long played = getGames();
+        return played == 0 ? 0 : (double) getWins(team) / played;
+    }
+
+    // EFFECTS: returns the number of games that were neither won nor lost, because they ran out of turns
+    public long getAbandoned() {
+        return getGames() - redWins.sum() - blueWins.sum();
+    }
+
+    // EFFECTS: returns the number of games ended by an operative revealing the assassin
+    public long getAssassinHits() {
+        return assassinHits.sum();
+    }
+
+    // EFFECTS: returns the average number of turns the winner took, or 0 if no game has been won
+    public double getAverageTurnsToWin() {
+        long won = redWins.sum() + blueWins.sum();
+        return won == 0 ? 0 : (double) winningTurns.sum() / won;
+    }
+
+    // EFFECTS: returns the average number of agents revealed by their own team per clue, or 0 if no clue was given
+    public double getClueEfficiency() {
+        long given = clues.sum();
+        return given == 0 ? 0 : (double) agentsFound.sum() / given;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d games: RED %.1f%%, BLUE %.1f%%, %d assassin hits, %.2f turns to win, "
+                        + "%.2f agents per clue", getGames(), 100 * getWinRate(RED), 100 * getWinRate(BLUE),
+                getAssassinHits(), getAverageTurnsToWin(), getClueEfficiency());
+    }
+}
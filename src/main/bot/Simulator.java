@@ -0,0 +1,129 @@
+package bot;
+
+import model.Board;
+import model.GameEngine;
+import model.GuessResult;
+import model.Role;
+import model.Team;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import static model.Team.*;
+
+// Represents a headless self-play simulator that plays games between two teams of strategies with no display. Game
+// i of a run is played on the board of seed + i (see BoardFactory.fromSeeds), so a run with deterministic strategies
+// always gives the same results however its games are spread over threads. Games are split into tasks on a
+// ForkJoinPool and record their results into a shared SimulationStats.
+public class Simulator {
+    public static final int MAX_TURNS = 100;    // Turns after which a game is abandoned
+
+    static final int GAMES_PER_TASK = 16;       // Most games a task plays itself rather than splitting
+
+    private final SpymasterStrategy redSpymaster;   // Gives RED's clues
+    private final OperativeStrategy redOperative;   // Makes RED's guesses
+    private final SpymasterStrategy blueSpymaster;  // Gives BLUE's clues
+    private final OperativeStrategy blueOperative;  // Makes BLUE's guesses
+    private final ForkJoinPool pool;                // Runs the games
+
+    // EFFECTS: constructs a simulator of the given RED and BLUE strategies playing on the common ForkJoinPool
+    public Simulator(SpymasterStrategy redSpymaster, OperativeStrategy redOperative,
+                     SpymasterStrategy blueSpymaster, OperativeStrategy blueOperative) {
+        this(redSpymaster, redOperative, blueSpymaster, blueOperative, ForkJoinPool.commonPool());
+    }
+
+    // EFFECTS: constructs a simulator of the given RED and BLUE strategies playing on pool
+    public Simulator(SpymasterStrategy redSpymaster, OperativeStrategy redOperative,
+                     SpymasterStrategy blueSpymaster, OperativeStrategy blueOperative, ForkJoinPool pool) {
+        this.redSpymaster = redSpymaster;
+        this.redOperative = redOperative;
+        this.blueSpymaster = blueSpymaster;
+        this.blueOperative = blueOperative;
+        this.pool = pool;
+    }
+
+    // REQUIRES: games >= 0
+    // EFFECTS: plays games games in parallel on the boards of seeds seed, seed + 1, ... and returns their results
+    public SimulationStats run(long games, long seed) {
+        SimulationStats stats = new SimulationStats();
+        pool.invoke(new Games(stats, seed, 0, games));
+        return stats;
+    }
+
+    // MODIFIES: stats
+    // EFFECTS: plays one game on the board of seed, records its result in stats and returns the finished game
+    public GameEngine play(long seed, SimulationStats stats) {
+        GameEngine game = GameEngine.newGame(seed);
+        int[] turns = new int[Team.values().length];
+        int[] tally = new int[2];   // Clues given, then agents found by their own team
+        boolean byAssassin = false;
+        while (!game.getOutcome().isGameOver() && turns[RED.ordinal()] + turns[BLUE.ordinal()] < MAX_TURNS) {
+            turns[game.getCurrentTeam().ordinal()]++;
+            byAssassin = playTurn(game, tally);
+        }
+
+        Team winner = game.getOutcome().getWinner();
+        stats.record(winner, winner == null ? 0 : turns[winner.ordinal()], byAssassin, tally[0], tally[1]);
+        return game;
+    }
+
+    // MODIFIES: game, tally
+    // EFFECTS: plays the current team's turn: its spymaster gives a clue and its operative guesses until the turn
+    //          or the game ends, or the operative stops and passes; adds the clue given to tally[0] and the agents
+    //          found to tally[1], and returns true if the assassin was revealed
+    private boolean playTurn(GameEngine game, int[] tally) {
+        Team team = game.getCurrentTeam();
+        Board board = game.getBoard();
+        ClueSuggestion clue = (team == RED ? redSpymaster : blueSpymaster).suggest(board, team);
+        if (clue == null) {
+            game.endTurn();
+            return false;
+        }
+        game.giveClue(clue.getClue(), clue.getCount());
+        tally[0]++;
+
+        List<RankedGuess> guesses = (team == RED ? redOperative : blueOperative).choose(board,
+                game.getCurrentSpymaster());
+        for (RankedGuess guess : guesses) {
+            GuessResult result = game.guess(guess.getPosition());
+            tally[1] += result.isCorrect() ? 1 : 0;
+            if (result.isGameOver() || result.isTurnEnded()) {
+                return result.getCardTeam() == ASSASSIN;
+            }
+        }
+        if (game.getCurrentPlayer() == Role.OPERATIVE) {
+            game.endTurn();
+        }
+        return false;
+    }
+
+    // Represents the task of playing a range of the games of a run, split in halves until small enough
+    private class Games extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final SimulationStats stats;    // Results of the run
+        private final long seed;                // Seed of the run's first game
+        private final long from;                // First game of the range
+        private final long to;                  // One past the last game of the range
+
+        private Games(SimulationStats stats, long seed, long from, long to) {
+            this.stats = stats;
+            this.seed = seed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (long i = from; i < to; i++) {
+                    play(seed + i, stats);
+                }
+            } else {
+                long middle = from + (to - from) / 2;
+                invokeAll(new Games(stats, seed, from, middle), new Games(stats, seed, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package bot;
+
+import model.Board;
+import model.Team;
+
+// Represents a way of playing as a spymaster without a human: given the board, choose the clue to give
+public interface SpymasterStrategy {
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the clue to give for team on board, or null to give none and pass the turn; must be safe to
+    //          call from many threads at once
+    ClueSuggestion suggest(Board board, Team team);
+}
@@ -0,0 +1,241 @@
+package bot;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Represents a vocabulary of words, each with a unit-length vector whose dot product with another word's vector
+// measures how related the two words are. The vectors are stored off-heap in one direct buffer of floats, so a large
+// vocabulary neither fills the heap nor is scanned by the garbage collector. Rows are grouped into panels of
+// PANEL_ROWS words stored component by component (component d of every word in the panel, then component d + 1), so
+// one panel can be compared against a board with unit-stride loops over the panel's words, which HotSpot compiles to
+// SIMD instructions.
+public class WordEmbeddings implements WordSimilarity {
+    static final int PANEL_ROWS = 64;               // Words per panel
+
+    private static final int INITIAL_PANELS = 16;   // Panels allocated before the first resize while loading
+
+    private final String[] words;               // Words in file order, upper case like the dictionary
+    private final Map<String, Integer> indices; // Row of every word
+    private final FloatBuffer vectors;          // Panels of unit vectors; rows past the last word are zero
+    private final int dimensions;               // Length of every vector
+
+    // REQUIRES: vectors holds the panels of words.length unit vectors of length dimensions
+    // EFFECTS: constructs embeddings of words
+    private WordEmbeddings(String[] words, FloatBuffer vectors, int dimensions) {
+        this.words = words;
+        this.vectors = vectors;
+        this.dimensions = dimensions;
+        this.indices = new HashMap<>();
+        for (int i = words.length - 1; i >= 0; i--) {
+            indices.put(words[i], i);
+        }
+    }
+
+    // EFFECTS: loads embeddings from a text file holding one word per line followed by the components of its
+    //          vector, separated by spaces (the GloVe and word2vec text formats); a word2vec header line is skipped
+    //          throws IOException if the file cannot be read or its vectors are not all the same length
+    public static WordEmbeddings load(String source) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8)) {
+            return read(reader, source);
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed vector in " + source, e);
+        }
+    }
+
+    // REQUIRES: vectors.length == words.length, and every vector is non-empty and of the same length
+    // EFFECTS: returns embeddings of words with the given vectors, scaled to unit length
+    public static WordEmbeddings of(String[] words, float[][] vectors) {
+        int dimensions = vectors[0].length;
+        FloatBuffer buffer = allocate(panelsFor(words.length) * PANEL_ROWS * dimensions);
+        String[] upper = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            for (int d = 0; d < dimensions; d++) {
+                buffer.put(offset(i, d, dimensions), vectors[i][d]);
+            }
+            normalise(buffer, i, dimensions);
+            upper[i] = words[i].toUpperCase(Locale.ROOT);
+        }
+        return new WordEmbeddings(upper, buffer, dimensions);
+    }
+
+    // EFFECTS: returns the row of word (in any case), or -1 if it has no vector
+    public int indexOf(String word) {
+        return indices.getOrDefault(word.toUpperCase(Locale.ROOT), -1);
+    }
+
+    // REQUIRES: 0 <= row < size()
+    // EFFECTS: returns the word in the given row
+    public String getWord(int row) {
+        return words[row];
+    }
+
+    // REQUIRES: 0 <= row < size() and out.length >= getDimensions()
+    // MODIFIES: out
+    // EFFECTS: copies the vector in the given row to the start of out
+    public void copyVector(int row, float[] out) {
+        for (int d = 0; d < dimensions; d++) {
+            out[d] = vectors.get(offset(row, d, dimensions));
+        }
+    }
+
+    // REQUIRES: 0 <= panel < getPanels() and out.length >= PANEL_ROWS * getDimensions()
+    // MODIFIES: out
+    // EFFECTS: copies the given panel to the start of out: component d of row panel * PANEL_ROWS + r goes to
+    //          out[d * PANEL_ROWS + r]
+    void copyPanel(int panel, float[] out) {
+        vectors.get(panel * PANEL_ROWS * dimensions, out, 0, PANEL_ROWS * dimensions);
+    }
+
+    // REQUIRES: panel holds a panel laid out as by copyPanel, vectors[start, start + dimensions) holds a vector of the
+    //           same length, and out.length >= base + PANEL_ROWS
+    // MODIFIES: out
+    // EFFECTS: stores the dot product of the panel's r-th vector with the given vector in out[base + r], for every r;
+    //          the innermost loop runs over the panel's vectors, so it is unit-stride and vectorised
+    static void panelDots(float[] panel, float[] vectors, int start, int dimensions, float[] out, int base) {
+        Arrays.fill(out, base, base + PANEL_ROWS, 0f);
+        for (int d = 0; d < dimensions; d++) {
+            float x = vectors[start + d];
+            int offset = d * PANEL_ROWS;
+            for (int r = 0; r < PANEL_ROWS; r++) {
+                out[base + r] += x * panel[offset + r];
+            }
+        }
+    }
+
+    // EFFECTS: returns the row of clue (in any case), or -1 if it has no vector
+    @Override
+    public int clueIndex(String clue) {
+        return indexOf(clue);
+    }
+
+    // EFFECTS: returns the row of the word of a card (in any case), or -1 if it has no vector
+    @Override
+    public int cardIndex(String word) {
+        return indexOf(word);
+    }
+
+    // REQUIRES: 0 <= a, b < size()
+    // EFFECTS: returns the cosine similarity of the words in rows a and b, in [-1, 1]
+    @Override
+    public float similarity(int a, int b) {
+        float sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            sum += vectors.get(offset(a, d, dimensions)) * vectors.get(offset(b, d, dimensions));
+        }
+        return sum;
+    }
+
+    // EFFECTS: returns the number of words with a vector
+    public int size() {
+        return words.length;
+    }
+
+    // EFFECTS: returns the length of every vector
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    // EFFECTS: returns the number of panels holding the vectors
+    int getPanels() {
+        return panelsFor(words.length);
+    }
+
+    // EFFECTS: reads every word and vector from reader, which is reading source
+    //          throws IOException if reader fails or the vectors are not all the same length
+    private static WordEmbeddings read(BufferedReader reader, String source) throws IOException {
+        List<String> words = new ArrayList<>();
+        FloatBuffer vectors = null;
+        int dimensions = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String[] parts = line.trim().split(" ");
+            if (parts.length < 2 || (vectors == null && isHeader(parts))) {
+                continue;
+            }
+            if (vectors == null) {
+                dimensions = parts.length - 1;
+                vectors = allocate(INITIAL_PANELS * PANEL_ROWS * dimensions);
+            } else if (parts.length - 1 != dimensions) {
+                throw new IOException("Vector of " + parts[0] + " does not have " + dimensions + " components");
+            }
+            vectors = ensureCapacity(vectors, panelsFor(words.size() + 1) * PANEL_ROWS * dimensions);
+            addRow(vectors, words.size(), dimensions, parts);
+            words.add(parts[0].toUpperCase(Locale.ROOT));
+        }
+
+        if (vectors == null) {
+            throw new IOException("No vectors in " + source);
+        }
+        return new WordEmbeddings(words.toArray(new String[0]), vectors, dimensions);
+    }
+
+    // EFFECTS: returns true if parts is a word2vec header: the number of words and the number of dimensions
+    private static boolean isHeader(String[] parts) {
+        return parts.length == 2 && parts[0].chars().allMatch(Character::isDigit);
+    }
+
+    // MODIFIES: vectors
+    // EFFECTS: parses the components in parts[1..] into the given row of vectors and scales it to unit length
+    private static void addRow(FloatBuffer vectors, int row, int dimensions, String[] parts) {
+        for (int d = 0; d < dimensions; d++) {
+            vectors.put(offset(row, d, dimensions), Float.parseFloat(parts[d + 1]));
+        }
+        normalise(vectors, row, dimensions);
+    }
+
+    // MODIFIES: vectors
+    // EFFECTS: scales the vector in the given row to unit length, unless it is all zero
+    private static void normalise(FloatBuffer vectors, int row, int dimensions) {
+        double sum = 0;
+        for (int d = 0; d < dimensions; d++) {
+            float x = vectors.get(offset(row, d, dimensions));
+            sum += x * x;
+        }
+        if (sum == 0) {
+            return;
+        }
+        float scale = (float) (1 / Math.sqrt(sum));
+        for (int d = 0; d < dimensions; d++) {
+            int offset = offset(row, d, dimensions);
+            vectors.put(offset, vectors.get(offset) * scale);
+        }
+    }
+
+    // EFFECTS: returns the position in the buffer of component d of the vector in the given row
+    private static int offset(int row, int d, int dimensions) {
+        int panel = row / PANEL_ROWS;
+        return (panel * dimensions + d) * PANEL_ROWS + row % PANEL_ROWS;
+    }
+
+    // EFFECTS: returns the number of panels needed to hold rows vectors
+    private static int panelsFor(int rows) {
+        return (rows + PANEL_ROWS - 1) / PANEL_ROWS;
+    }
+
+    // EFFECTS: returns vectors, or a copy with twice the capacity if it holds fewer than floats floats
+    private static FloatBuffer ensureCapacity(FloatBuffer vectors, int floats) {
+        if (floats <= vectors.capacity()) {
+            return vectors;
+        }
+        FloatBuffer larger = allocate(Math.max(floats, vectors.capacity() * 2));
+        larger.put(0, vectors, 0, vectors.capacity());
+        return larger;
+    }
+
+    // EFFECTS: returns a zeroed off-heap buffer of the given number of floats
+    private static FloatBuffer allocate(int floats) {
+        return ByteBuffer.allocateDirect(floats * Float.BYTES).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+}
@@ -0,0 +1,17 @@
+package bot;
+
+// Represents a source of similarities between clues and the words on cards, such as word embeddings or a
+// precomputed similarity matrix. Clues and card words are looked up once to an index, so that similarities on the hot
+// path are found by index alone.
+public interface WordSimilarity {
+
+    // EFFECTS: returns the index of clue, or -1 if its similarities are not known
+    int clueIndex(String clue);
+
+    // EFFECTS: returns the index of the word of a card, or -1 if its similarities are not known
+    int cardIndex(String word);
+
+    // REQUIRES: clue and card are indices returned by clueIndex and cardIndex
+    // EFFECTS: returns how related the clue and the card's word are, in [-1, 1]
+    float similarity(int clue, int card);
+}
@@ -0,0 +1,139 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Represents an event log for long-running processes with many threads logging at once. Logged events go into a
+// bounded, lock-free EventRingBuffer and a background drainer thread writes them to every sink in batches, so
+// memory use is fixed and logging never blocks: if the buffer is full the event is dropped and counted instead.
+public class AsyncEventLog implements Closeable {
+    public static final int DEFAULT_CAPACITY = 1 << 14;     // Events buffered by default
+    public static final int DEFAULT_BATCH_SIZE = 256;       // Events written to the sinks at once by default
+
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);   // Drainer's sleep when idle
+
+    private final EventRingBuffer buffer;   // Events waiting to be written
+    private final List<EventSink> sinks;    // Destinations of every event
+    private final int batchSize;            // Most events written to the sinks at once
+    private final Thread drainer;           // Moves events from buffer to sinks
+    private final LongAdder dropped;        // Events dropped because the buffer was full
+    private final LongAdder failures;       // Batches a sink failed to write
+    private volatile long written;          // Events taken from buffer and written to every sink
+    private volatile boolean running;       // False once close has been called
+
+    // EFFECTS: constructs a log of DEFAULT_CAPACITY events writing to sinks in batches of DEFAULT_BATCH_SIZE, and
+    //          starts its drainer
+    public AsyncEventLog(EventSink... sinks) {
+        this(DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, sinks);
+    }
+
+    // REQUIRES: capacity > 0 and batchSize > 0
+    // EFFECTS: constructs a log buffering at least capacity events and writing to sinks in batches of up to
+    //          batchSize, and starts its drainer
+    public AsyncEventLog(int capacity, int batchSize, EventSink... sinks) {
+        this.buffer = new EventRingBuffer(capacity);
+        this.sinks = List.of(sinks);
+        this.batchSize = batchSize;
+        this.dropped = new LongAdder();
+        this.failures = new LongAdder();
+        this.running = true;
+        this.drainer = new Thread(this::drain, "event-log-drainer");
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues e to be written to every sink and returns true, or drops it and returns false if the buffer
+    //          is full or the log is closed; never blocks
+    public boolean logEvent(Event e) {
+        if (running && buffer.offer(e)) {
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    // EFFECTS: waits until every event logged before this call has been written to and flushed by every sink
+    public void flush() {
+        long target = buffer.getPublished();
+        while (written < target && drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(IDLE_NANOS / 10);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops accepting events, waits for the drainer to write everything already logged and closes every
+    //          sink; an event logged by another thread while close is running may be lost
+    @Override
+    public void close() throws IOException {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while closing the event log", e);
+        }
+    }
+
+    // EFFECTS: returns the number of events dropped because the buffer was full or the log was closed
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    // EFFECTS: returns the number of events written to every sink
+    public long getWritten() {
+        return written;
+    }
+
+    // EFFECTS: returns the number of batches that a sink failed to write
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes batches of events to the sinks until the log is closed and empty, sleeping while there is
+    //          nothing to write, then closes the sinks
+    private void drain() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (true) {
+            boolean stopping = !running;    // Read before draining, so nothing logged before close is missed
+            batch.clear();
+            if (buffer.drainTo(batch, batchSize) > 0) {
+                writeBatch(batch);
+            } else if (stopping && buffer.getPublished() == written) {
+                break;
+            } else {
+                LockSupport.parkNanos(IDLE_NANOS);
+            }
+        }
+
+        for (EventSink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                failures.increment();
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes batch to and flushes every sink; a failing sink does not stop the others
+    private void writeBatch(List<Event> batch) {
+        for (EventSink sink : sinks) {
+            try {
+                sink.write(batch);
+                sink.flush();
+            } catch (IOException | RuntimeException e) {
+                failures.increment();
+            }
+        }
+        written += batch.size();
+    }
+}
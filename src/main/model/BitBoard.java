@@ -0,0 +1,87 @@
+package model;
+
+// Represents the key of a board as one 32-bit mask per team (RED, BLUE, NEUTRAL and ASSASSIN) and a mask of the
+// cards that have been revealed. Bit i of each mask refers to the i-th card on the board, so remaining-card, win and
+// reveal queries are answered with a single popcount instead of a scan over every Card.
+public class BitBoard {
+    public static final int MAX_CARDS = Integer.SIZE;  // Number of cards that fit in a mask
+    private static final int NUM_TEAMS = Team.values().length;   // One mask per Team
+
+    private final int[] teamMasks;  // Bit i is set if card i belongs to the team with that ordinal
+    private int revealedMask;       // Bit i is set if card i has been revealed
+    private int size;               // Number of cards tracked so far
+
+    // EFFECTS: constructs an empty bit board
+    public BitBoard() {
+        this.teamMasks = new int[NUM_TEAMS];
+        this.revealedMask = 0;
+        this.size = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: tracks a new card of the given team in the next free slot and returns that slot
+    //          throws IllegalStateException if MAX_CARDS cards are already tracked
+    public int add(Team team, boolean revealed) {
+        if (size == MAX_CARDS) {
+            throw new IllegalStateException("A board can hold at most " + MAX_CARDS + " cards");
+        }
+
+        int slot = size;
+        int bit = 1 << slot;
+        teamMasks[team.ordinal()] |= bit;
+        if (revealed) {
+            revealedMask |= bit;
+        }
+
+        size += 1;
+        return slot;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every card from the bit board
+    public void clear() {
+        for (int i = 0; i < NUM_TEAMS; i++) {
+            teamMasks[i] = 0;
+        }
+        revealedMask = 0;
+        size = 0;
+    }
+
+    // REQUIRES: 0 <= slot < size()
+    // MODIFIES: this
+    // EFFECTS: marks the card in the given slot as revealed
+    public void reveal(int slot) {
+        revealedMask |= 1 << slot;
+    }
+
+    // REQUIRES: 0 <= slot < size()
+    // EFFECTS: returns true if the card in the given slot has been revealed
+    public boolean isRevealed(int slot) {
+        return (revealedMask & (1 << slot)) != 0;
+    }
+
+    // EFFECTS: returns the number of unrevealed cards belonging to team
+    public int getRemaining(Team team) {
+        return Integer.bitCount(getTeamMask(team) & ~revealedMask);
+    }
+
+    // EFFECTS: returns the number of revealed cards belonging to team
+    public int getRevealed(Team team) {
+        return Integer.bitCount(getTeamMask(team) & revealedMask);
+    }
+
+    // EFFECTS: returns the mask of cards belonging to team
+    public int getTeamMask(Team team) {
+        return teamMasks[team.ordinal()];
+    }
+
+    // EFFECTS: returns the mask of revealed cards
+    public int getRevealedMask() {
+        return revealedMask;
+    }
+
+    // EFFECTS: returns the number of cards tracked
+    public int size() {
+        return size;
+    }
+}
@@ -6,17 +6,18 @@ import persistence.Writable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static model.Team.*;
 
 // Structure for the persistence functionality is inspired by the UBC: CPSC 210 Software Construction WorkRoomApp
 
 // Represents the game board with 5x5 (25) Card objects
 public class Board implements Writable {
     public static final int NUM_CARDS = 25;            // Number of cards
-    public static final String RED = "RED";            // Name of the red cards
-    public static final String BLUE = "BLUE";          // Name of the blue cards
-    public static final String NEUTRAL = "NEUTRAL";    // Name of the neutral cards
-    public static final String ASSASSIN = "ASSASSIN";  // Name of the assassin card
     public static final int NUM_CARDS_TEAM0 = 9;      // Number of agents for the first team
     public static final int NUM_CARDS_TEAM1 = 8;      // Number of agents for the second team
     public static final int NUM_CARDS_NEUTRAL = 7;    // Number of neutral cards
@@ -24,80 +25,84 @@ public class Board implements Writable {
 
 
     private List<Card> board;   // Board for this game
+    private List<Card> boardView;   // Read-only view of board handed out to callers
+    private BitBoard bitBoard;      // Team ownership and revealed state of board as bit masks
+    private ClueIndex clueIndex;    // Index of the cards' words, or null until first needed after the cards change
     private Dictionary dictionary;  // Dictionary for this game
-    private String startingTeam;    // Which team starts first
-    private String currentTeam;     // Which team is it currently
-    private String currentPlayer;   // Spymaster or Operative
-    private int numRedCards;        // Number of RED agents
-    private int numBlueCards;       // Number of BLUE agents
+    private Team startingTeam;      // Which team starts first
+    private Team currentTeam;       // Which team is it currently
+    private Role currentPlayer;     // Spymaster or Operative
+    private EnumMap<Team, Integer> numCards;    // Number of cards dealt for each team
 
 
-    // REQUIRES: startingTeam is either "red" or "blue" (case-insensitive)
+    // REQUIRES: startingTeam is either RED or BLUE
     // MODIFIES: this
     // EFFECTS: initializes fields for board
-    public Board(String startingTeam) {
+    public Board(Team startingTeam) {
         this.board = new ArrayList<>();
+        this.boardView = Collections.unmodifiableList(board);
+        this.bitBoard = new BitBoard();
         this.dictionary = new Dictionary();
 
 
-        this.startingTeam = startingTeam.toUpperCase();
+        this.startingTeam = startingTeam;
         this.currentTeam = startingTeam;
 
-        this.currentPlayer = "SPYMASTER";
+        this.currentPlayer = Role.SPYMASTER;
 
-        if (startingTeam.equals(RED)) {
-            this.numRedCards = NUM_CARDS_TEAM0;
-            this.numBlueCards = NUM_CARDS_TEAM1;
+        if (startingTeam == RED) {
+            initializeNumCards(NUM_CARDS_TEAM0, NUM_CARDS_TEAM1);
         } else {
-            this.numRedCards = NUM_CARDS_TEAM1;
-            this.numBlueCards = NUM_CARDS_TEAM0;
+            initializeNumCards(NUM_CARDS_TEAM1, NUM_CARDS_TEAM0);
         }
 
     }
 
     // MODIFIES: this
     // EFFECTS: constructs a new board given data from a loaded game state
-    public Board(String startingTeam, String currentTeam, String currentPlayer, int numRedCards, int numBlueCards) {
+    public Board(Team startingTeam, Team currentTeam, Role currentPlayer, int numRedCards, int numBlueCards) {
         this.board = new ArrayList<>();
+        this.boardView = Collections.unmodifiableList(board);
+        this.bitBoard = new BitBoard();
         this.startingTeam = startingTeam;
         this.currentTeam = currentTeam;
         this.currentPlayer = currentPlayer;
-        this.numRedCards = numRedCards;
-        this.numBlueCards = numBlueCards;
+        initializeNumCards(numRedCards, numBlueCards);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets the number of cards to be dealt for each team
+    private void initializeNumCards(int numRedCards, int numBlueCards) {
+        numCards = new EnumMap<>(Team.class);
+        numCards.put(RED, numRedCards);
+        numCards.put(BLUE, numBlueCards);
+        numCards.put(NEUTRAL, NUM_CARDS_NEUTRAL);
+        numCards.put(ASSASSIN, NUM_CARDS_ASSASSIN);
     }
 
     // MODIFIES: this
     // EFFECTS: randomly selects 25 words from the dictionary and shuffles it
     public void initializeGameDictionary() {
+        initializeGameDictionary(WordSampler.current());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: selects 25 words from the dictionary at random using sampler
+    public void initializeGameDictionary(WordSampler sampler) {
         dictionary.initializeDictionary();
-        dictionary.shuffleDictionary();
+        dictionary.shuffleDictionary(sampler);
     }
 
 
     // MODIFIES: this
     // EFFECTS: loops through an adds maxIndex cards of cardType to board
-    public void addCards(String cardType) {
-        int numCards;
-        switch (cardType) {
-            case ASSASSIN:
-                numCards = NUM_CARDS_ASSASSIN;
-                break;
-            case NEUTRAL:
-                numCards = NUM_CARDS_NEUTRAL;
-                break;
-            case RED:
-                numCards = numRedCards;
-                break;
-            default:
-                numCards = numBlueCards;
-                break;
-        }
-
+    public void addCards(Team cardType) {
+        int numCardsOfType = numCards.getOrDefault(cardType, 0);
 
         Card makeCard;
-        for (int i = 0; i < numCards; i++) {
+        for (int i = 0; i < numCardsOfType; i++) {
             makeCard = new Card(dictionary.getNextWord(), cardType);
-            board.add(makeCard);
+            addCards(makeCard);
         }
 
     }
@@ -106,37 +111,69 @@ public class Board implements Writable {
     // EFFECTS: adds a new card to board given data from a loaded game state
     public void addCards(Card card) {
         board.add(card);
+        clueIndex = null;
+        card.attach(bitBoard, bitBoard.add(card.getTeam(), card.isVisibleTeam()));
     }
 
     // MODIFIES: this
     // EFFECTS: randomly shuffles the board
     public void shuffle() {
-        Collections.shuffle(board);
+        shuffle(ThreadLocalRandom.current());
     }
 
-    // EFFECTS: Returns the number of cards remaining for team
-    public int getRemainingCards(String team) {
-        int totalCardCounter = 0;
-        int revealedCardCounter = 0;
+    // MODIFIES: this
+    // EFFECTS: shuffles the board using random, so the same random sequence always gives the same layout
+    public void shuffle(RandomGenerator random) {
+        for (int i = board.size() - 1; i > 0; i--) {
+            Collections.swap(board, i, random.nextInt(i + 1));
+        }
+        rebuildBitBoard();
+    }
 
+    // MODIFIES: this
+    // EFFECTS: re-assigns every card a slot in bitBoard matching its position in board
+    private void rebuildBitBoard() {
+        clueIndex = null;
+        bitBoard.clear();
         for (Card c : board) {
-            // Count the total number of team cards
-            if (c.getTeam().equals(team)) {
-                totalCardCounter += 1;
-                // Subtract the revealed team cards to get the remaining number
-                if (c.getVisibleTeam().equals(team)) {
-                    revealedCardCounter += 1;
-                }
-
-            }
+            c.attach(bitBoard, bitBoard.add(c.getTeam(), c.isVisibleTeam()));
         }
+    }
 
-        return totalCardCounter - revealedCardCounter;
+    // EFFECTS: Returns the number of cards remaining for team
+    public int getRemainingCards(Team team) {
+        return bitBoard.getRemaining(team);
     }
 
-    // EFFECTS: Returns the board
+    // EFFECTS: Returns a read-only view of the board's cards
     public List<Card> getBoard() {
-        return board;
+        return boardView;
+    }
+
+    // EFFECTS: Returns the bit masks tracking the team and revealed state of each card
+    public BitBoard getBitBoard() {
+        return bitBoard;
+    }
+
+    // REQUIRES: 0 <= position < getBoard().size()
+    // EFFECTS: Returns true if the card at the given 0-based position has been revealed
+    public boolean isRevealed(int position) {
+        return bitBoard.isRevealed(position);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Returns the index of the cards' words, building it once after the cards are dealt or shuffled
+    public ClueIndex getClueIndex() {
+        if (clueIndex == null) {
+            clueIndex = new ClueIndex(board);
+        }
+        return clueIndex;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: Returns true if clue may be given: it is not, and is not a form of, the word of an unrevealed card
+    public boolean isLegalClue(String clue) {
+        return getClueIndex().isLegal(clue, bitBoard.getRevealedMask());
     }
 
     // MODIFIES: this
@@ -155,42 +192,41 @@ public class Board implements Writable {
     }
 
     // EFFECTS: returns the starting team
-    public String getStartingTeam() {
+    public Team getStartingTeam() {
         return startingTeam;
     }
 
-    // REQUIRES: team is one of "RED" or "BLUE"
+    // REQUIRES: team is one of RED or BLUE
     // MODIFIES: this
     // EFFECTS: Sets currentTeam to the provided team
-    public void setCurrentTeam(String team) {
+    public void setCurrentTeam(Team team) {
         this.currentTeam = team;
     }
 
     // EFFECTS: returns currentTeam
-    public String getCurrentTeam() {
+    public Team getCurrentTeam() {
         return currentTeam;
     }
 
-    // REQUIRES: player is one of "SPYMASTER" or "OPERATIVE"
     // MODIFIES: this
     // EFFECTS: Sets currentPlayer to the provided player
-    public void setCurrentPlayer(String player) {
+    public void setCurrentPlayer(Role player) {
         this.currentPlayer = player;
     }
 
     // EFFECTS: returns currentPlayer
-    public String getCurrentPlayer() {
+    public Role getCurrentPlayer() {
         return currentPlayer;
     }
 
     // EFFECTS: returns numRedCards
     public int getNumOriginalRedCards() {
-        return numRedCards;
+        return numCards.get(RED);
     }
 
     // EFFECTS: returns numBlueCards
     public int getNumOriginalBlueCards() {
-        return numBlueCards;
+        return numCards.get(BLUE);
     }
 
     // ==== PHASE 2: Data persistence:
@@ -199,11 +235,11 @@ public class Board implements Writable {
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        json.put("startingTeam", getStartingTeam());
-        json.put("currentTeam", getCurrentTeam());
-        json.put("currentPlayer", getCurrentPlayer());
-        json.put("numRedCards", numRedCards);
-        json.put("numBlueCards", numBlueCards);
+        json.put("startingTeam", getStartingTeam().getLabel());
+        json.put("currentTeam", getCurrentTeam().getLabel());
+        json.put("currentPlayer", getCurrentPlayer().name());
+        json.put("numRedCards", getNumOriginalRedCards());
+        json.put("numBlueCards", getNumOriginalBlueCards());
 //        json.put("dictionary", dictionaryToJson());
         json.put("cards", cardsToJson());
         return json;
@@ -233,7 +269,7 @@ public class Board implements Writable {
     // EFFECTS: Returns true if the current team has no more visible points
     public boolean checkIfGameWon() {
         // Respective team has revealed all their cards
-        if (getCurrentTeam().equals(RED)) {
+        if (currentTeam == RED) {
             return getRemainingCards(RED) == 0;
         } else {
             return getRemainingCards(BLUE) == 0;
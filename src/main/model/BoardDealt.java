@@ -0,0 +1,89 @@
+package model;
+
+import java.util.List;
+
+// Represents the event of a board being dealt or loaded, with every card's word, team and whether it was already
+// revealed. One event stands for the whole board; its description lists every card.
+public class BoardDealt extends Event {
+    private final long seed;            // Seed the board was dealt from, if any
+    private final boolean seeded;       // True if the board was dealt from seed
+    private final Team startingTeam;    // Team that goes first
+    private final String[] words;       // Word of every card, by position
+    private final Team[] teams;         // Team of every card, by position
+    private final int revealedMask;     // Bit i is set if card i was already revealed
+
+    // EFFECTS: constructs the event of board being dealt from seed
+    public BoardDealt(Board board, long seed) {
+        this(board, seed, true);
+    }
+
+    // EFFECTS: constructs the event of board being loaded or dealt without a seed
+    public BoardDealt(Board board) {
+        this(board, 0, false);
+    }
+
+    // EFFECTS: constructs the event of board being dealt, from seed if seeded
+    private BoardDealt(Board board, long seed, boolean seeded) {
+        List<Card> cards = board.getBoard();
+        this.seed = seed;
+        this.seeded = seeded;
+        this.startingTeam = board.getStartingTeam();
+        this.words = new String[cards.size()];
+        this.teams = new Team[cards.size()];
+        for (int i = 0; i < cards.size(); i++) {
+            words[i] = cards.get(i).getWord();
+            teams[i] = cards.get(i).getTeam();
+        }
+        this.revealedMask = board.getBitBoard().getRevealedMask();
+    }
+
+    // EFFECTS: returns the text describing this event
+    @Override
+    protected String describe() {
+        StringBuilder text = new StringBuilder(seeded ? "Dealt the board from seed " + seed : "Loaded the board");
+        for (int i = 0; i < words.length; i++) {
+            text.append('\n').append(isRevealed(i) ? "A visible " : "An invisible ").append(teams[i])
+                    .append(" card '").append(words[i]).append("' has been added to the game board!");
+        }
+        return text.toString();
+    }
+
+    // EFFECTS: returns true if the board was dealt from a seed
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    // REQUIRES: isSeeded()
+    // EFFECTS: returns the seed the board was dealt from
+    public long getSeed() {
+        return seed;
+    }
+
+    // EFFECTS: returns the team that goes first
+    public Team getStartingTeam() {
+        return startingTeam;
+    }
+
+    // EFFECTS: returns the number of cards on the board
+    public int getNumCards() {
+        return words.length;
+    }
+
+    // REQUIRES: 0 <= i < getNumCards()
+    // EFFECTS: returns the i-th card's word
+    public String getWord(int i) {
+        return words[i];
+    }
+
+    // REQUIRES: 0 <= i < getNumCards()
+    // EFFECTS: returns the team the i-th card belongs to
+    public Team getTeam(int i) {
+        return teams[i];
+    }
+
+    // REQUIRES: 0 <= i < getNumCards()
+    // EFFECTS: returns true if the i-th card was already revealed when the board was dealt or loaded
+    public boolean isRevealed(int i) {
+        return (revealedMask & (1 << i)) != 0;
+    }
+}
@@ -0,0 +1,56 @@
+package model;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static model.Team.*;
+
+// Represents a dealer of boards whose words, key card layout and starting team are fully determined by a 64-bit seed,
+// so a game can be stored or replayed as 8 bytes rather than a full JSON board. Boards are only reproducible with the
+// same dictionary.txt, since words are drawn by their index in the WordPool.
+public final class BoardFactory {
+
+    private BoardFactory() {
+    }
+
+    // EFFECTS: returns the board determined by seed, with every team's cards dealt, shuffled and indexed
+    public static Board fromSeed(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Team startingTeam = random.nextBoolean() ? RED : BLUE;
+        return deal(startingTeam, random);
+    }
+
+    // REQUIRES: count >= 0
+    // EFFECTS: returns the boards determined by the count consecutive seeds starting at firstSeed, in seed order;
+    //          boards are dealt in parallel on the common ForkJoinPool
+    public static List<Board> fromSeeds(long firstSeed, int count) {
+        return LongStream.range(0, count)
+                .parallel()
+                .mapToObj(i -> fromSeed(firstSeed + i))
+                .collect(Collectors.toList());
+    }
+
+    // EFFECTS: returns a fresh seed drawn from ThreadLocalRandom
+    public static long randomSeed() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    // REQUIRES: startingTeam is RED or BLUE
+    // EFFECTS: returns a board of words drawn using random with every team's cards dealt, shuffled using random and
+    //          indexed
+    static Board deal(Team startingTeam, RandomGenerator random) {
+        Board board = new Board(startingTeam);
+        board.initializeGameDictionary(new WordSampler(random));
+        board.addCards(RED);
+        board.addCards(BLUE);
+        board.addCards(NEUTRAL);
+        board.addCards(ASSASSIN);
+        board.shuffle(random);
+        board.setBoardIndices();
+        return board;
+    }
+}
@@ -5,34 +5,38 @@ import persistence.Writable;
 
 import java.awt.*;
 
-import static model.Board.RED;
-import static model.Board.BLUE;
-import static model.Board.NEUTRAL;
-import static model.Board.ASSASSIN;
+import static model.Team.UNKNOWN;
 
 
 // Structure for the persistence functionality is inspired by the UBC: CPSC 210 Software Construction WorkRoomApp
 
 // Represents a single card in the game, with a type (Red, Blue, Neutral or Assassin) and an associated word and index
 public class Card implements Writable {
+    private static final Color RED_COLOR = new Color(247, 138, 114);
+    private static final Color BLUE_COLOR = new Color(146, 184, 240);
+    private static final Color NEUTRAL_COLOR = new Color(184, 172, 160);
+    private static final Color ASSASSIN_COLOR = new Color(54, 54, 54);
+
     private String word;        // Word to be displayed on this card
-    private String team;        // Team (Red, Blue, Neutral or Assassin)
-    private String visibleTeam; // What team is visible to the operatives? (i.e. has this card been in play yet)
+    private Team team;          // Team (Red, Blue, Neutral or Assassin)
+    private Team visibleTeam;   // What team is visible to the operatives? (i.e. has this card been in play yet)
     private int index;       // 1-based index for the card
+    private BitBoard bitBoard;  // Bit board of the Board this card is placed on (null if not on a board)
+    private int slot;           // Position of this card within bitBoard
 
-    // REQUIRES: givenTeam is "red", "blue", "neutral" or "assassin" (case-insensitive)
+    // REQUIRES: givenTeam is RED, BLUE, NEUTRAL or ASSASSIN
     // MODIFIES: this
-    // EFFECTS:  create a card with an associated word and team, initialize visibility to "?" (not visible)
-    public Card(String givenWord, String givenTeam) {
+    // EFFECTS:  create a card with an associated word and team, initialize visibility to UNKNOWN (not visible)
+    public Card(String givenWord, Team givenTeam) {
         this.word = givenWord;
         this.team = givenTeam;
-        this.visibleTeam = "?";
+        this.visibleTeam = UNKNOWN;
         this.index = 0;
     }
 
     // MODIFIES: this
     // EFFECTS: constructs a new card given data from a loaded game state
-    public Card(String word, String team, String visibleTeam, int index) {
+    public Card(String word, Team team, Team visibleTeam, int index) {
         this.word = word;
         this.team = team;
         this.visibleTeam = visibleTeam;
@@ -45,19 +49,19 @@ public class Card implements Writable {
     }
 
     // EFFECTS: return the card's associated team
-    public String getTeam() {
+    public Team getTeam() {
         return team;
     }
 
     // EFFECTS: return the card's visible team
-    public String getVisibleTeam() {
+    public Team getVisibleTeam() {
         return visibleTeam;
     }
 
 
     // EFFECTS: return false if the visible team is not yet revealed
     public boolean isVisibleTeam() {
-        return !visibleTeam.equals("?");
+        return visibleTeam != UNKNOWN;
     }
 
     // EFFECTS: return the card's index
@@ -75,18 +79,29 @@ public class Card implements Writable {
     // EFFECTS: if this card has been put in play, reveal the actual team to the operatives
     public void makeVisibleTeam() {
         this.visibleTeam = this.team;
+        if (bitBoard != null) {
+            bitBoard.reveal(slot);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that this card occupies the given slot of bitBoard, so that revealing it updates the board
+    void attach(BitBoard bitBoard, int slot) {
+        this.bitBoard = bitBoard;
+        this.slot = slot;
     }
 
     // EFFECTS: returns a Color object associated with the given team
     public Color getCardColor() {
-        if (team.equals(RED)) {
-            return new Color(247, 138, 114);
-        } else if (team.equals(BLUE)) {
-            return new Color(146, 184, 240);
-        } else if (team.equals(NEUTRAL)) {
-            return new Color(184, 172, 160);
-        } else {
-            return new Color(54, 54, 54);
+        switch (team) {
+            case RED:
+                return RED_COLOR;
+            case BLUE:
+                return BLUE_COLOR;
+            case NEUTRAL:
+                return NEUTRAL_COLOR;
+            default:
+                return ASSASSIN_COLOR;
         }
     }
 
@@ -95,8 +110,8 @@ public class Card implements Writable {
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
         json.put("word", word);
-        json.put("team", team);
-        json.put("visibleTeam", visibleTeam);
+        json.put("team", team.getLabel());
+        json.put("visibleTeam", visibleTeam.getLabel());
         json.put("index", index);
         return json;
     }
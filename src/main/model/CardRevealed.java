@@ -0,0 +1,53 @@
+package model;
+
+// Represents the event of an operative revealing a card by guessing it
+public class CardRevealed extends Event {
+    private final int position;         // 0-based position of the card on the board
+    private final Team guessingTeam;    // Team whose operative guessed the card
+    private final Team cardTeam;        // Team the card belongs to
+    private final String word;          // Word on the card
+
+    // EFFECTS: constructs the event of guessingTeam revealing the card of cardTeam showing word at position
+    public CardRevealed(int position, Team guessingTeam, Team cardTeam, String word) {
+        this.position = position;
+        this.guessingTeam = guessingTeam;
+        this.cardTeam = cardTeam;
+        this.word = word;
+    }
+
+    // EFFECTS: constructs the event of the guess described by result, made at position
+    public CardRevealed(int position, GuessResult result) {
+        this(position, result.getGuessingTeam(), result.getCardTeam(), result.getCard().getWord());
+    }
+
+    // EFFECTS: returns the text describing this event
+    @Override
+    protected String describe() {
+        return "The " + guessingTeam + " team selected a " + cardTeam + " card (" + word + ")!";
+    }
+
+    // EFFECTS: returns true if the card belongs to the team that guessed it
+    public boolean isCorrect() {
+        return guessingTeam == cardTeam;
+    }
+
+    // EFFECTS: returns the 0-based position of the card on the board
+    public int getPosition() {
+        return position;
+    }
+
+    // EFFECTS: returns the team whose operative guessed the card
+    public Team getGuessingTeam() {
+        return guessingTeam;
+    }
+
+    // EFFECTS: returns the team the card belongs to
+    public Team getCardTeam() {
+        return cardTeam;
+    }
+
+    // EFFECTS: returns the word on the card
+    public String getWord() {
+        return word;
+    }
+}
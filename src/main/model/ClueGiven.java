@@ -0,0 +1,36 @@
+package model;
+
+// Represents the event of a spymaster giving their operative a clue
+public class ClueGiven extends Event {
+    private final Team team;    // Team whose spymaster gave the clue
+    private final String clue;  // Clue given
+    private final int count;    // Number of agents the clue is for
+
+    // EFFECTS: constructs the event of team's spymaster giving clue for count agents
+    public ClueGiven(Team team, String clue, int count) {
+        this.team = team;
+        this.clue = clue;
+        this.count = count;
+    }
+
+    // EFFECTS: returns the text describing this event
+    @Override
+    protected String describe() {
+        return "The " + team + " spymaster gave the clue " + clue + " / " + count;
+    }
+
+    // EFFECTS: returns the team whose spymaster gave the clue
+    public Team getTeam() {
+        return team;
+    }
+
+    // EFFECTS: returns the clue given
+    public String getClue() {
+        return clue;
+    }
+
+    // EFFECTS: returns the number of agents the clue is for
+    public int getCount() {
+        return count;
+    }
+}
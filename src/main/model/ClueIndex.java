@@ -0,0 +1,129 @@
+package model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents an index of the words on a board's cards, used to reject clues that are one of those words or a form of
+// one, as the rules require. Words are normalised to upper-case letters and filed, as a mask of the slots of the cards
+// holding them, under each of their forms and under their first and last PREFIX_LENGTH letters. Checking a clue then
+// takes a few lookups, whatever the number of cards: a clue conflicts with a card if they share a form (BAKE and
+// BAKING, SPY and SPIES), or if one is a compound of the other (SHOE and HORSESHOE). One word starting or ending with
+// the other only makes a compound when the rest is itself a word of the WordPool, so CAR and CARPET, or CAT and
+// CATERPILLAR, do not conflict. The index never changes once built, so it may be read from many threads at once.
+public class ClueIndex {
+    static final int PREFIX_LENGTH = 3;     // Letters of a word's prefix and suffix buckets, and the shortest stem kept
+    private static final String[][] SUFFIXES = {    // Endings stripped to find a stem, and what replaces them
+            {"IES", "Y"}, {"IED", "Y"}, {"ING", ""}, {"ED", ""}, {"ES", ""}, {"LY", ""}, {"S", ""}};
+
+    private final String[] words;                   // Normalised word of every slot
+    private final Map<String, Integer> forms;       // Slots holding a word with every form
+    private final Map<String, Integer> prefixes;    // Slots holding a word beginning with every prefix
+    private final Map<String, Integer> suffixes;    // Slots holding a word ending with every suffix
+
+    // REQUIRES: cards.size() <= BitBoard.MAX_CARDS
+    // EFFECTS: indexes the words of cards, the card in position i taking slot i
+    public ClueIndex(List<Card> cards) {
+        this.words = new String[cards.size()];
+        this.forms = new HashMap<>();
+        this.prefixes = new HashMap<>();
+        this.suffixes = new HashMap<>();
+        for (int slot = 0; slot < words.length; slot++) {
+            String word = normalise(cards.get(slot).getWord());
+            words[slot] = word;
+            for (String form : forms(word)) {
+                forms.merge(form, 1 << slot, (a, b) -> a | b);
+            }
+            if (word.length() >= PREFIX_LENGTH) {
+                prefixes.merge(word.substring(0, PREFIX_LENGTH), 1 << slot, (a, b) -> a | b);
+                suffixes.merge(word.substring(word.length() - PREFIX_LENGTH), 1 << slot, (a, b) -> a | b);
+            }
+        }
+    }
+
+    // EFFECTS: returns the mask of the slots whose word clue is, or is a form of, ignoring case and anything but
+    //          letters; 0 if clue has no letters
+    public int conflicts(String clue) {
+        String word = normalise(clue);
+        if (word.isEmpty()) {
+            return 0;
+        }
+        int mask = 0;
+        for (String form : forms(word)) {
+            mask |= forms.getOrDefault(form, 0) | compounds(form);
+        }
+        return mask;
+    }
+
+    // EFFECTS: returns true if clue is not, and is not a form of, the word of any slot outside revealedMask
+    public boolean isLegal(String clue, int revealedMask) {
+        return (conflicts(clue) & ~revealedMask) == 0;
+    }
+
+    // REQUIRES: word is normalised
+    // EFFECTS: returns the mask of the slots whose word is a compound of word, or of which word is a compound
+    private int compounds(String word) {
+        if (word.length() < PREFIX_LENGTH) {
+            return 0;
+        }
+        int mask = 0;
+        int candidates = prefixes.getOrDefault(word.substring(0, PREFIX_LENGTH), 0);
+        for (int rest = candidates; rest != 0; rest &= rest - 1) {
+            int slot = Integer.numberOfTrailingZeros(rest);
+            if (isCompound(word, words[slot], true) || isCompound(words[slot], word, true)) {
+                mask |= 1 << slot;
+            }
+        }
+        candidates = suffixes.getOrDefault(word.substring(word.length() - PREFIX_LENGTH), 0);
+        for (int rest = candidates; rest != 0; rest &= rest - 1) {
+            int slot = Integer.numberOfTrailingZeros(rest);
+            if (isCompound(word, words[slot], false) || isCompound(words[slot], word, false)) {
+                mask |= 1 << slot;
+            }
+        }
+        return mask;
+    }
+
+    // EFFECTS: returns true if compound starts (if atStart) or ends with part, and what is left of it is a word of the
+    //          WordPool
+    static boolean isCompound(String compound, String part, boolean atStart) {
+        int length = compound.length() - part.length();
+        if (length <= 0 || !(atStart ? compound.startsWith(part) : compound.endsWith(part))) {
+            return false;
+        }
+        String rest = atStart ? compound.substring(part.length()) : compound.substring(0, length);
+        return WordPool.getInstance().indexOf(rest) >= 0;
+    }
+
+    // EFFECTS: returns the letters of word in upper case, dropping everything else
+    static String normalise(String word) {
+        StringBuilder letters = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (Character.isLetter(c)) {
+                letters.append(Character.toUpperCase(c));
+            }
+        }
+        return letters.toString();
+    }
+
+    // REQUIRES: word is normalised
+    // EFFECTS: returns word and, if it ends with one of SUFFIXES leaving at least PREFIX_LENGTH letters, the stems it
+    //          may come from: the ending replaced, then a doubled final consonant left by that (RUNN) undoubled or a
+    //          final E put back (BAK), so that two forms of a word share one of their forms
+    static String[] forms(String word) {
+        for (String[] suffix : SUFFIXES) {
+            int length = word.length() - suffix[0].length();
+            if (word.endsWith(suffix[0]) && length + suffix[1].length() >= PREFIX_LENGTH) {
+                String stem = word.substring(0, length) + suffix[1];
+                int last = stem.length() - 1;
+                if (last > PREFIX_LENGTH - 1 && stem.charAt(last) == stem.charAt(last - 1)
+                        && "AEIOUY".indexOf(stem.charAt(last)) < 0) {
+                    return new String[] {word, stem, stem.substring(0, last)};
+                }
+                return suffix[1].isEmpty() ? new String[] {word, stem, stem + "E"} : new String[] {word, stem};
+            }
+        }
+        return new String[] {word};
+    }
+}
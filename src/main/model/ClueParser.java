@@ -0,0 +1,102 @@
+package model;
+
+import static model.ClueStatus.*;
+
+// Represents a parser of the hints spymasters enter, of the form "Clue / 3": a single word, optionally one space, a
+// single /, and the number of guesses, which may be surrounded by spaces. A hint is read in one pass without
+// allocating, and only a well-formed clue is checked against the board's ClueIndex. The result of the last hint
+// parsed is kept in the parser, which can be reused for any number of hints. A parser is not safe to use from several
+// threads at once, so give each thread its own.
+public class ClueParser {
+    public static final int MAX_COUNT = Board.NUM_CARDS;   // Most guesses a clue may allow
+
+    private String hint;            // Hint parsed last
+    private ClueStatus status;      // Whether the last hint was valid, and if not why
+    private int clueLength;         // Length of the clue, which starts the hint
+    private int count;              // Number of guesses given with the clue, or -1 if not read
+
+    // EFFECTS: constructs a parser that has not parsed a hint yet
+    public ClueParser() {
+        this.hint = "";
+        this.status = MISSING_DELIMITER;
+        this.count = -1;
+    }
+
+    // MODIFIES: this, board
+    // EFFECTS: parses hint (which may be null) and returns true if it is valid and its clue is legal on board (see
+    //          Board.isLegalClue); the result is kept until the next hint is parsed
+    public boolean parse(String hint, Board board) {
+        this.hint = hint == null ? "" : hint;
+        this.status = scan(this.hint);
+        if (status == VALID && !board.isLegalClue(getClue())) {
+            status = ON_BOARD;
+        }
+        return status == VALID;
+    }
+
+    // EFFECTS: returns whether the last hint parsed was valid, and if not why
+    public ClueStatus getStatus() {
+        return status;
+    }
+
+    // REQUIRES: getStatus() is VALID
+    // EFFECTS: returns the clue of the last hint parsed
+    public String getClue() {
+        return hint.substring(0, clueLength);
+    }
+
+    // REQUIRES: getStatus() is VALID
+    // EFFECTS: returns the number of guesses of the last hint parsed
+    public int getCount() {
+        return count;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the clue and the count of hint, and returns whether they are well formed
+    private ClueStatus scan(String hint) {
+        int length = hint.length();
+        int i = 0;
+        while (i < length && hint.charAt(i) != ' ' && hint.charAt(i) != '/') {
+            i++;
+        }
+        clueLength = i;
+        count = -1;
+        if (i < length && hint.charAt(i) == ' ') {
+            i++;
+        }
+        if (i == length || hint.charAt(i) != '/') {
+            return hint.indexOf('/', i) < 0 ? MISSING_DELIMITER : NOT_ONE_WORD;
+        }
+        if (clueLength == 0) {
+            return NOT_ONE_WORD;
+        }
+        return scanCount(hint, i + 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the count of hint, which follows the delimiter from position i, and returns whether it is well
+    //          formed and at most MAX_COUNT
+    private ClueStatus scanCount(String hint, int i) {
+        int length = hint.length();
+        while (i < length && hint.charAt(i) == ' ') {
+            i++;
+        }
+        int start = i;
+        int value = 0;
+        for (; i < length && hint.charAt(i) >= '0' && hint.charAt(i) <= '9'; i++) {
+            value = value * 10 + hint.charAt(i) - '0';
+            if (value > MAX_COUNT) {
+                return BAD_COUNT;
+            }
+        }
+        int end = i;
+        while (i < length && hint.charAt(i) == ' ') {
+            i++;
+        }
+        if (end == start || i < length) {
+            return BAD_COUNT;
+        }
+        count = value;
+        return VALID;
+    }
+}
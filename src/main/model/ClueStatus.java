@@ -0,0 +1,21 @@
+package model;
+
+// Represents whether a hint entered by a spymaster is a legal clue, and if not, what is wrong with it
+public enum ClueStatus {
+    VALID("the hint is valid"),
+    MISSING_DELIMITER("a single / must separate the clue from the number of guesses"),
+    NOT_ONE_WORD("the clue must be a single word"),
+    BAD_COUNT("the number of guesses must be a whole number from 0 to " + Board.NUM_CARDS),
+    ON_BOARD("the clue must not be a word on the board, or a form of one");
+
+    private final String message;   // Explanation shown to the spymaster
+
+    ClueStatus(String message) {
+        this.message = message;
+    }
+
+    // EFFECTS: returns an explanation of this status for the spymaster
+    public String getMessage() {
+        return message;
+    }
+}
@@ -1,93 +1,78 @@
 package model;
 
-import java.io.*;
 import java.util.*;
 
-// Represents a dictionary of ~400 possible words
+// Represents the words drawn for one game from the ~400 possible words in the shared WordPool. The dictionary only
+// holds indices into the pool, and drawing a game's words costs O(number of words drawn) however large the pool is.
 // SOURCE: https://boardgamegeek.com/thread/1413932/word-list
 public class Dictionary {
-    private List<String> fullDictionary;
+    protected static final int NUM_DICTIONARY_WORDS = 400;   // Size of provided dictionary
+
+    private int size;                    // Number of words in the pool; 0 until initialized
+    private int[] drawn;                 // Pool indices of the words drawn for this game, or null if none are drawn
+    private List<String> view;           // Read-only view of the words handed out, in order
     private int counter;                 // Return the counter index when prompted
-    protected static final int SKIP = 5; // Arbitrarily skip 5 lines when parsing the dictionary
-//    private static final String FILE_PATH = ".\\data\\dictionary.txt"; // Dictionary path
-    protected static final int NUM_DICTIONARY_WORDS = 400;               // Size of provided dictionary
 
     private Scanner scanner;
 
     // MODIFIES: this
     // EFFECTS: initializes the class
     public Dictionary() {
-        this.fullDictionary = new ArrayList<>();
+        this.size = 0;
+        this.view = Collections.emptyList();
         this.counter = 0;
     }
 
     // MODIFIES: this
-    // EFFECTS: read in dictionary.txt and add to dictionary
+    // EFFECTS: makes every word in the pool available, handed out in the same order as dictionary.txt
     public void initializeDictionary() {
-        // Read the file and add to fullDictionary
-        // SOURCES consulted for help:
-        //  1) https://stackoverflow.com/questions/19973543/scanner-keeps-throwing-filenotfound-exception/19973734
-        //  2) https://www.java67.com/2012/11/how-to-read-file-in-java-using-scanner-example.html
-        //  3) https://stackoverflow.com/questions/593671/remove-end-of-line-characters-from-java-string
-//        File dictionary = new File(FILE_PATH);
-//
-//        try {
-//            this.scanner = new Scanner(dictionary).useDelimiter("\n");
-//            while (scanner.hasNext()) {
-//                fullDictionary.add(scanner.next().replaceAll("\r", ""));
-//            }
-//            scanner.close();
-//
-//        } catch (FileNotFoundException e) {
-//            System.out.println("File not found!!");
-//        }
-
-        // We use this to read information from the packaged JAR file
-        try {
-            // SOURCE: https://stackoverflow.com/questions/16953897/how-to-read-a-text-file-inside-a-jar
-            InputStream inputStream
-                    = ClassLoader.getSystemClassLoader().getSystemResourceAsStream("dictionary.txt");
-            InputStreamReader streamReader = new InputStreamReader(inputStream, "UTF-8");
-            BufferedReader in = new BufferedReader(streamReader);
-
-            for (String line; (line = in.readLine()) != null;) {
-                // do something with the line
-                fullDictionary.add(line.replaceAll("\r", ""));
-            }
-        } catch (IOException e) {
-            System.out.println("File not found!!");
-        }
+        WordPool pool = WordPool.getInstance();
+        size = pool.size();
+        drawn = null;
+        view = pool.getWords();
+        counter = 0;
+    }
 
+    // REQUIRES: dictionary is initialized
+    // MODIFIES: this
+    // EFFECTS: draws a random selection of Board.NUM_CARDS words (or every word, if there are fewer) to hand out
+    public void shuffleDictionary() {
+        shuffleDictionary(WordSampler.current());
+    }
 
+    // REQUIRES: dictionary is initialized
+    // MODIFIES: this
+    // EFFECTS: draws a random selection of Board.NUM_CARDS words (or every word, if there are fewer) to hand out
+    //          using sampler
+    public void shuffleDictionary(WordSampler sampler) {
+        drawWords(Math.min(Board.NUM_CARDS, size), sampler);
     }
 
-    // EFFECTS: // Randomize the order of the dictionary
-    public void shuffleDictionary() {
-        Collections.shuffle(fullDictionary);
+    // REQUIRES: dictionary is initialized and 0 <= count <= number of words in the pool
+    // MODIFIES: this
+    // EFFECTS: draws count distinct words at random using sampler and hands them out from now on
+    public void drawWords(int count, WordSampler sampler) {
+        if (drawn == null || drawn.length != count) {
+            drawn = new int[count];
+            view = new DrawnWords();
+        }
+        sampler.sample(size, count, drawn);
+        counter = 0;
     }
 
-    // EFFECTS: returns the dictionary
+    // EFFECTS: returns a read-only view of the words handed out, in order
     public List<String> getDictionary() {
-        return fullDictionary;
+        return view;
     }
 
     // MODIFIES: this
-    // EFFECTS: increments the counter by SKIP and returns a dictionary word at the index of counter
-    //          return blank if not yet initialized
+    // EFFECTS: returns the next word to be handed out and increments the counter
+    //          return blank if not yet initialized or every word has been handed out
     public String getNextWord() {
-        String returnedWord;
-        if (fullDictionary.isEmpty()) {
-            returnedWord = "";
-        } else {
-            counter += SKIP;  // Modify counter so the same word is not returned twice
-            if (counter >= NUM_DICTIONARY_WORDS) { // Out of bounds!
-                returnedWord = "";
-            } else {
-                returnedWord = fullDictionary.get(counter);
-            }
+        if (counter >= view.size()) { // Out of bounds!
+            return "";
         }
-
-        return returnedWord;
+        return view.get(counter++);
     }
 
     // EFFECTS: returns the counter
@@ -109,7 +94,19 @@ public class Dictionary {
 
     // EFFECTS: returns true if the dictionary is empty
     public boolean isEmpty() {
-        return fullDictionary.isEmpty();
+        return size == 0;
     }
 
+    // Represents the drawn words, looked up in the WordPool as they are read
+    private class DrawnWords extends AbstractList<String> {
+        @Override
+        public String get(int index) {
+            return WordPool.getInstance().getWord(drawn[index]);
+        }
+
+        @Override
+        public int size() {
+            return drawn.length;
+        }
+    }
 }
@@ -1,14 +1,16 @@
 package model;
 
-import java.util.Calendar;
 import java.util.Date;
 
 
 // SOURCE: UBC: CPSC 210 Software Construction AlarmSystem
 public class Event {
     private static final int HASH_CONSTANT = 13;
-    private final Date dateLogged;
-    private final String description;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    /** nanoseconds since the epoch at System.nanoTime() == 0, so timestamps are cheap to take and never go back */
+    private static final long EPOCH_OFFSET_NANOS = System.currentTimeMillis() * NANOS_PER_MILLI - System.nanoTime();
+    private final long timestampNanos;
+    private String description;
 
     /**
      * Creates an event with the given description
@@ -17,28 +19,68 @@ public class Event {
      * @param description a description of the event
      */
     public Event(String description) {
-        dateLogged = Calendar.getInstance().getTime();
+        this.timestampNanos = now();
         this.description = description;
     }
 
+    /**
+     * Creates a typed event with the current date/time stamp,
+     * whose description is only rendered by describe()
+     * the first time it is asked for.
+     */
+    protected Event() {
+        this.timestampNanos = now();
+    }
+
     /**
      * Gets the date of this event (includes time).
      *
      * @return the date of the event
      */
     public Date getDate() {
-        return dateLogged;
+        return new Date(timestampNanos / NANOS_PER_MILLI);
     }
 
     /**
-     * Gets the description of this event.
+     * Gets the time of this event in nanoseconds since the epoch.
+     *
+     * @return the timestamp of the event
+     */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /**
+     * Gets the description of this event, rendering
+     * it first if this is a typed event.
      *
      * @return the description of the event
      */
     public String getDescription() {
+        if (description == null) {
+            description = describe();
+        }
         return description;
     }
 
+    /**
+     * Renders the description of a typed event.
+     *
+     * @return the description of the event
+     */
+    protected String describe() {
+        return "";
+    }
+
+    /**
+     * Gets the current time in nanoseconds since the epoch.
+     *
+     * @return the current timestamp
+     */
+    private static long now() {
+        return EPOCH_OFFSET_NANOS + System.nanoTime();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == null) {
@@ -51,17 +93,17 @@ public class Event {
 
         Event otherEvent = (Event) other;
 
-        return (this.dateLogged.equals(otherEvent.dateLogged)
-                && this.description.equals(otherEvent.description));
+        return (this.timestampNanos == otherEvent.timestampNanos
+                && this.getDescription().equals(otherEvent.getDescription()));
     }
 
     @Override
     public int hashCode() {
-        return (HASH_CONSTANT * dateLogged.hashCode() + description.hashCode());
+        return (HASH_CONSTANT * Long.hashCode(timestampNanos) + getDescription().hashCode());
     }
 
     @Override
     public String toString() {
-        return dateLogged.toString() + "\n" + description;
+        return getDate().toString() + "\n" + getDescription();
     }
 }
@@ -2,54 +2,85 @@ package model;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 
 // SOURCE: UBC: CPSC 210 Software Construction AlarmSystem
 public class EventLog implements Iterable<Event> {
-    /** the only EventLog in the system (Singleton Design Pattern) */
-    private static EventLog theLog;
+    /** also receives every event logged here, for aggregation across games; may be null */
+    private final AsyncEventLog tap;
+    /** the events of this log's game, or null once the log has been released */
     private Collection<Event> events;
 
     /**
-     * Prevent external construction.
-     * (Singleton Design Pattern).
+     * Creates an empty event log belonging to a single game.
      */
-    private EventLog() {
-        events = new ArrayList<Event>();
+    public EventLog() {
+        this(null);
     }
 
     /**
-     * Gets instance of EventLog - creates it
-     * if it doesn't already exist.
-     * (Singleton Design Pattern)
-     * @return  instance of EventLog
+     * Creates an empty event log belonging to a single game
+     * that also passes every event on to tap.
+     * @param tap   log receiving the events of every game, or null
      */
-    public static EventLog getInstance() {
-        if (theLog == null) {
-            theLog = new EventLog();
-        }
-
-        return theLog;
+    public EventLog(AsyncEventLog tap) {
+        this.tap = tap;
+        events = new ArrayList<Event>();
     }
 
     /**
-     * Adds an event to the event log.
+     * Adds an event to the event log and passes it on to the tap,
+     * unless the log has been released.
      * @param e the event to be added
      */
     public void logEvent(Event e) {
+        if (events == null) {
+            return;
+        }
         events.add(e);
+        if (tap != null) {
+            tap.logEvent(e);
+        }
     }
 
     /**
      * Clears the event log and logs the event.
      */
     public void clear() {
-        events.clear();
+        if (events != null) {
+            events.clear();
+        }
         logEvent(new Event("Event log cleared."));
     }
 
+    /**
+     * Releases the events of this log once its game is over;
+     * events logged afterwards are ignored.
+     */
+    public void release() {
+        events = null;
+    }
+
+    /**
+     * @return  true if this log has been released
+     */
+    public boolean isReleased() {
+        return events == null;
+    }
+
+    /**
+     * @return  the number of events in this log
+     */
+    public int size() {
+        return events == null ? 0 : events.size();
+    }
+
     @Override
     public Iterator<Event> iterator() {
+        if (events == null) {
+            return Collections.emptyIterator();
+        }
         return events.iterator();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,95 @@
+package model;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Represents a bounded, lock-free queue of events with many producers and a single consumer. Every slot carries a
+// sequence number saying whether it is free for the producer claiming position p (sequence p) or holds the event
+// published at p (sequence p + 1), so producers only contend on one compare-and-set and never wait for each other
+// or for the consumer: offer fails at once if the buffer is full.
+public class EventRingBuffer {
+    private final AtomicReferenceArray<Event> slots;    // Events waiting to be taken
+    private final AtomicLongArray sequences;            // Sequence number of every slot
+    private final int mask;                             // Capacity - 1, to turn a position into a slot
+    private final AtomicLong tail;                      // Next position a producer will claim
+    private long head;                                  // Next position the consumer will take; consumer only
+
+    // REQUIRES: capacity > 0
+    // EFFECTS: constructs an empty buffer holding at least capacity events, rounded up to a power of two
+    public EventRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.tail = new AtomicLong();
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds event and returns true, or returns false at once if the buffer is full; safe to call from any
+    //          number of threads at once
+    public boolean offer(Event event) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long behind = sequences.get(slot) - position;
+            if (behind == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(slot, event);
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (behind < 0) {
+                return false;   // The slot still holds the event published a whole lap ago
+            } else {
+                position = tail.get();  // Another producer claimed this position first
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes and returns the oldest event, or returns null if none is ready; only one thread may take
+    //          events from a buffer
+    public Event poll() {
+        int slot = (int) head & mask;
+        if (sequences.get(slot) != head + 1) {
+            return null;
+        }
+        Event event = slots.get(slot);
+        slots.lazySet(slot, null);
+        sequences.set(slot, head + mask + 1);
+        head++;
+        return event;
+    }
+
+    // MODIFIES: this, batch
+    // EFFECTS: moves up to max of the oldest events to batch and returns how many were moved; only one thread may
+    //          take events from a buffer
+    public int drainTo(List<Event> batch, int max) {
+        int moved = 0;
+        Event event;
+        while (moved < max && (event = poll()) != null) {
+            batch.add(event);
+            moved++;
+        }
+        return moved;
+    }
+
+    // EFFECTS: returns the number of events offered successfully so far, including any still being published
+    public long getPublished() {
+        return tail.get();
+    }
+
+    // EFFECTS: returns the number of events the buffer can hold
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,27 @@
+package model;
+
+import java.io.IOException;
+import java.util.List;
+
+// Represents a destination that an AsyncEventLog writes batches of events to, such as a file, the console or memory.
+// Sinks are only ever called from the log's drainer thread, one batch at a time.
+public interface EventSink {
+
+    // MODIFIES: this
+    // EFFECTS: writes every event of batch, in order
+    //          throws IOException if the events cannot be written
+    void write(List<Event> batch) throws IOException;
+
+    // MODIFIES: this
+    // EFFECTS: pushes any buffered events to their destination
+    //          throws IOException if the events cannot be written
+    default void flush() throws IOException {
+    }
+
+    // MODIFIES: this
+    // EFFECTS: flushes and releases the destination; nothing is written afterwards
+    //          throws IOException if the destination cannot be released
+    default void close() throws IOException {
+        flush();
+    }
+}
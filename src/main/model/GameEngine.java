@@ -0,0 +1,243 @@
+package model;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static model.Team.*;
+
+// Represents the rules of a single game of Codenames, independent of how the game is displayed. The engine owns the
+// board, both spymasters and both operatives; every change to the game state goes through giveClue, guess and endTurn,
+// so games can be played without a display and many games can be played at once.
+public class GameEngine {
+    private final Board board;              // Board for this game
+    private final Spymaster redSpymaster;   // Spymaster of the RED team
+    private final Spymaster blueSpymaster;  // Spymaster of the BLUE team
+    private final Operative redOperative;   // Operative of the RED team
+    private final Operative blueOperative;  // Operative of the BLUE team
+    private Outcome outcome;                // Whether the game has been won, and by whom
+    private final List<GameListener> listeners; // Notified of every action taken
+
+    // REQUIRES: board has been dealt
+    // EFFECTS: constructs a new game on board with fresh spymasters and operatives
+    public GameEngine(Board board) {
+        this(board, new Spymaster(RED), new Spymaster(BLUE), new Operative(RED), new Operative(BLUE));
+    }
+
+    // EFFECTS: constructs a game from existing (e.g. loaded) game state
+    public GameEngine(Board board, Spymaster redSpymaster, Spymaster blueSpymaster,
+                      Operative redOperative, Operative blueOperative) {
+        this.board = board;
+        this.redSpymaster = redSpymaster;
+        this.blueSpymaster = blueSpymaster;
+        this.redOperative = redOperative;
+        this.blueOperative = blueOperative;
+        this.outcome = decideOutcome();
+        this.listeners = new CopyOnWriteArrayList<>();
+    }
+
+    // REQUIRES: startingTeam is RED or BLUE
+    // EFFECTS: returns a new game on a freshly dealt board
+    public static GameEngine newGame(Team startingTeam) {
+        return new GameEngine(dealBoard(startingTeam));
+    }
+
+    // EFFECTS: returns a new game on the board determined by seed
+    public static GameEngine newGame(long seed) {
+        return new GameEngine(BoardFactory.fromSeed(seed));
+    }
+
+    // REQUIRES: startingTeam is RED or BLUE
+    // EFFECTS: returns a board of randomly selected words with every team's cards dealt, shuffled and indexed
+    public static Board dealBoard(Team startingTeam) {
+        return BoardFactory.deal(startingTeam, ThreadLocalRandom.current());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stores the current spymaster's clue and number of guesses, passes play to the operative and returns
+    //          the number of guesses the operative may make
+    //          throws IllegalStateException if the game is over or it is not the spymaster's turn
+    public int giveClue(String clue, int count) {
+        requirePlayer(Role.SPYMASTER);
+
+        Spymaster spymaster = getCurrentSpymaster();
+        spymaster.setHint(clue);
+        spymaster.setGuesses(count);
+        board.setCurrentPlayer(Role.OPERATIVE);
+
+        int guesses = getGuessesRemaining();
+        for (GameListener listener : listeners) {
+            listener.clueGiven(this, clue, count);
+        }
+        return guesses;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reveals the card at the given 0-based position on behalf of the current operative, applies the
+    //          scoring and turn rules and returns what happened
+    //          throws IllegalStateException if the game is over or it is not the operative's turn
+    //          throws IllegalArgumentException if position is out of bounds or the card is already revealed
+    public GuessResult guess(int position) {
+        requirePlayer(Role.OPERATIVE);
+        if (position < 0 || position >= board.getBoard().size() || board.isRevealed(position)) {
+            throw new IllegalArgumentException("Card " + (position + 1) + " cannot be selected");
+        }
+
+        Card card = board.getBoard().get(position);
+        Team guessingTeam = board.getCurrentTeam();
+        card.makeVisibleTeam();
+
+        boolean turnEnded = resolveGuess(card.getTeam(), guessingTeam);
+        int remaining = 0;
+        if (!turnEnded && !outcome.isGameOver()) {
+            remaining = getGuessesRemaining();
+        }
+
+        GuessResult result = new GuessResult(card, guessingTeam, turnEnded, remaining, outcome);
+        for (GameListener listener : listeners) {
+            listener.cardGuessed(this, position, result);
+        }
+        return result;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: passes play to the other team's spymaster and returns the team whose turn it now is
+    //          throws IllegalStateException if the game is over
+    public Team endTurn() {
+        if (outcome.isGameOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        switchTeams();
+        for (GameListener listener : listeners) {
+            listener.turnEnded(this, board.getCurrentTeam());
+        }
+        return board.getCurrentTeam();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: notifies listener of every action taken from now on
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops notifying listener of actions
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: applies the rules for guessingTeam revealing a card of cardTeam and returns true if the turn passed
+    //          to the other team
+    private boolean resolveGuess(Team cardTeam, Team guessingTeam) {
+        if (cardTeam == ASSASSIN) {
+            outcome = Outcome.wonBy(guessingTeam.opponent());
+        } else if (cardTeam == guessingTeam) {
+            getOperative(guessingTeam).incrementScore();
+            if (board.getRemainingCards(guessingTeam) == 0) {
+                outcome = Outcome.wonBy(guessingTeam);
+                return false;
+            }
+            getCurrentSpymaster().decrementGuesses();
+            if (getGuessesRemaining() > 0) {
+                return false;
+            }
+        } else if (cardTeam == guessingTeam.opponent()) {
+            getOperative(cardTeam).incrementScore();
+            if (board.getRemainingCards(cardTeam) == 0) {
+                outcome = Outcome.wonBy(cardTeam);
+            }
+        }
+
+        switchTeams();
+        return true;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes it the other team's spymaster's turn
+    private void switchTeams() {
+        board.setCurrentTeam(board.getCurrentTeam().opponent());
+        board.setCurrentPlayer(Role.SPYMASTER);
+    }
+
+    // EFFECTS: throws IllegalStateException if the game is over or it is not player's turn
+    private void requirePlayer(Role player) {
+        if (outcome.isGameOver()) {
+            throw new IllegalStateException("The game is over");
+        }
+        if (board.getCurrentPlayer() != player) {
+            throw new IllegalStateException("It is not the " + player + "'s turn");
+        }
+    }
+
+    // EFFECTS: works out the outcome of a (possibly loaded) board; a team has won if all of its agents have been
+    //          revealed, and if the assassin has been revealed the team whose turn it now is has won
+    private Outcome decideOutcome() {
+        if (board.getBoard().isEmpty()) {
+            return Outcome.IN_PROGRESS;
+        } else if (board.getRemainingCards(RED) == 0) {
+            return Outcome.RED_WINS;
+        } else if (board.getRemainingCards(BLUE) == 0) {
+            return Outcome.BLUE_WINS;
+        } else if (board.getBitBoard().getRevealed(ASSASSIN) > 0) {
+            return Outcome.wonBy(board.getCurrentTeam());
+        }
+        return Outcome.IN_PROGRESS;
+    }
+
+    // EFFECTS: returns whether the game has been won, and by whom
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    // EFFECTS: returns the number of guesses the current team may still make
+    //          Note that per the game rules, we can always guess 1 additional time than the guesses provided
+    public int getGuessesRemaining() {
+        return getCurrentSpymaster().getGuesses() + 1;
+    }
+
+    // EFFECTS: returns the board for this game
+    public Board getBoard() {
+        return board;
+    }
+
+    // EFFECTS: returns the team whose turn it is
+    public Team getCurrentTeam() {
+        return board.getCurrentTeam();
+    }
+
+    // EFFECTS: returns which player on the current team is taking their turn
+    public Role getCurrentPlayer() {
+        return board.getCurrentPlayer();
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the spymaster of team
+    public Spymaster getSpymaster(Team team) {
+        if (team == RED) {
+            return redSpymaster;
+        } else {
+            return blueSpymaster;
+        }
+    }
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the operative of team
+    public Operative getOperative(Team team) {
+        if (team == RED) {
+            return redOperative;
+        } else {
+            return blueOperative;
+        }
+    }
+
+    // EFFECTS: returns the spymaster whose turn it currently is
+    public Spymaster getCurrentSpymaster() {
+        return getSpymaster(board.getCurrentTeam());
+    }
+
+    // EFFECTS: returns the operative whose turn it currently is
+    public Operative getCurrentOperative() {
+        return getOperative(board.getCurrentTeam());
+    }
+}
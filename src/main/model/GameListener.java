@@ -0,0 +1,14 @@
+package model;
+
+// Represents an observer of the actions taken in a GameEngine, notified after each action has been applied
+public interface GameListener {
+
+    // EFFECTS: called after the current spymaster of game gave clue for count agents
+    void clueGiven(GameEngine game, String clue, int count);
+
+    // EFFECTS: called after the card at the given 0-based position of game's board was guessed
+    void cardGuessed(GameEngine game, int position, GuessResult result);
+
+    // EFFECTS: called after a team ended its turn early, passing play to team
+    void turnEnded(GameEngine game, Team team);
+}
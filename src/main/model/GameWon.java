@@ -0,0 +1,34 @@
+package model;
+
+// Represents the event of a team winning the game, either by revealing all of their agents or because the other
+// team revealed the assassin
+public class GameWon extends Event {
+    private final Team winner;          // Team that won
+    private final boolean byAssassin;   // True if the other team revealed the assassin
+
+    // REQUIRES: winner is RED or BLUE
+    // EFFECTS: constructs the event of winner winning the game
+    public GameWon(Team winner, boolean byAssassin) {
+        this.winner = winner;
+        this.byAssassin = byAssassin;
+    }
+
+    // EFFECTS: returns the text describing this event
+    @Override
+    protected String describe() {
+        if (byAssassin) {
+            return "The " + winner.opponent() + " team has selected the assassin! \nThe " + winner + " team wins!";
+        }
+        return "The " + winner + " team has WON by revealing all their agents!";
+    }
+
+    // EFFECTS: returns the team that won
+    public Team getWinner() {
+        return winner;
+    }
+
+    // EFFECTS: returns true if the other team lost by revealing the assassin
+    public boolean isByAssassin() {
+        return byAssassin;
+    }
+}
@@ -0,0 +1,60 @@
+package model;
+
+// Represents what happened when an operative selected a card: which card it was, whose turn it now is and whether
+// the game has been decided
+public class GuessResult {
+    private final Card card;            // Card that was selected
+    private final Team guessingTeam;    // Team whose operative selected the card
+    private final boolean turnEnded;    // True if the guess passed the turn to the other team
+    private final int guessesRemaining; // Guesses left for guessingTeam after this guess (0 if the turn ended)
+    private final Outcome outcome;      // Outcome of the game after this guess
+
+    // EFFECTS: constructs the result of a single guess
+    public GuessResult(Card card, Team guessingTeam, boolean turnEnded, int guessesRemaining, Outcome outcome) {
+        this.card = card;
+        this.guessingTeam = guessingTeam;
+        this.turnEnded = turnEnded;
+        this.guessesRemaining = guessesRemaining;
+        this.outcome = outcome;
+    }
+
+    // EFFECTS: returns the card that was selected
+    public Card getCard() {
+        return card;
+    }
+
+    // EFFECTS: returns the team of the card that was selected
+    public Team getCardTeam() {
+        return card.getTeam();
+    }
+
+    // EFFECTS: returns the team whose operative made the guess
+    public Team getGuessingTeam() {
+        return guessingTeam;
+    }
+
+    // EFFECTS: returns true if the selected card belongs to the guessing team
+    public boolean isCorrect() {
+        return card.getTeam() == guessingTeam;
+    }
+
+    // EFFECTS: returns true if the guess passed the turn to the other team
+    public boolean isTurnEnded() {
+        return turnEnded;
+    }
+
+    // EFFECTS: returns how many more guesses the guessing team may make this turn
+    public int getGuessesRemaining() {
+        return guessesRemaining;
+    }
+
+    // EFFECTS: returns the outcome of the game after this guess
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    // EFFECTS: returns true if this guess decided the game
+    public boolean isGameOver() {
+        return outcome.isGameOver();
+    }
+}
@@ -0,0 +1,44 @@
+package model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+// Represents an event sink that keeps the most recent events in memory, up to a fixed limit, so that a long-running
+// process can show recent history without its memory growing with uptime
+public class MemoryEventSink implements EventSink, Iterable<Event> {
+    private final Deque<Event> events;  // Most recent events, oldest first
+    private final int limit;            // Most events kept
+
+    // REQUIRES: limit > 0
+    // EFFECTS: constructs an empty sink keeping at most limit events
+    public MemoryEventSink(int limit) {
+        this.events = new ArrayDeque<>();
+        this.limit = limit;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: keeps every event of batch, forgetting the oldest events once more than limit are kept
+    @Override
+    public synchronized void write(List<Event> batch) {
+        for (Event event : batch) {
+            if (events.size() == limit) {
+                events.removeFirst();
+            }
+            events.addLast(event);
+        }
+    }
+
+    // EFFECTS: returns the number of events kept
+    public synchronized int size() {
+        return events.size();
+    }
+
+    // EFFECTS: returns an iterator over a copy of the events kept, oldest first
+    @Override
+    public synchronized Iterator<Event> iterator() {
+        return new ArrayList<>(events).iterator();
+    }
+}
@@ -4,20 +4,20 @@ package model;
 import org.json.JSONObject;
 import persistence.Writable;
 
-import static model.Board.RED;
+import static model.Team.RED;
 
 // Structure for the persistence functionality is inspired by the UBC: CPSC 210 Software Construction WorkRoomApp
 
 // Represents playing as an Operative with associated actions
 public class Operative implements Writable {
-    private String teamName;     // Red or blue team
+    private Team teamName;       // Red or blue team
     private int teamScore;       // Tracker for the team's score
 
 
-    // REQUIRES: team is either "red" or "blue" (case-insensitive)
+    // REQUIRES: team is either RED or BLUE
     // MODIFIES: this
     // EFFECTS: assigns a team to the operative and initializes the score to 0
-    public Operative(String team) {
+    public Operative(Team team) {
         this.teamName = team;
         this.teamScore = 0;
     }
@@ -25,7 +25,7 @@ public class Operative implements Writable {
 
     // MODIFIES: this
     // EFFECTS: constructs a new Operative given data from a loaded game state
-    public Operative(String team, int score) {
+    public Operative(Team team, int score) {
         this.teamName = team;
         this.teamScore = score;
     }
@@ -37,7 +37,7 @@ public class Operative implements Writable {
     }
 
     // EFFECTS: returns the team's name
-    public String getTeamName() {
+    public Team getTeamName() {
         return teamName;
     }
 
@@ -50,11 +50,11 @@ public class Operative implements Writable {
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        if (teamName.equals(RED)) {
-            json.put("redOperativeTeamName", teamName);
+        if (teamName == RED) {
+            json.put("redOperativeTeamName", teamName.getLabel());
             json.put("redOperativeScore", teamScore);
         } else {
-            json.put("blueOperativeTeamName", teamName);
+            json.put("blueOperativeTeamName", teamName.getLabel());
             json.put("blueOperativeScore", teamScore);
         }
         return json;
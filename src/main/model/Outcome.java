@@ -0,0 +1,35 @@
+package model;
+
+// Represents whether a game is still being played, and if not, which team has won
+public enum Outcome {
+    IN_PROGRESS,
+    RED_WINS,
+    BLUE_WINS;
+
+    // REQUIRES: team is RED or BLUE
+    // EFFECTS: returns the outcome in which team has won
+    public static Outcome wonBy(Team team) {
+        if (team == Team.RED) {
+            return RED_WINS;
+        } else {
+            return BLUE_WINS;
+        }
+    }
+
+    // EFFECTS: returns true if a team has won
+    public boolean isGameOver() {
+        return this != IN_PROGRESS;
+    }
+
+    // EFFECTS: returns the winning team, or null if the game is still in progress
+    public Team getWinner() {
+        switch (this) {
+            case RED_WINS:
+                return Team.RED;
+            case BLUE_WINS:
+                return Team.BLUE;
+            default:
+                return null;
+        }
+    }
+}
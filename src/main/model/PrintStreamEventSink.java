@@ -0,0 +1,42 @@
+package model;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.List;
+
+// Represents an event sink that prints every event to a stream, such as System.out, in the same format as the GUI
+// prints its event log when it closes
+public class PrintStreamEventSink implements EventSink {
+    private final PrintStream out;
+
+    // EFFECTS: constructs a sink printing to out
+    public PrintStreamEventSink(PrintStream out) {
+        this.out = out;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: prints every event of batch
+    @Override
+    public void write(List<Event> batch) {
+        for (Event event : batch) {
+            out.println(event.toString() + "\n");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: flushes the stream
+    //          throws IOException if the stream has failed
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+        if (out.checkError()) {
+            throw new IOException("Unable to print events");
+        }
+    }
+
+    // EFFECTS: flushes the stream but leaves it open, since it is usually shared (e.g. System.out)
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+}
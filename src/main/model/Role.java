@@ -0,0 +1,24 @@
+package model;
+
+import java.util.Locale;
+
+// Represents which player on the current team is taking their turn
+public enum Role {
+    SPYMASTER,
+    OPERATIVE;
+
+    // EFFECTS: returns OPERATIVE for SPYMASTER and SPYMASTER for OPERATIVE
+    public Role next() {
+        if (this == SPYMASTER) {
+            return OPERATIVE;
+        } else {
+            return SPYMASTER;
+        }
+    }
+
+    // EFFECTS: returns the role with the given name (case-insensitive)
+    //          throws IllegalArgumentException if no role has that name
+    public static Role fromLabel(String label) {
+        return valueOf(label.toUpperCase(Locale.ROOT));
+    }
+}
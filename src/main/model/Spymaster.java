@@ -3,21 +3,21 @@ package model;
 import org.json.JSONObject;
 import persistence.Writable;
 
-import static model.Board.RED;
+import static model.Team.RED;
 
 // Structure for the persistence functionality is inspired by the UBC: CPSC 210 Software Construction WorkRoomApp
 
 // Represents playing as a Spymaster with associated actions
 public class Spymaster implements Writable {
-    private String teamName;     // Red or blue team
+    private Team teamName;       // Red or blue team
     private String hint;         // Hint provided by the operative
     private int guesses;         // Guesses provided by the operative
 
 
-    // REQUIRES: team is either "red" or "blue" (case-insensitive)
+    // REQUIRES: team is either RED or BLUE
     // MODIFIES: this
     // EFFECTS: assigns a team to the spymaster
-    public Spymaster(String team) {
+    public Spymaster(Team team) {
         this.teamName = team;
         this.hint = "";
         this.guesses = 0;
@@ -25,14 +25,14 @@ public class Spymaster implements Writable {
 
     // MODIFIES: this
     // EFFECTS: constructs a new Spymaster given data from a loaded game state
-    public Spymaster(String team, String hint, int guesses) {
+    public Spymaster(Team team, String hint, int guesses) {
         this.teamName = team;
         this.hint = hint;
         this.guesses = guesses;
     }
 
     // EFFECTS: returns the team's name
-    public String getTeamName() {
+    public Team getTeamName() {
         return teamName;
     }
 
@@ -71,12 +71,12 @@ public class Spymaster implements Writable {
     @Override
     public JSONObject toJson() {
         JSONObject json = new JSONObject();
-        if (teamName.equals(RED)) {
-            json.put("redSpymasterTeamName", teamName);
+        if (teamName == RED) {
+            json.put("redSpymasterTeamName", teamName.getLabel());
             json.put("redSpymasterHint", hint);
             json.put("redSpymasterGuesses", guesses);
         } else {
-            json.put("blueSpymasterTeamName", teamName);
+            json.put("blueSpymasterTeamName", teamName.getLabel());
             json.put("blueSpymasterHint", hint);
             json.put("blueSpymasterGuesses", guesses);
         }
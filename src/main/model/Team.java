@@ -0,0 +1,53 @@
+package model;
+
+import java.util.Locale;
+
+// Represents which team a card belongs to (RED, BLUE, NEUTRAL or ASSASSIN), and the UNKNOWN marker ("?") shown
+// in place of a team for cards that have not yet been revealed
+public enum Team {
+    RED("RED"),
+    BLUE("BLUE"),
+    NEUTRAL("NEUTRAL"),
+    ASSASSIN("ASSASSIN"),
+    UNKNOWN("?");
+
+    private final String label;     // Text used for this team in saved games and on screen
+
+    Team(String label) {
+        this.label = label;
+    }
+
+    // EFFECTS: returns the text used for this team in saved games and on screen
+    public String getLabel() {
+        return label;
+    }
+
+    // EFFECTS: returns BLUE for RED and RED for BLUE; every other team is its own opponent
+    public Team opponent() {
+        switch (this) {
+            case RED:
+                return BLUE;
+            case BLUE:
+                return RED;
+            default:
+                return this;
+        }
+    }
+
+    // EFFECTS: returns the team with the given label (case-insensitive)
+    //          throws IllegalArgumentException if no team has that label
+    public static Team fromLabel(String label) {
+        String upperLabel = label.toUpperCase(Locale.ROOT);
+        for (Team team : values()) {
+            if (team.label.equals(upperLabel)) {
+                return team;
+            }
+        }
+        throw new IllegalArgumentException("Unknown team: " + label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
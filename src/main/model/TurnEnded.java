@@ -0,0 +1,22 @@
+package model;
+
+// Represents the event of play passing from one team to the other
+public class TurnEnded extends Event {
+    private final Team nextTeam;    // Team whose turn it now is
+
+    // EFFECTS: constructs the event of play passing to nextTeam
+    public TurnEnded(Team nextTeam) {
+        this.nextTeam = nextTeam;
+    }
+
+    // EFFECTS: returns the text describing this event
+    @Override
+    protected String describe() {
+        return "Switching to the " + nextTeam + " team's turn!";
+    }
+
+    // EFFECTS: returns the team whose turn it now is
+    public Team getNextTeam() {
+        return nextTeam;
+    }
+}
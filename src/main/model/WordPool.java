@@ -0,0 +1,85 @@
+package model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Represents every word in dictionary.txt, loaded once per process and never modified. Games refer to words by their
+// index in the pool, so dealing a board does no I/O and copies no strings.
+public final class WordPool {
+    private static final String RESOURCE = "dictionary.txt";  // Classpath resource holding one word per line
+
+    private final String[] words;       // Interned words in file order
+    private final List<String> view;    // Read-only view of words handed out to callers
+    private final Map<String, Integer> indices;     // Index of every word in words
+
+    // EFFECTS: constructs a pool holding words
+    private WordPool(String[] words) {
+        this.words = words;
+        this.view = Collections.unmodifiableList(Arrays.asList(words));
+        this.indices = new HashMap<>();
+        for (int i = words.length - 1; i >= 0; i--) {
+            indices.put(words[i], i);
+        }
+    }
+
+    // EFFECTS: returns the pool, loading dictionary.txt from the classpath the first time it is called
+    public static WordPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    // EFFECTS: returns the word at the given index
+    //          throws ArrayIndexOutOfBoundsException if index is not in [0, size())
+    public String getWord(int index) {
+        return words[index];
+    }
+
+    // EFFECTS: returns the index of the first occurrence of word in the pool, or -1 if it is not in the pool
+    public int indexOf(String word) {
+        return indices.getOrDefault(word, -1);
+    }
+
+    // EFFECTS: returns the number of words in the pool
+    public int size() {
+        return words.length;
+    }
+
+    // EFFECTS: returns a read-only list of every word in the pool, in file order
+    public List<String> getWords() {
+        return view;
+    }
+
+    // EFFECTS: reads every line of dictionary.txt and returns the interned words; returns an empty array if the file
+    //          cannot be read. readLine already treats "\r\n" as a single line terminator, so no clean-up is needed.
+    // SOURCE: https://stackoverflow.com/questions/16953897/how-to-read-a-text-file-inside-a-jar
+    private static String[] load() {
+        List<String> lines = new ArrayList<>();
+        InputStream inputStream = ClassLoader.getSystemResourceAsStream(RESOURCE);
+        if (inputStream == null) {
+            System.out.println("File not found!!");
+            return new String[0];
+        }
+
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            for (String line; (line = in.readLine()) != null;) {
+                lines.add(line.intern());
+            }
+        } catch (IOException e) {
+            System.out.println("File not found!!");
+        }
+        return lines.toArray(new String[0]);
+    }
+
+    // Lazily creates the pool the first time getInstance is called; the JVM guarantees this happens exactly once
+    private static final class Holder {
+        private static final WordPool INSTANCE = new WordPool(load());
+    }
+}
@@ -0,0 +1,93 @@
+package model;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+// Represents a sampler that draws k distinct indices from [0, n) in random order using Floyd's algorithm. Drawing
+// costs O(k) whatever the size of n, so a board can be dealt from a dictionary of any size without touching every
+// word. The sampler reuses its scratch space between draws, so it is not safe to share between threads.
+public class WordSampler {
+    private static final int MIN_TABLE_SIZE = 16;
+    private static final ThreadLocal<WordSampler> CURRENT =
+            ThreadLocal.withInitial(() -> new WordSampler(ThreadLocalRandom.current()));
+
+    private final RandomGenerator random;   // Source of randomness for every draw
+    private int[] table;                    // Open-addressing set of drawn indices, stored as index + 1; 0 is empty
+
+    // EFFECTS: constructs a sampler drawing from random
+    public WordSampler(RandomGenerator random) {
+        this.random = random;
+        this.table = new int[MIN_TABLE_SIZE];
+    }
+
+    // EFFECTS: returns a sampler for the calling thread, backed by ThreadLocalRandom
+    public static WordSampler current() {
+        return CURRENT.get();
+    }
+
+    // REQUIRES: 0 <= k <= n
+    // EFFECTS: returns k distinct indices drawn uniformly from [0, n), in random order
+    public int[] sample(int n, int k) {
+        int[] out = new int[k];
+        sample(n, k, out);
+        return out;
+    }
+
+    // REQUIRES: 0 <= k <= n and out.length >= k
+    // MODIFIES: this, out
+    // EFFECTS: fills out[0, k) with k distinct indices drawn uniformly from [0, n), in random order
+    //          throws IllegalArgumentException if k or n is out of range
+    public void sample(int n, int k, int[] out) {
+        if (k < 0 || k > n || k > out.length) {
+            throw new IllegalArgumentException("Cannot draw " + k + " of " + n + " indices");
+        }
+        int mask = clearTable(k);
+
+        // Floyd's algorithm: each j adds either a fresh index below j or, if that is already drawn, j itself
+        int drawn = 0;
+        for (int j = n - k; j < n; j++) {
+            int t = random.nextInt(j + 1);
+            if (!addIfAbsent(t, mask)) {
+                t = j;
+                addIfAbsent(j, mask);
+            }
+            out[drawn++] = t;
+        }
+
+        // Floyd's draws are a uniform subset but not in uniform order, so shuffle the k drawn indices
+        for (int i = k - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = out[i];
+            out[i] = out[j];
+            out[j] = swap;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: empties a region of table large enough to hold k indices at most half full and returns its mask
+    private int clearTable(int k) {
+        int size = Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(Math.max(1, 2 * k - 1)) << 1);
+        if (table.length < size) {
+            table = new int[size];
+        } else {
+            Arrays.fill(table, 0, size, 0);
+        }
+        return size - 1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds index to the set held in table[0, mask] and returns true, or returns false if it is already there
+    private boolean addIfAbsent(int index, int mask) {
+        int hash = index * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (table[slot] != 0) {
+            if (table[slot] == index + 1) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = index + 1;
+        return true;
+    }
+}
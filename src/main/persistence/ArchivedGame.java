@@ -0,0 +1,139 @@
+package persistence;
+
+import model.Outcome;
+import model.Team;
+import model.WordPool;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static persistence.GameArchive.*;
+
+// Represents a read-only view of one record of a GameArchive. Every accessor reads straight from the mapped segment,
+// so a scan can move one view from record to record without decoding whole games or allocating per game.
+public class ArchivedGame {
+    private ByteBuffer segment;     // Segment holding the record
+    private int offset;             // Offset of the record within segment
+
+    // EFFECTS: constructs a view that is not yet pointing at a record
+    ArchivedGame() {
+    }
+
+    // MODIFIES: this
+    // EFFECTS: points this view at the record at offset in segment
+    void moveTo(ByteBuffer segment, int offset) {
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    // EFFECTS: returns the id of the game
+    public long getId() {
+        return segment.getLong(offset + ID);
+    }
+
+    // EFFECTS: returns the outcome of the game when it was archived
+    public Outcome getOutcome() {
+        return Outcome.values()[segment.get(offset + OUTCOME)];
+    }
+
+    // EFFECTS: returns the team that went first
+    public Team getStartingTeam() {
+        return (flags() & STARTS_BLUE) != 0 ? Team.BLUE : Team.RED;
+    }
+
+    // EFFECTS: returns the number of cards on the board
+    public int getNumCards() {
+        return segment.get(offset + NUM_CARDS);
+    }
+
+    // REQUIRES: 0 <= i < getNumCards()
+    // EFFECTS: returns the id in the WordPool of the i-th card's word, or -1 if the word is not in the pool
+    public int getWordId(int i) {
+        return segment.getShort(offset + WORDS + i * Short.BYTES);
+    }
+
+    // REQUIRES: 0 <= i < getNumCards()
+    // EFFECTS: returns the i-th card's word, or null if the word is not in the WordPool
+    public String getWord(int i) {
+        int id = getWordId(i);
+        return id < 0 ? null : WordPool.getInstance().getWord(id);
+    }
+
+    // REQUIRES: team is RED, BLUE, NEUTRAL or ASSASSIN
+    // EFFECTS: returns the mask of the cards belonging to team, card i in bit i
+    public int getTeamMask(Team team) {
+        for (int code = 0; code < BinaryWriter.TEAM_CODES.length; code++) {
+            if (BinaryWriter.TEAM_CODES[code] == team) {
+                return segment.getInt(offset + TEAM_MASKS + code * Integer.BYTES);
+            }
+        }
+        return 0;
+    }
+
+    // REQUIRES: 0 <= i < getNumCards()
+    // EFFECTS: returns the team the i-th card belongs to
+    public Team getTeam(int i) {
+        for (int code = 0; code < BinaryWriter.TEAM_CODES.length; code++) {
+            if ((segment.getInt(offset + TEAM_MASKS + code * Integer.BYTES) & (1 << i)) != 0) {
+                return BinaryWriter.TEAM_CODES[code];
+            }
+        }
+        return Team.UNKNOWN;
+    }
+
+    // EFFECTS: returns the mask of the cards revealed when the game was archived, card i in bit i
+    public int getRevealedMask() {
+        return segment.getInt(offset + REVEALED);
+    }
+
+    // EFFECTS: returns the number of clues stored; see isCluesTruncated
+    public int getNumClues() {
+        return segment.get(offset + NUM_CLUES);
+    }
+
+    // EFFECTS: returns true if more than MAX_CLUES clues were given and only the first MAX_CLUES were stored
+    public boolean isCluesTruncated() {
+        return (flags() & CLUES_TRUNCATED) != 0;
+    }
+
+    // REQUIRES: 0 <= i < getNumClues()
+    // EFFECTS: returns the i-th clue given, cut to CLUE_TEXT_BYTES bytes of UTF-8
+    public String getClue(int i) {
+        int start = offset + CLUES + i * CLUE_BYTES + 1;
+        int length = 0;
+        while (length < CLUE_TEXT_BYTES && segment.get(start + length) != 0) {
+            length++;
+        }
+        byte[] text = new byte[length];
+        segment.get(start, text);
+        return new String(text, StandardCharsets.UTF_8);
+    }
+
+    // REQUIRES: 0 <= i < getNumClues()
+    // EFFECTS: returns the number of agents the i-th clue was given for
+    public int getClueCount(int i) {
+        return segment.get(offset + CLUES + i * CLUE_BYTES);
+    }
+
+    // EFFECTS: returns the number of cards guessed
+    public int getNumGuesses() {
+        return segment.get(offset + NUM_GUESSES);
+    }
+
+    // REQUIRES: 0 <= i < getNumGuesses()
+    // EFFECTS: returns the 0-based position of the i-th card guessed
+    public int getGuessPosition(int i) {
+        return segment.getShort(offset + GUESSES + i * Short.BYTES) & 0xFF;
+    }
+
+    // REQUIRES: 0 <= i < getNumGuesses()
+    // EFFECTS: returns the index of the clue the i-th card was guessed under
+    public int getGuessClue(int i) {
+        return (segment.getShort(offset + GUESSES + i * Short.BYTES) >> 8) & 0xFF;
+    }
+
+    // EFFECTS: returns the flags of the record
+    private int flags() {
+        return segment.get(offset + FLAGS);
+    }
+}
@@ -0,0 +1,118 @@
+package persistence;
+
+import model.Board;
+import model.Card;
+import model.Operative;
+import model.Role;
+import model.Spymaster;
+import model.Team;
+import model.WordPool;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static model.Team.*;
+import static persistence.BinaryWriter.*;
+
+// Represents a reader that reads a game state from a binary snapshot written by BinaryWriter
+public class BinaryReader implements GameReader {
+    private final String source;
+    private Board board;
+    private Spymaster redSpymaster;
+    private Spymaster blueSpymaster;
+    private Operative redOperative;
+    private Operative blueOperative;
+
+    // EFFECTS: constructs reader to read from source file
+    public BinaryReader(String source) {
+        this.source = source;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the snapshot from the source file
+    //          throws IOException if the file cannot be read or does not hold a snapshot of a supported version
+    @Override
+    public void read() throws IOException {
+        read(Files.readAllBytes(Paths.get(source)));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the snapshot held in bytes
+    //          throws IOException if bytes do not hold a complete snapshot of a supported version
+    public void read(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a binary snapshot: " + source);
+            }
+            int version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported snapshot version " + version + ": " + source);
+            }
+
+            board = parseBoard(in);
+            redSpymaster = new Spymaster(RED, in.readUTF(), in.readInt());
+            blueSpymaster = new Spymaster(BLUE, in.readUTF(), in.readInt());
+            redOperative = new Operative(RED, in.readInt());
+            blueOperative = new Operative(BLUE, in.readInt());
+        }
+    }
+
+    // EFFECTS: parses the board's turn, team codes, revealed cards and words from in and returns the board
+    private Board parseBoard(DataInputStream in) throws IOException {
+        int flags = in.readByte();
+        Team startingTeam = (flags & STARTS_BLUE) != 0 ? BLUE : RED;
+        Team currentTeam = (flags & CURRENT_BLUE) != 0 ? BLUE : RED;
+        Role currentPlayer = (flags & OPERATIVE_PLAYING) != 0 ? Role.OPERATIVE : Role.SPYMASTER;
+        int numRedCards = in.readUnsignedByte();
+        int numBlueCards = in.readUnsignedByte();
+        int numCards = in.readUnsignedByte();
+        if (numCards > MAX_CARDS) {
+            throw new IOException("Snapshot holds too many cards: " + numCards);
+        }
+        long teamCodes = in.readLong();
+        int revealed = in.readInt();
+
+        Board bd = new Board(startingTeam, currentTeam, currentPlayer, numRedCards, numBlueCards);
+        for (int i = 0; i < numCards; i++) {
+            Team team = TEAM_CODES[(int) (teamCodes >>> (TEAM_BITS * i)) & TEAM_MASK];
+            Team visibleTeam = (revealed & (1 << i)) != 0 ? team : UNKNOWN;
+            bd.addCards(new Card(parseWord(in), team, visibleTeam, i + 1));
+        }
+        return bd;
+    }
+
+    // EFFECTS: parses a word id, or a word that is not in the WordPool, from in and returns the word
+    private String parseWord(DataInputStream in) throws IOException {
+        int id = in.readShort();
+        if (id == NEW_WORD) {
+            return in.readUTF();
+        }
+        if (id < 0 || id >= WordPool.getInstance().size()) {
+            throw new IOException("Snapshot refers to unknown word " + id);
+        }
+        return WordPool.getInstance().getWord(id);
+    }
+
+    // EFFECTS: returns the board read from the snapshot
+    @Override
+    public Board readBoard() {
+        return board;
+    }
+
+    // REQUIRES: team to be RED or BLUE
+    // EFFECTS: returns the spymaster of team read from the snapshot
+    @Override
+    public Spymaster readSpymaster(Team team) {
+        return team == RED ? redSpymaster : blueSpymaster;
+    }
+
+    // REQUIRES: team to be RED or BLUE
+    // EFFECTS: returns the operative of team read from the snapshot
+    @Override
+    public Operative readOperative(Team team) {
+        return team == RED ? redOperative : blueOperative;
+    }
+}
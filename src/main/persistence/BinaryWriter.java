@@ -0,0 +1,147 @@
+package persistence;
+
+import model.Board;
+import model.Card;
+import model.GameEngine;
+import model.Operative;
+import model.Role;
+import model.Spymaster;
+import model.Team;
+import model.WordPool;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static model.Team.*;
+
+// Represents a writer that saves a game state as a compact binary snapshot, typically under 100 bytes for a full
+// board. Version 1 of the format is, in big-endian order:
+//  int    MAGIC
+//  byte   VERSION
+//  byte   flags: STARTS_BLUE | CURRENT_BLUE | OPERATIVE_PLAYING
+//  byte   number of RED cards dealt, byte number of BLUE cards dealt
+//  byte   number of cards, n (at most 32)
+//  long   2-bit team code of every card (its index in TEAM_CODES), card i in bits 2i and 2i + 1
+//  int    revealed cards, card i in bit i
+//  n *    short id of the card's word in the WordPool, or -1 followed by the word as length-prefixed UTF-8
+//  2 *    RED then BLUE spymaster: hint as length-prefixed UTF-8, int guesses
+//  2 *    RED then BLUE operative: int score
+public class BinaryWriter {
+    public static final int MAGIC = 0x434E4253;    // "CNBS": CodeNames Binary Snapshot
+    public static final byte VERSION = 1;           // Version of the format written
+
+    static final int STARTS_BLUE = 1;               // Flag set if BLUE started the game
+    static final int CURRENT_BLUE = 2;              // Flag set if it is BLUE's turn
+    static final int OPERATIVE_PLAYING = 4;         // Flag set if it is the operative's turn
+    static final int MAX_CARDS = Integer.SIZE;      // Cards that fit in the revealed mask
+    static final int TEAM_BITS = 2;                 // Bits per team code
+    static final int TEAM_MASK = 3;                 // Mask of one team code
+    static final int NEW_WORD = -1;                 // Word id marking a word that is not in the WordPool
+    static final Team[] TEAM_CODES = {RED, BLUE, NEUTRAL, ASSASSIN};    // Teams by their code
+
+    private final String destination;
+
+    // EFFECTS: constructs writer to write to destination file
+    public BinaryWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // EFFECTS: saves game to the destination file, replacing anything already there
+    //          throws IOException if the file cannot be written
+    public void write(GameEngine game) throws IOException {
+        Files.write(Paths.get(destination), toBytes(game));
+    }
+
+    // EFFECTS: returns the binary snapshot of game
+    //          throws IllegalArgumentException if the board has more than MAX_CARDS cards or a card has no team
+    public static byte[] toBytes(GameEngine game) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            writeBoard(out, game.getBoard());
+            writeSpymaster(out, game.getSpymaster(RED));
+            writeSpymaster(out, game.getSpymaster(BLUE));
+            out.writeInt(game.getOperative(RED).getTeamScore());
+            out.writeInt(game.getOperative(BLUE).getTeamScore());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // Writing to memory cannot fail
+        }
+        return bytes.toByteArray();
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the board's turn, team codes, revealed cards and words to out
+    private static void writeBoard(DataOutputStream out, Board board) throws IOException {
+        List<Card> cards = board.getBoard();
+        if (cards.size() > MAX_CARDS) {
+            throw new IllegalArgumentException("Cannot save a board of " + cards.size() + " cards");
+        }
+
+        out.writeByte(flags(board));
+        out.writeByte(board.getNumOriginalRedCards());
+        out.writeByte(board.getNumOriginalBlueCards());
+        out.writeByte(cards.size());
+        out.writeLong(teamCodes(cards));
+        out.writeInt(board.getBitBoard().getRevealedMask());
+
+        WordPool pool = WordPool.getInstance();
+        for (Card card : cards) {
+            int id = pool.indexOf(card.getWord());
+            if (id > Short.MAX_VALUE) {
+                id = NEW_WORD;      // Only the first Short.MAX_VALUE + 1 words of a large pool have ids
+            }
+            out.writeShort(id);
+            if (id == NEW_WORD) {
+                out.writeUTF(card.getWord());
+            }
+        }
+    }
+
+    // EFFECTS: returns the flags describing whose turn it is on board
+    private static int flags(Board board) {
+        int flags = 0;
+        if (board.getStartingTeam() == BLUE) {
+            flags |= STARTS_BLUE;
+        }
+        if (board.getCurrentTeam() == BLUE) {
+            flags |= CURRENT_BLUE;
+        }
+        if (board.getCurrentPlayer() == Role.OPERATIVE) {
+            flags |= OPERATIVE_PLAYING;
+        }
+        return flags;
+    }
+
+    // EFFECTS: returns the team code of every card packed TEAM_BITS bits apiece
+    private static long teamCodes(List<Card> cards) {
+        long codes = 0;
+        for (int i = 0; i < cards.size(); i++) {
+            codes |= (long) codeOf(cards.get(i)) << (TEAM_BITS * i);
+        }
+        return codes;
+    }
+
+    // EFFECTS: returns the code of card's team
+    //          throws IllegalArgumentException if card does not belong to a team
+    private static int codeOf(Card card) {
+        for (int code = 0; code < TEAM_CODES.length; code++) {
+            if (TEAM_CODES[code] == card.getTeam()) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("Card " + card.getWord() + " does not belong to a team");
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes spymaster's hint and guesses to out
+    private static void writeSpymaster(DataOutputStream out, Spymaster spymaster) throws IOException {
+        out.writeUTF(spymaster.getHint());
+        out.writeInt(spymaster.getGuesses());
+    }
+}
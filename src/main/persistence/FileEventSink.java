@@ -0,0 +1,54 @@
+package persistence;
+
+import model.Event;
+import model.EventSink;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Represents an event sink that appends every event to a text file, one line per event: the time it was logged in
+// nanoseconds since the epoch, a tab, then its description
+public class FileEventSink implements EventSink {
+    private final Writer writer;
+
+    // EFFECTS: constructs a sink appending to destination, creating it if needed
+    //          throws IOException if destination cannot be opened for writing
+    public FileEventSink(String destination) throws IOException {
+        this.writer = Files.newBufferedWriter(Paths.get(destination), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends every event of batch to the file's buffer
+    //          throws IOException if the events cannot be written
+    @Override
+    public void write(List<Event> batch) throws IOException {
+        for (Event event : batch) {
+            writer.write(Long.toString(event.getTimestampNanos()));
+            writer.write('\t');
+            writer.write(event.getDescription().replace('\n', ' '));
+            writer.write('\n');
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the buffered events to the file
+    //          throws IOException if the events cannot be written
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the buffered events to the file and closes it
+    //          throws IOException if the events cannot be written
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
@@ -0,0 +1,290 @@
+package persistence;
+
+import model.Board;
+import model.Card;
+import model.GameEngine;
+import model.Team;
+import model.WordPool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Represents an append-only store of finished games for analytics. Every game is one fixed-width record, so the
+// record of game id is found by arithmetic alone and scans walk memory-mapped segment files without parsing or
+// allocating. Ids are handed out in order from 0 by append. Segments are files of recordsPerSegment records named
+// segment-NNNNNN.cna in the archive's directory; a new one is created whenever the last is full.
+//
+// Record layout, RECORD_BYTES bytes, big-endian:
+//  0    byte   WRITTEN once the record is complete, 0 before
+//  1    byte   flags: STARTS_BLUE | CLUES_TRUNCATED
+//  2    byte   ordinal of the Outcome
+//  3    byte   number of cards, n (at most MAX_CARDS)
+//  4    byte   number of clues stored (at most MAX_CLUES)
+//  5    byte   number of guesses (at most MAX_CARDS)
+//  8    long   id
+//  16   4 *    int mask of the cards of each team, in BinaryWriter.TEAM_CODES order
+//  32   int    mask of the cards revealed
+//  36   n *    short id of the card's word in the WordPool, or -1 if the word is not in the pool
+//  100  short  every guess: index of the clue it was made under << 8 | 0-based position of the card
+//  164  clue   every clue: byte count, then up to CLUE_TEXT_BYTES bytes of UTF-8 padded with 0
+public class GameArchive implements Closeable {
+    public static final int RECORD_BYTES = 512;                 // Size of every record
+    public static final int MAX_CARDS = Integer.SIZE;           // Cards stored per game
+    public static final int MAX_CLUES = 21;                     // Clues stored per game; later clues are dropped
+    public static final int CLUE_TEXT_BYTES = 15;               // Bytes of UTF-8 stored per clue
+    public static final int DEFAULT_RECORDS_PER_SEGMENT = 1 << 16;  // 32 MiB segments
+
+    static final byte WRITTEN = 1;
+    static final int STARTS_BLUE = 1;           // Flag set if BLUE started the game
+    static final int CLUES_TRUNCATED = 2;       // Flag set if more than MAX_CLUES clues were given
+    static final int STATUS = 0;
+    static final int FLAGS = 1;
+    static final int OUTCOME = 2;
+    static final int NUM_CARDS = 3;
+    static final int NUM_CLUES = 4;
+    static final int NUM_GUESSES = 5;
+    static final int ID = 8;
+    static final int TEAM_MASKS = 16;
+    static final int REVEALED = 32;
+    static final int WORDS = 36;
+    static final int GUESSES = WORDS + MAX_CARDS * Short.BYTES;
+    static final int CLUES = GUESSES + MAX_CARDS * Short.BYTES;
+    static final int CLUE_BYTES = 1 + CLUE_TEXT_BYTES;
+
+    private static final String SEGMENT_FORMAT = "segment-%06d.cna";
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final List<MappedByteBuffer> segments;  // Every segment, in order
+    private volatile long size;                     // Number of complete records; ids below it may be read
+
+    // EFFECTS: constructs an archive over the given (open) segments holding size records
+    private GameArchive(Path directory, int recordsPerSegment, List<MappedByteBuffer> segments, long size) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+        this.segments = segments;
+        this.size = size;
+    }
+
+    // EFFECTS: opens the archive in directory, creating it if needed, with DEFAULT_RECORDS_PER_SEGMENT records per
+    //          segment
+    //          throws IOException if the directory or its segments cannot be opened
+    public static GameArchive open(String directory) throws IOException {
+        return open(directory, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    // REQUIRES: 0 < recordsPerSegment <= Integer.MAX_VALUE / RECORD_BYTES, and the archive was created with the same
+    //           recordsPerSegment
+    // EFFECTS: opens the archive in directory, creating it if needed; records left incomplete by a crash are ignored
+    //          and will be overwritten by the next append
+    //          throws IOException if the directory or its segments cannot be opened or have the wrong size
+    public static GameArchive open(String directory, int recordsPerSegment) throws IOException {
+        Path dir = Paths.get(directory);
+        Files.createDirectories(dir);
+        List<MappedByteBuffer> segments = new ArrayList<>();
+        Path path;
+        while (Files.exists(path = dir.resolve(String.format(SEGMENT_FORMAT, segments.size())))) {
+            if (Files.size(path) != (long) recordsPerSegment * RECORD_BYTES) {
+                throw new IOException("Segment " + path + " does not hold " + recordsPerSegment + " records");
+            }
+            segments.add(map(path, recordsPerSegment));
+        }
+
+        long size = 0;
+        if (!segments.isEmpty()) {
+            size = (long) (segments.size() - 1) * recordsPerSegment
+                    + countWritten(segments.get(segments.size() - 1), recordsPerSegment);
+        }
+        return new GameArchive(dir, recordsPerSegment, segments, size);
+    }
+
+    // REQUIRES: recorder has been listening to game since it was dealt
+    // MODIFIES: this
+    // EFFECTS: appends the record of game and the history held by recorder, and returns the game's id
+    //          throws IllegalArgumentException if the board has more than MAX_CARDS cards
+    //          throws IOException if a new segment cannot be created
+    public synchronized long append(GameEngine game, GameRecorder recorder) throws IOException {
+        List<Card> cards = game.getBoard().getBoard();
+        if (cards.size() > MAX_CARDS) {
+            throw new IllegalArgumentException("Cannot archive a board of " + cards.size() + " cards");
+        }
+
+        long id = size;
+        int segment = (int) (id / recordsPerSegment);
+        if (segment == segments.size()) {
+            Path path = directory.resolve(String.format(SEGMENT_FORMAT, segment));
+            segments.add(map(path, recordsPerSegment));
+        }
+        MappedByteBuffer buffer = segments.get(segment);
+        int offset = (int) (id % recordsPerSegment) * RECORD_BYTES;
+
+        clear(buffer, offset);
+        writeBoard(buffer, offset, game);
+        writeHistory(buffer, offset, recorder);
+        buffer.putLong(offset + ID, id);
+        buffer.put(offset + STATUS, WRITTEN);
+        size = id + 1;
+        return id;
+    }
+
+    // EFFECTS: returns a view of the record of the game with the given id
+    //          throws IndexOutOfBoundsException if no game has that id
+    public ArchivedGame get(long id) {
+        ArchivedGame view = new ArchivedGame();
+        moveTo(view, id);
+        return view;
+    }
+
+    // EFFECTS: calls visitor with every game in the archive, in id order
+    public void scan(Consumer<ArchivedGame> visitor) {
+        scan(0, size, visitor);
+    }
+
+    // REQUIRES: 0 <= from <= to <= size()
+    // EFFECTS: calls visitor with every game whose id is in [from, to), in id order; the view passed to visitor is
+    //          reused for the next game, so it must not be kept
+    public void scan(long from, long to, Consumer<ArchivedGame> visitor) {
+        ArchivedGame view = new ArchivedGame();
+        for (long id = from; id < to; id++) {
+            moveTo(view, id);
+            visitor.accept(view);
+        }
+    }
+
+    // EFFECTS: returns the number of games in the archive
+    public long size() {
+        return size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forces every record appended so far to disk
+    public synchronized void flush() {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forces every record to disk and stops using the segments; the archive must not be used afterwards
+    @Override
+    public synchronized void close() {
+        flush();
+        segments.clear();
+        size = 0;
+    }
+
+    // MODIFIES: view
+    // EFFECTS: points view at the record of the game with the given id
+    //          throws IndexOutOfBoundsException if no game has that id
+    private void moveTo(ArchivedGame view, long id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("No game has id " + id);
+        }
+        view.moveTo(segments.get((int) (id / recordsPerSegment)), (int) (id % recordsPerSegment) * RECORD_BYTES);
+    }
+
+    // MODIFIES: buffer
+    // EFFECTS: writes the outcome, team masks, revealed mask and words of game's board to the record at offset
+    private static void writeBoard(MappedByteBuffer buffer, int offset, GameEngine game) {
+        Board board = game.getBoard();
+        List<Card> cards = board.getBoard();
+        if (board.getStartingTeam() == Team.BLUE) {
+            buffer.put(offset + FLAGS, (byte) STARTS_BLUE);
+        }
+        buffer.put(offset + OUTCOME, (byte) game.getOutcome().ordinal());
+        buffer.put(offset + NUM_CARDS, (byte) cards.size());
+        for (int code = 0; code < BinaryWriter.TEAM_CODES.length; code++) {
+            int mask = board.getBitBoard().getTeamMask(BinaryWriter.TEAM_CODES[code]);
+            buffer.putInt(offset + TEAM_MASKS + code * Integer.BYTES, mask);
+        }
+        buffer.putInt(offset + REVEALED, board.getBitBoard().getRevealedMask());
+
+        WordPool pool = WordPool.getInstance();
+        for (int i = 0; i < cards.size(); i++) {
+            int id = pool.indexOf(cards.get(i).getWord());
+            if (id > Short.MAX_VALUE) {
+                id = BinaryWriter.NEW_WORD;
+            }
+            buffer.putShort(offset + WORDS + i * Short.BYTES, (short) id);
+        }
+    }
+
+    // MODIFIES: buffer
+    // EFFECTS: writes the clues and guesses held by recorder to the record at offset
+    private static void writeHistory(MappedByteBuffer buffer, int offset, GameRecorder recorder) {
+        int numClues = Math.min(recorder.getNumClues(), MAX_CLUES);
+        if (numClues < recorder.getNumClues()) {
+            buffer.put(offset + FLAGS, (byte) (buffer.get(offset + FLAGS) | CLUES_TRUNCATED));
+        }
+        buffer.put(offset + NUM_CLUES, (byte) numClues);
+        for (int i = 0; i < numClues; i++) {
+            int start = offset + CLUES + i * CLUE_BYTES;
+            buffer.put(start, (byte) Math.max(0, Math.min(recorder.getClueCount(i), Byte.MAX_VALUE)));
+            byte[] text = truncate(recorder.getClue(i).getBytes(StandardCharsets.UTF_8));
+            buffer.put(start + 1, text);
+        }
+
+        int numGuesses = Math.min(recorder.getNumGuesses(), MAX_CARDS);
+        buffer.put(offset + NUM_GUESSES, (byte) numGuesses);
+        for (int i = 0; i < numGuesses; i++) {
+            int clue = Math.min(recorder.getGuessClue(i), 0xFF);
+            buffer.putShort(offset + GUESSES + i * Short.BYTES, (short) (clue << 8 | recorder.getGuessPosition(i)));
+        }
+    }
+
+    // EFFECTS: returns utf8 cut to at most CLUE_TEXT_BYTES bytes without splitting a character
+    private static byte[] truncate(byte[] utf8) {
+        if (utf8.length <= CLUE_TEXT_BYTES) {
+            return utf8;
+        }
+        int cut = CLUE_TEXT_BYTES;
+        while (cut > 0 && (utf8[cut] & 0xC0) == 0x80) {
+            cut--;      // utf8[cut] continues the character before it
+        }
+        byte[] truncated = new byte[cut];
+        System.arraycopy(utf8, 0, truncated, 0, cut);
+        return truncated;
+    }
+
+    // MODIFIES: buffer
+    // EFFECTS: zeroes the record at offset, which may hold part of a record torn by a crash
+    private static void clear(MappedByteBuffer buffer, int offset) {
+        for (int i = 0; i < RECORD_BYTES; i += Long.BYTES) {
+            buffer.putLong(offset + i, 0L);
+        }
+    }
+
+    // EFFECTS: returns the number of complete records at the start of segment; records are written in order, so
+    //          they are found by binary search
+    private static int countWritten(MappedByteBuffer segment, int recordsPerSegment) {
+        int low = 0;
+        int high = recordsPerSegment;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (segment.get(mid * RECORD_BYTES + STATUS) == WRITTEN) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // EFFECTS: maps the segment file at path, creating it with room for recordsPerSegment records if needed
+    private static MappedByteBuffer map(Path path, int recordsPerSegment) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_BYTES);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package persistence;
+
+import model.GameEngine;
+import model.GameListener;
+import model.GuessResult;
+import model.Team;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+// Represents a durable save of one game made of a compacted snapshot plus an append-only journal of the actions taken
+// since. Registered as a GameListener, it appends one small record per clue, guess or ended turn instead of rewriting
+// the whole game, and every compactEvery records it folds them into a fresh snapshot. A crash at any point loses at
+// most the record being written: recover() loads the snapshot and replays every intact record after it. If a write
+// fails, the game carries on: autosave is disabled with a warning and the error is kept for getFailure(). Once a guess
+// ends the game both files are deleted, so a finished game is never recovered.
+//
+// Files, both big-endian:
+//  <base>.snapshot     long generation, then a BinaryWriter snapshot; replaced atomically
+//  <base>.journal      int JOURNAL_MAGIC, long generation, then records of
+//                      int length of type and payload, byte type, payload, int CRC-32 of type and payload
+// Journal records only apply to the snapshot of the same generation, so a journal left behind by a crash during
+// compaction is recognised as stale and ignored.
+public class GameJournal implements GameListener, Closeable {
+    public static final int DEFAULT_COMPACT_EVERY = 64;    // Records appended between snapshots by default
+    public static final int JOURNAL_MAGIC = 0x434E4A4C;     // "CNJL": CodeNames JournaL
+
+    private static final int HEADER_BYTES = Integer.BYTES + Long.BYTES;
+    private static final int MAX_RECORD_BYTES = 1 << 16;    // Larger lengths can only come from a corrupt journal
+    private static final byte CLUE = 1;                     // Payload: clue as length-prefixed UTF-8, int count
+    private static final byte GUESS = 2;                    // Payload: int 0-based position
+    private static final byte END_TURN = 3;                 // No payload
+
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final int compactEvery;         // Records appended before the game is compacted into a new snapshot
+    private final boolean sync;             // True to force every append to disk, not just to the OS
+    private final ByteArrayOutputStream record;     // Scratch space for the record being appended
+    private FileChannel journal;            // Open journal, or null before start or recover
+    private long generation;                // Generation of the current snapshot
+    private int pendingRecords;             // Records appended since the current snapshot
+    private IOException failure;            // Error that disabled autosave, or null while it is enabled
+
+    // EFFECTS: constructs a journal saving to base.snapshot and base.journal, compacting every
+    //          DEFAULT_COMPACT_EVERY records and forcing every append to disk
+    public GameJournal(String base) {
+        this(base, DEFAULT_COMPACT_EVERY, true);
+    }
+
+    // REQUIRES: compactEvery > 0
+    // EFFECTS: constructs a journal saving to base.snapshot and base.journal; if sync, every append is forced to
+    //          disk before returning, otherwise appends survive a crash of the process but not of the machine
+    public GameJournal(String base, int compactEvery, boolean sync) {
+        this.snapshotPath = Paths.get(base + ".snapshot");
+        this.journalPath = Paths.get(base + ".journal");
+        this.compactEvery = compactEvery;
+        this.sync = sync;
+        this.record = new ByteArrayOutputStream();
+    }
+
+    // EFFECTS: returns true if a game has been saved to this journal
+    public boolean exists() {
+        return Files.exists(snapshotPath);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces anything saved with a snapshot of game and an empty journal
+    //          throws IOException if the files cannot be written
+    public void start(GameEngine game) throws IOException {
+        failure = null;
+        generation = exists() ? readSnapshotGeneration() + 1 : 0;
+        compact(game, generation);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: folds every record appended so far into a new snapshot of game and empties the journal
+    //          throws IOException if the files cannot be written
+    public void compact(GameEngine game) throws IOException {
+        compact(game, generation + 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the saved game: the snapshot with every intact journal record replayed on top of it; a torn
+    //          record left by a crash, and anything after it, is cut from the journal so appends can carry on
+    //          throws IOException if nothing is saved, the snapshot is unreadable or a record cannot be replayed
+    public GameEngine recover() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        generation = in.readLong();
+        BinaryReader reader = new BinaryReader(snapshotPath.toString());
+        reader.read(Arrays.copyOfRange(bytes, Long.BYTES, bytes.length));
+        GameEngine game = new GameEngine(reader.readBoard(), reader.readSpymaster(Team.RED),
+                reader.readSpymaster(Team.BLUE), reader.readOperative(Team.RED), reader.readOperative(Team.BLUE));
+
+        closeJournal();
+        failure = null;
+        journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (readJournalGeneration() != generation) {
+                resetJournal();
+            } else {
+                replay(game);
+            }
+        } catch (IOException | RuntimeException e) {
+            closeJournal();
+            throw e;
+        }
+        return game;
+    }
+
+    // EFFECTS: returns the number of records appended since the last snapshot
+    public int getPendingRecords() {
+        return pendingRecords;
+    }
+
+    // EFFECTS: returns the error that disabled autosave, or null if actions are still being saved
+    public IOException getFailure() {
+        return failure;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the clue to the journal, unless autosave has been disabled
+    @Override
+    public void clueGiven(GameEngine game, String clue, int count) {
+        try (DataOutputStream out = beginRecord(CLUE)) {
+            out.writeUTF(clue);
+            out.writeInt(count);
+        } catch (IOException e) {
+            disable(e);
+        }
+        append(game);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the guess to the journal, unless autosave has been disabled; deletes the save if the guess
+    //          ended the game
+    @Override
+    public void cardGuessed(GameEngine game, int position, GuessResult result) {
+        try (DataOutputStream out = beginRecord(GUESS)) {
+            out.writeInt(position);
+        } catch (IOException e) {
+            disable(e);
+        }
+        append(game);
+        if (result.isGameOver()) {
+            try {
+                clear();
+            } catch (IOException e) {
+                disable(e);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the end of the turn to the journal, unless autosave has been disabled
+    @Override
+    public void turnEnded(GameEngine game, Team team) {
+        beginRecord(END_TURN);
+        append(game);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the journal and deletes the snapshot and the journal, so that exists() is false
+    //          throws IOException if the files cannot be deleted
+    public void clear() throws IOException {
+        closeJournal();
+        Files.deleteIfExists(snapshotPath);
+        Files.deleteIfExists(journalPath);
+        pendingRecords = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the journal; anything appended is already on disk
+    @Override
+    public void close() throws IOException {
+        closeJournal();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: atomically replaces the snapshot with one of game at the given generation, then empties the journal
+    private void compact(GameEngine game, long newGeneration) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(newGeneration);
+            out.write(BinaryWriter.toBytes(game));
+        }
+
+        Path temp = Paths.get(snapshotPath + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, ByteBuffer.wrap(bytes.toByteArray()));
+            channel.force(true);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        generation = newGeneration;
+        if (journal == null) {
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE);
+        }
+        resetJournal();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: empties the journal and writes its header for the current generation
+    private void resetJournal() throws IOException {
+        journal.truncate(0);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).putInt(JOURNAL_MAGIC).putLong(generation);
+        header.flip();
+        writeFully(journal, header);
+        journal.force(true);
+        pendingRecords = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replays every intact record of the journal onto game and cuts off anything after the last of them
+    private void replay(GameEngine game) throws IOException {
+        long position = HEADER_BYTES;
+        pendingRecords = 0;
+        ByteBuffer record;
+        while ((record = readRecord(position)) != null) {
+            apply(game, record);
+            position += Integer.BYTES + record.limit() + Integer.BYTES;
+            pendingRecords++;
+        }
+        journal.truncate(position);
+        journal.position(position);
+    }
+
+    // EFFECTS: returns the type and payload of the intact record at position, or null if there is none
+    private ByteBuffer readRecord(long position) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+        if (journal.read(length, position) < Integer.BYTES) {
+            return null;
+        }
+        int size = length.flip().getInt();
+        if (size < 1 || size > MAX_RECORD_BYTES) {
+            return null;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(size + Integer.BYTES);
+        if (journal.read(body, position + Integer.BYTES) < body.capacity()) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(body.array(), 0, size);
+        if ((int) crc.getValue() != body.getInt(size)) {
+            return null;
+        }
+        return ByteBuffer.wrap(body.array(), 0, size);
+    }
+
+    // MODIFIES: game
+    // EFFECTS: applies the action held in record to game
+    //          throws IOException if the action cannot be applied
+    private void apply(GameEngine game, ByteBuffer record) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record.array(), 0, record.limit()));
+        try {
+            byte type = in.readByte();
+            if (type == CLUE) {
+                game.giveClue(in.readUTF(), in.readInt());
+            } else if (type == GUESS) {
+                game.guess(in.readInt());
+            } else if (type == END_TURN) {
+                game.endTurn();
+            } else {
+                throw new IOException("Unknown journal record type " + type);
+            }
+        } catch (IllegalStateException | IllegalArgumentException | EOFException e) {
+            throw new IOException("Journal record cannot be replayed: " + e.getMessage(), e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts a new record of the given type in the scratch space and returns a stream for its payload
+    private DataOutputStream beginRecord(byte type) {
+        record.reset();
+        record.write(type);
+        return new DataOutputStream(record);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: appends the record in the scratch space to the journal, then compacts if enough records are pending;
+    //          does nothing once autosave has been disabled, and disables it if the journal cannot be written, since
+    //          the action has already been applied to game and must not be undone by an exception
+    //          throws IllegalStateException if the journal has not been started
+    private void append(GameEngine game) {
+        if (failure != null) {
+            return;
+        }
+        if (journal == null) {
+            throw new IllegalStateException("The journal has not been started");
+        }
+        byte[] body = record.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + body.length + Integer.BYTES);
+        buffer.putInt(body.length).put(body).putInt((int) crc.getValue()).flip();
+        try {
+            writeFully(journal, buffer);
+            if (sync) {
+                journal.force(false);
+            }
+            if (++pendingRecords >= compactEvery) {
+                compact(game);
+            }
+        } catch (IOException e) {
+            disable(e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records e as the reason autosave stopped, warns the player and closes the journal; the game carries
+    //          on, and start or recover enables autosave again
+    private void disable(IOException e) {
+        if (failure != null) {
+            return;
+        }
+        failure = e;
+        System.err.println("Autosave disabled, the game is no longer being saved: " + e.getMessage());
+        try {
+            closeJournal();
+        } catch (IOException closing) {
+            e.addSuppressed(closing);
+        }
+    }
+
+    // EFFECTS: returns the generation recorded in the snapshot
+    private long readSnapshotGeneration() throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(snapshotPath))) {
+            return in.readLong();
+        } catch (EOFException e) {
+            return -1;
+        }
+    }
+
+    // EFFECTS: returns the generation recorded in the journal's header, or -1 if the header is missing or corrupt
+    private long readJournalGeneration() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (journal.read(header, 0) < HEADER_BYTES || header.flip().getInt() != JOURNAL_MAGIC) {
+            return -1;
+        }
+        return header.getLong();
+    }
+
+    // MODIFIES: channel
+    // EFFECTS: writes every remaining byte of buffer to channel
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the journal if it is open
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package persistence;
+
+import model.Board;
+import model.Operative;
+import model.Spymaster;
+import model.Team;
+
+import java.io.IOException;
+
+// Represents a reader of a saved game state, whatever format it was saved in
+public interface GameReader {
+
+    // MODIFIES: this
+    // EFFECTS: reads the saved game state; throws IOException if an error occurs reading data from file
+    void read() throws IOException;
+
+    // EFFECTS: returns the board of the game state that was read
+    Board readBoard();
+
+    // REQUIRES: team to be RED or BLUE
+    // EFFECTS: returns the spymaster of team in the game state that was read
+    Spymaster readSpymaster(Team team);
+
+    // REQUIRES: team to be RED or BLUE
+    // EFFECTS: returns the operative of team in the game state that was read
+    Operative readOperative(Team team);
+
+    // EFFECTS: returns a reader for the format source was saved in
+    //          throws IOException if source cannot be read
+    static GameReader forFile(String source) throws IOException {
+        if (SaveFormat.detect(source) == SaveFormat.BINARY) {
+            return new BinaryReader(source);
+        }
+        return new JsonStreamReader(source);
+    }
+}
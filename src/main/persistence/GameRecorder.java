@@ -0,0 +1,83 @@
+package persistence;
+
+import model.GameEngine;
+import model.GameListener;
+import model.GuessResult;
+import model.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Represents the history of one game as it is played: every clue given, in order, and every card guessed along with
+// the clue it was guessed under. Registered as a GameListener, it collects what a GameArchive needs beyond the final
+// board, which on its own does not say which clues were given or in what order cards were revealed.
+public class GameRecorder implements GameListener {
+    private final List<String> clues;       // Clues given, in order
+    private final List<Integer> counts;     // Number of agents each clue was given for
+    private final List<Integer> positions;  // 0-based position of every card guessed, in order
+    private final List<Integer> guessClues; // Index in clues of the clue each card was guessed under
+
+    // EFFECTS: constructs a recorder that has seen no actions
+    public GameRecorder() {
+        this.clues = new ArrayList<>();
+        this.counts = new ArrayList<>();
+        this.positions = new ArrayList<>();
+        this.guessClues = new ArrayList<>();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the clue
+    @Override
+    public void clueGiven(GameEngine game, String clue, int count) {
+        clues.add(clue);
+        counts.add(count);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the guess under the latest clue
+    @Override
+    public void cardGuessed(GameEngine game, int position, GuessResult result) {
+        positions.add(position);
+        guessClues.add(clues.size() - 1);
+    }
+
+    // EFFECTS: nothing; an ended turn is implied by the next clue
+    @Override
+    public void turnEnded(GameEngine game, Team team) {
+        // nothing to record
+    }
+
+    // EFFECTS: returns the number of clues given
+    public int getNumClues() {
+        return clues.size();
+    }
+
+    // REQUIRES: 0 <= i < getNumClues()
+    // EFFECTS: returns the i-th clue given
+    public String getClue(int i) {
+        return clues.get(i);
+    }
+
+    // REQUIRES: 0 <= i < getNumClues()
+    // EFFECTS: returns the number of agents the i-th clue was given for
+    public int getClueCount(int i) {
+        return counts.get(i);
+    }
+
+    // EFFECTS: returns the number of cards guessed
+    public int getNumGuesses() {
+        return positions.size();
+    }
+
+    // REQUIRES: 0 <= i < getNumGuesses()
+    // EFFECTS: returns the 0-based position of the i-th card guessed
+    public int getGuessPosition(int i) {
+        return positions.get(i);
+    }
+
+    // REQUIRES: 0 <= i < getNumGuesses()
+    // EFFECTS: returns the index of the clue the i-th card was guessed under
+    public int getGuessClue(int i) {
+        return guessClues.get(i);
+    }
+}
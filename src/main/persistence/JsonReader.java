@@ -5,21 +5,22 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
-import java.util.stream.Stream;
 
 import model.Board;
 
-import static model.Board.RED;
+import static model.Team.RED;
 
 import model.Card;
 import model.Operative;
+import model.Role;
 import model.Spymaster;
+import model.Team;
 import org.json.*;
 
 // Structure for the persistence functionality is inspired by the UBC: CPSC 210 Software Construction WorkRoomApp
 
 // Represents a reader that reads workroom from JSON data stored in file
-public class JsonReader {
+public class JsonReader implements GameReader {
     private String source;
     private JSONObject jsonObject;
 
@@ -38,15 +39,9 @@ public class JsonReader {
     }
 
 
-    // EFFECTS: reads source file as string and returns it
+    // EFFECTS: reads source file as string, line breaks included, and returns it
     private String readFile(String source) throws IOException {
-        StringBuilder contentBuilder = new StringBuilder();
-
-        try (Stream<String> stream = Files.lines(Paths.get(source), StandardCharsets.UTF_8)) {
-            stream.forEach(s -> contentBuilder.append(s));
-        }
-
-        return contentBuilder.toString();
+        return Files.readString(Paths.get(source), StandardCharsets.UTF_8);
     }
 
     // EFFECTS: returns a Board object from the read-in jsonObject
@@ -58,9 +53,9 @@ public class JsonReader {
     private Board parseBoard(JSONObject jsonObject) {
 
         // Fields
-        String startingTeam = jsonObject.getString("startingTeam");
-        String currentTeam = jsonObject.getString("currentTeam");
-        String currentPlayer = jsonObject.getString("currentPlayer");
+        Team startingTeam = Team.fromLabel(jsonObject.getString("startingTeam"));
+        Team currentTeam = Team.fromLabel(jsonObject.getString("currentTeam"));
+        Role currentPlayer = Role.fromLabel(jsonObject.getString("currentPlayer"));
         int numRedCards = jsonObject.getInt("numRedCards");
         int numBlueCards = jsonObject.getInt("numBlueCards");
 
@@ -86,33 +81,33 @@ public class JsonReader {
     // EFFECTS: parses card from JSON object and adds it to the board
     private void addCard(Board bd, JSONObject jsonObject) {
         String word = jsonObject.getString("word");
-        String team = jsonObject.getString("team");
-        String visibleTeam = jsonObject.getString("visibleTeam");
+        Team team = Team.fromLabel(jsonObject.getString("team"));
+        Team visibleTeam = Team.fromLabel(jsonObject.getString("visibleTeam"));
         int index = jsonObject.getInt("index");
 
         Card card = new Card(word, team, visibleTeam, index);
         bd.addCards(card);
     }
 
-    // REQUIRES: team to be "RED" or "BLUE"
+    // REQUIRES: team to be RED or BLUE
     // EFFECTS: returns a Spymaster object from the read-in jsonObject
-    public Spymaster readSpymaster(String team) {
+    public Spymaster readSpymaster(Team team) {
         return parseSpymaster(jsonObject, team);
     }
 
     // EFFECTS: parses spymaster from JSON object and returns it
-    private Spymaster parseSpymaster(JSONObject jsonObject, String team) {
-        String teamName;
+    private Spymaster parseSpymaster(JSONObject jsonObject, Team team) {
+        Team teamName;
         String hint;
         int guesses;
 
 
-        if (team.equals(RED)) {
-            teamName = jsonObject.getString("redSpymasterTeamName");
+        if (team == RED) {
+            teamName = Team.fromLabel(jsonObject.getString("redSpymasterTeamName"));
             hint = jsonObject.getString("redSpymasterHint");
             guesses = jsonObject.getInt("redSpymasterGuesses");
         } else {
-            teamName = jsonObject.getString("blueSpymasterTeamName");
+            teamName = Team.fromLabel(jsonObject.getString("blueSpymasterTeamName"));
             hint = jsonObject.getString("blueSpymasterHint");
             guesses = jsonObject.getInt("blueSpymasterGuesses");
         }
@@ -120,23 +115,23 @@ public class JsonReader {
         return new Spymaster(teamName, hint, guesses);
     }
 
-    // REQUIRES: team to be "RED" or "BLUE"
+    // REQUIRES: team to be RED or BLUE
     // EFFECTS: returns an Operative object from the read-in jsonObject
-    public Operative readOperative(String team) {
+    public Operative readOperative(Team team) {
         return parseOperative(jsonObject, team);
     }
 
     // EFFECTS: parses operative from JSON object and returns it
-    private Operative parseOperative(JSONObject jsonObject, String team) {
-        String teamName;
+    private Operative parseOperative(JSONObject jsonObject, Team team) {
+        Team teamName;
         int score;
 
 
-        if (team.equals(RED)) {
-            teamName = jsonObject.getString("redOperativeTeamName");
+        if (team == RED) {
+            teamName = Team.fromLabel(jsonObject.getString("redOperativeTeamName"));
             score = jsonObject.getInt("redOperativeScore");
         } else {
-            teamName = jsonObject.getString("blueOperativeTeamName");
+            teamName = Team.fromLabel(jsonObject.getString("blueOperativeTeamName"));
             score = jsonObject.getInt("blueOperativeScore");
         }
 
@@ -0,0 +1,413 @@
+package persistence;
+
+import model.BitBoard;
+import model.Board;
+import model.Card;
+import model.Operative;
+import model.Role;
+import model.Spymaster;
+import model.Team;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.Team.*;
+
+// Represents a reader that parses a game state saved as JSON in a single pass over a buffered stream, building the
+// board, cards, spymasters and operatives as it goes instead of loading the whole file into a String and walking a
+// JSONObject tree. Top-level fields may appear in any order and unknown fields are skipped.
+public class JsonStreamReader implements GameReader {
+    private static final int EOF = -1;
+    private static final int NUM_TEAMS = 2;     // Teams with a spymaster and an operative
+    private static final String RED_PREFIX = "red";     // Prefix of the RED spymaster's and operative's keys
+    private static final String BLUE_PREFIX = "blue";   // Prefix of the BLUE spymaster's and operative's keys
+
+    private final String source;
+    private Reader in;              // Stream being parsed
+    private int next;               // Next unread character of in, or EOF
+    private final StringBuilder text;   // Scratch space for strings being parsed
+
+    // Parsed fields of the game state
+    private Team startingTeam;
+    private Team currentTeam;
+    private Role currentPlayer;
+    private Integer numRedCards;
+    private Integer numBlueCards;
+    private List<Card> cards;
+    private final Team[] spymasterTeams = new Team[NUM_TEAMS];  // Fields of the RED then BLUE spymaster
+    private final String[] hints = new String[NUM_TEAMS];
+    private final int[] guesses = new int[NUM_TEAMS];
+    private final Team[] operativeTeams = new Team[NUM_TEAMS];  // Fields of the RED then BLUE operative
+    private final int[] scores = new int[NUM_TEAMS];
+    private Board board;
+
+    // EFFECTS: constructs reader to read from source file
+    public JsonStreamReader(String source) {
+        this.source = source;
+        this.text = new StringBuilder();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses the game state from the source file
+    //          throws IOException if the file cannot be read or does not hold a complete game state
+    @Override
+    public void read() throws IOException {
+        try (InputStream stream = new FileInputStream(source)) {
+            read(stream);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses the game state from stream as UTF-8, leaving stream open
+    //          throws IOException if stream cannot be read or does not hold a complete game state
+    public void read(InputStream stream) throws IOException {
+        in = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+        next = in.read();
+        startingTeam = null;
+        currentTeam = null;
+        currentPlayer = null;
+        numRedCards = null;
+        numBlueCards = null;
+        cards = null;
+        for (int team = 0; team < NUM_TEAMS; team++) {
+            spymasterTeams[team] = team == 0 ? RED : BLUE;
+            operativeTeams[team] = spymasterTeams[team];
+            hints[team] = "";
+            guesses[team] = 0;
+            scores[team] = 0;
+        }
+
+        expect('{');
+        if (!tryConsume('}')) {
+            do {
+                parseField(parseString());
+            } while (tryConsume(','));
+            expect('}');
+        }
+        buildBoard();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: builds the board from the parsed fields
+    //          throws IOException if any of the board's fields is missing
+    private void buildBoard() throws IOException {
+        if (startingTeam == null || currentTeam == null || currentPlayer == null || numRedCards == null
+                || numBlueCards == null || cards == null) {
+            throw new IOException("Incomplete game state: " + source);
+        }
+        board = new Board(startingTeam, currentTeam, currentPlayer, numRedCards, numBlueCards);
+        for (Card card : cards) {
+            board.addCards(card);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses the value of the top-level field with the given key
+    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:SuppressWarnings"})
+    private void parseField(String key) throws IOException {
+        expect(':');
+        switch (key) {
+            case "startingTeam":
+                startingTeam = parseTeam();
+                break;
+            case "currentTeam":
+                currentTeam = parseTeam();
+                break;
+            case "currentPlayer":
+                currentPlayer = parseRole();
+                break;
+            case "numRedCards":
+                numRedCards = parseInt();
+                break;
+            case "numBlueCards":
+                numBlueCards = parseInt();
+                break;
+            case "cards":
+                cards = parseCards();
+                break;
+            default:
+                parsePlayerField(key);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses the value of a spymaster or operative field with the given key, or skips it if it is unknown
+    private void parsePlayerField(String key) throws IOException {
+        int team = key.startsWith(RED_PREFIX) ? 0 : 1;
+        String prefix = team == 0 ? RED_PREFIX : BLUE_PREFIX;
+        String field = key.startsWith(prefix) ? key.substring(prefix.length()) : "";
+
+        if (field.equals("SpymasterTeamName")) {
+            spymasterTeams[team] = parseTeam();
+        } else if (field.equals("SpymasterHint")) {
+            hints[team] = parseString();
+        } else if (field.equals("SpymasterGuesses")) {
+            guesses[team] = parseInt();
+        } else if (field.equals("OperativeTeamName")) {
+            operativeTeams[team] = parseTeam();
+        } else if (field.equals("OperativeScore")) {
+            scores[team] = parseInt();
+        } else {
+            skipValue();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses an array of cards
+    //          throws IOException if it holds more than BitBoard.MAX_CARDS cards
+    private List<Card> parseCards() throws IOException {
+        List<Card> parsed = new ArrayList<>();
+        expect('[');
+        if (!tryConsume(']')) {
+            do {
+                if (parsed.size() == BitBoard.MAX_CARDS) {
+                    throw new IOException("More than " + BitBoard.MAX_CARDS + " cards in " + source);
+                }
+                parsed.add(parseCard());
+            } while (tryConsume(','));
+            expect(']');
+        }
+        return parsed;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses a card object
+    //          throws IOException if the card's word or team is missing
+    private Card parseCard() throws IOException {
+        String word = null;
+        Team team = null;
+        Team visibleTeam = UNKNOWN;
+        int index = 0;
+
+        expect('{');
+        do {
+            String key = parseString();
+            expect(':');
+            if (key.equals("word")) {
+                word = parseString();
+            } else if (key.equals("team")) {
+                team = parseTeam();
+            } else if (key.equals("visibleTeam")) {
+                visibleTeam = parseTeam();
+            } else if (key.equals("index")) {
+                index = parseInt();
+            } else {
+                skipValue();
+            }
+        } while (tryConsume(','));
+        expect('}');
+
+        if (word == null || team == null) {
+            throw new IOException("Incomplete card in " + source);
+        }
+        return new Card(word, team, visibleTeam, index);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses a team label
+    private Team parseTeam() throws IOException {
+        try {
+            return Team.fromLabel(parseString());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses a role label
+    private Role parseRole() throws IOException {
+        try {
+            return Role.fromLabel(parseString());
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses an integer
+    //          throws IOException if the next value is not an integer
+    private int parseInt() throws IOException {
+        skipWhitespace();
+        boolean negative = next == '-';
+        if (negative) {
+            advance();
+        }
+        if (next < '0' || next > '9') {
+            throw error("integer");
+        }
+
+        long value = 0;
+        while (next >= '0' && next <= '9' && value <= Integer.MAX_VALUE) {
+            value = value * 10 + (next - '0');
+            advance();
+        }
+        if (value > Integer.MAX_VALUE || next == '.' || next == 'e' || next == 'E') {
+            throw error("integer");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: parses a string, decoding escape sequences
+    private String parseString() throws IOException {
+        expect('"');
+        text.setLength(0);
+        while (next != '"') {
+            if (next == EOF) {
+                throw error("closing quote");
+            }
+            text.append(next == '\\' ? parseEscape() : (char) next);
+            advance();
+        }
+        advance();
+        return text.toString();
+    }
+
+    // REQUIRES: next is a backslash
+    // MODIFIES: this
+    // EFFECTS: parses an escape sequence up to its last character, which is left in next, and returns the character
+    //          it stands for
+    private char parseEscape() throws IOException {
+        advance();
+        switch (next) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return parseUnicodeEscape();
+            case '"':
+            case '\\':
+            case '/':
+                return (char) next;
+            default:
+                throw error("escape sequence");
+        }
+    }
+
+    // REQUIRES: next is the 'u' of a unicode escape sequence
+    // MODIFIES: this
+    // EFFECTS: parses the four hex digits of the sequence, leaving the last one in next, and returns the character
+    private char parseUnicodeEscape() throws IOException {
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            advance();
+            int digit = Character.digit(next, 16);
+            if (next == EOF || digit < 0) {
+                throw error("hex digit");
+            }
+            value = value * 16 + digit;
+        }
+        return (char) value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips over the next value, whatever its type
+    private void skipValue() throws IOException {
+        skipWhitespace();
+        if (next == '"') {
+            parseString();
+        } else if (next == '{' || next == '[') {
+            skipContainer();
+        } else {
+            // Numbers and literals run until the next delimiter
+            while (next != EOF && next != ',' && next != '}' && next != ']' && !Character.isWhitespace(next)) {
+                advance();
+            }
+        }
+    }
+
+    // REQUIRES: next opens an object or array
+    // MODIFIES: this
+    // EFFECTS: skips over the object or array, including any nested values
+    private void skipContainer() throws IOException {
+        char close = next == '{' ? '}' : ']';
+        advance();
+        if (tryConsume(close)) {
+            return;
+        }
+        do {
+            if (close == '}') {
+                parseString();
+                expect(':');
+            }
+            skipValue();
+        } while (tryConsume(','));
+        expect(close);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes c, skipping any whitespace before it
+    //          throws IOException if the next character is not c
+    private void expect(char c) throws IOException {
+        if (!tryConsume(c)) {
+            throw error("'" + c + "'");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips any whitespace, then consumes c and returns true if it is the next character
+    private boolean tryConsume(char c) throws IOException {
+        skipWhitespace();
+        if (next == c) {
+            advance();
+            return true;
+        }
+        return false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: skips any whitespace
+    private void skipWhitespace() throws IOException {
+        while (next == ' ' || next == '\n' || next == '\r' || next == '\t') {
+            advance();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the next character into next
+    private void advance() throws IOException {
+        next = in.read();
+    }
+
+    // EFFECTS: returns an exception reporting that expected was not found
+    private IOException error(String expected) {
+        String found = next == EOF ? "end of file" : "'" + (char) next + "'";
+        return new IOException("Expected " + expected + " but found " + found + " in " + source);
+    }
+
+    // EFFECTS: returns the board that was read
+    @Override
+    public Board readBoard() {
+        return board;
+    }
+
+    // REQUIRES: team to be RED or BLUE
+    // EFFECTS: returns the spymaster of team that was read
+    @Override
+    public Spymaster readSpymaster(Team team) {
+        int i = team == RED ? 0 : 1;
+        return new Spymaster(spymasterTeams[i], hints[i], guesses[i]);
+    }
+
+    // REQUIRES: team to be RED or BLUE
+    // EFFECTS: returns the operative of team that was read
+    @Override
+    public Operative readOperative(Team team) {
+        int i = team == RED ? 0 : 1;
+        return new Operative(operativeTeams[i], scores[i]);
+    }
+}
@@ -0,0 +1,197 @@
+package persistence;
+
+import model.Board;
+import model.Card;
+import model.GameEngine;
+import model.Operative;
+import model.Spymaster;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import static model.Team.*;
+
+// Represents a writer that streams a game state straight to a Writer in the same JSON schema as JsonWriter, without
+// building JSONObjects for the board, cards, spymasters and operatives or merging them. The output is compact
+// rather than indented, and is read back by JsonReader like any other save.
+public class JsonStreamWriter {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String destination;
+
+    // EFFECTS: constructs writer to write to destination file
+    public JsonStreamWriter(String destination) {
+        this.destination = destination;
+    }
+
+    // EFFECTS: saves game to the destination file, replacing anything already there
+    //          throws IOException if the file cannot be written
+    public void write(GameEngine game) throws IOException {
+        try (Writer out = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(destination), StandardCharsets.UTF_8))) {
+            write(game, out);
+        }
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes game to out as UTF-8 JSON and flushes it; out is left open
+    public static void write(GameEngine game, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        write(game, writer);
+        writer.flush();
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes game to out as JSON; out is neither flushed nor closed
+    public static void write(GameEngine game, Writer out) throws IOException {
+        out.write('{');
+        writeBoard(game.getBoard(), out);
+        writeSpymaster("red", game.getSpymaster(RED), out);
+        writeSpymaster("blue", game.getSpymaster(BLUE), out);
+        writeOperative("red", game.getOperative(RED), out);
+        writeOperative("blue", game.getOperative(BLUE), out);
+        out.write('}');
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the fields of board and its cards to out, as Board.toJson does
+    private static void writeBoard(Board board, Writer out) throws IOException {
+        writeField("startingTeam", board.getStartingTeam().getLabel(), out);
+        writeField("currentTeam", board.getCurrentTeam().getLabel(), out);
+        writeField("currentPlayer", board.getCurrentPlayer().name(), out);
+        writeField("numRedCards", board.getNumOriginalRedCards(), out);
+        writeField("numBlueCards", board.getNumOriginalBlueCards(), out);
+
+        writeKey("cards", out);
+        out.write('[');
+        boolean first = true;
+        for (Card card : board.getBoard()) {
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            writeCard(card, out);
+        }
+        out.write(']');
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes card to out as an object, as Card.toJson does
+    private static void writeCard(Card card, Writer out) throws IOException {
+        out.write("{\"word\":");
+        writeString(card.getWord(), out);
+        out.write(",\"team\":");
+        writeString(card.getTeam().getLabel(), out);
+        out.write(",\"visibleTeam\":");
+        writeString(card.getVisibleTeam().getLabel(), out);
+        out.write(",\"index\":");
+        out.write(Integer.toString(card.getIndex()));
+        out.write('}');
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the fields of spymaster to out, prefixing their keys with team, as Spymaster.toJson does
+    private static void writeSpymaster(String team, Spymaster spymaster, Writer out) throws IOException {
+        out.write(',');
+        writeKey(team, "SpymasterTeamName", out);
+        writeString(spymaster.getTeamName().getLabel(), out);
+        out.write(',');
+        writeKey(team, "SpymasterHint", out);
+        writeString(spymaster.getHint(), out);
+        out.write(',');
+        writeKey(team, "SpymasterGuesses", out);
+        out.write(Integer.toString(spymaster.getGuesses()));
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the fields of operative to out, prefixing their keys with team, as Operative.toJson does
+    private static void writeOperative(String team, Operative operative, Writer out) throws IOException {
+        out.write(',');
+        writeKey(team, "OperativeTeamName", out);
+        writeString(operative.getTeamName().getLabel(), out);
+        out.write(',');
+        writeKey(team, "OperativeScore", out);
+        out.write(Integer.toString(operative.getTeamScore()));
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes a string field followed by a comma to out
+    private static void writeField(String key, String value, Writer out) throws IOException {
+        writeKey(key, out);
+        writeString(value, out);
+        out.write(',');
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes an int field followed by a comma to out
+    private static void writeField(String key, int value, Writer out) throws IOException {
+        writeKey(key, out);
+        out.write(Integer.toString(value));
+        out.write(',');
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes key and a colon to out
+    private static void writeKey(String key, Writer out) throws IOException {
+        writeString(key, out);
+        out.write(':');
+    }
+
+    // REQUIRES: prefix and name need no escaping
+    // MODIFIES: out
+    // EFFECTS: writes the key made of prefix followed by name, and a colon, to out
+    private static void writeKey(String prefix, String name, Writer out) throws IOException {
+        out.write('"');
+        out.write(prefix);
+        out.write(name);
+        out.write("\":");
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes value to out as a quoted JSON string, escaping quotes, backslashes and control characters
+    static void writeString(String value, Writer out) throws IOException {
+        out.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < ' ') {
+                out.write(value, start, i - start);
+                writeEscape(c, out);
+                start = i + 1;
+            }
+        }
+        out.write(value, start, value.length() - start);
+        out.write('"');
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the JSON escape sequence for c to out
+    private static void writeEscape(char c, Writer out) throws IOException {
+        switch (c) {
+            case '"':
+                out.write("\\\"");
+                break;
+            case '\\':
+                out.write("\\\\");
+                break;
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                out.write("\\u00");
+                out.write(HEX[c >> 4]);
+                out.write(HEX[c & 0xF]);
+        }
+    }
+}
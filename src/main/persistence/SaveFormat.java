@@ -0,0 +1,22 @@
+package persistence;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+// Represents the formats a game state can be saved in
+public enum SaveFormat {
+    JSON,       // Human-readable JSON written by JsonWriter
+    BINARY;     // Compact snapshot written by BinaryWriter
+
+    // EFFECTS: returns the format of the file at source, decided by whether it starts with BinaryWriter.MAGIC
+    //          throws IOException if source cannot be read
+    public static SaveFormat detect(String source) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(source))) {
+            return in.readInt() == BinaryWriter.MAGIC ? BINARY : JSON;
+        } catch (EOFException e) {
+            return JSON;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package server;
+
+// Represents the kinds of command a hosted game accepts, used to group latency metrics
+public enum CommandType {
+    GIVE_CLUE,
+    GUESS,
+    END_TURN,
+    QUERY
+}
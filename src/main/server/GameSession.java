@@ -0,0 +1,228 @@
+package server;
+
+import model.CardRevealed;
+import model.ClueGiven;
+import model.EventLog;
+import model.GameEngine;
+import model.GuessResult;
+import model.Outcome;
+import model.Team;
+import model.TurnEnded;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+// Represents one game hosted by a SessionManager, with its own engine and event log. Commands for the game are queued
+// in a bounded mailbox and run one at a time on the manager's shared executor, so a game only occupies a thread while
+// it has commands to run and idle games cost no threads at all.
+public class GameSession {
+    private static final int MAX_BATCH = 32;    // Commands run before the thread is handed to other games
+
+    private final long id;                      // Identifier of this game within its SessionManager
+    private final GameEngine game;              // Game being played; only touched while draining the mailbox
+    private final EventLog eventLog;            // Events of this game only
+    private final BlockingQueue<Task<?>> mailbox;   // Commands waiting to be run
+    private final AtomicBoolean scheduled;      // True while a drain of the mailbox is queued or running
+    private final Executor executor;            // Threads shared by every game of the SessionManager
+    private final LatencyMetrics metrics;       // Latency metrics shared by every game of the SessionManager
+    private final Object admission;             // Held while checking closed and queueing, or while closing
+    private volatile boolean closed;            // True once no further commands are accepted; set under admission
+
+    // REQUIRES: mailboxCapacity > 0
+    // EFFECTS: constructs a session hosting game, running its commands on executor
+    public GameSession(long id, GameEngine game, EventLog eventLog, Executor executor, int mailboxCapacity,
+                       LatencyMetrics metrics) {
+        this.id = id;
+        this.game = game;
+        this.eventLog = eventLog;
+        this.mailbox = new ArrayBlockingQueue<>(mailboxCapacity);
+        this.scheduled = new AtomicBoolean(false);
+        this.executor = executor;
+        this.metrics = metrics;
+        this.admission = new Object();
+        this.closed = false;
+    }
+
+    // EFFECTS: queues the current spymaster's clue; the future holds the number of guesses the operative may make,
+    //          or fails with IllegalArgumentException if the clue is, or is a form of, a word on an unrevealed card
+    public CompletableFuture<Integer> giveClue(String clue, int count) {
+        return submit(CommandType.GIVE_CLUE, g -> {
+            if (!g.getBoard().isLegalClue(clue)) {
+                throw new IllegalArgumentException("\"" + clue + "\" is a word on the board, or a form of one");
+            }
+            Team team = g.getCurrentTeam();
+            int guesses = g.giveClue(clue, count);
+            eventLog.logEvent(new ClueGiven(team, clue, count));
+            return guesses;
+        });
+    }
+
+    // EFFECTS: queues a guess of the card at the given 0-based position; the future holds the result of the guess
+    public CompletableFuture<GuessResult> guess(int position) {
+        return submit(CommandType.GUESS, g -> {
+            GuessResult result = g.guess(position);
+            eventLog.logEvent(new CardRevealed(position, result));
+            return result;
+        });
+    }
+
+    // EFFECTS: queues the end of the current team's turn; the future holds the team whose turn it then is
+    public CompletableFuture<Team> endTurn() {
+        return submit(CommandType.END_TURN, g -> {
+            Team team = g.endTurn();
+            eventLog.logEvent(new TurnEnded(team));
+            return team;
+        });
+    }
+
+    // EFFECTS: queues a query of the game's outcome
+    public CompletableFuture<Outcome> outcome() {
+        return submit(CommandType.QUERY, GameEngine::getOutcome);
+    }
+
+    // EFFECTS: queues command to be run against this game and returns a future holding its result; the future
+    //          completes exceptionally with the command's exception if it fails, with IllegalStateException if the
+    //          session is closed and with RejectedExecutionException if the mailbox is full. Never blocks on the
+    //          executor; the check for closed and the enqueue happen under one lock, so a command is either queued
+    //          before close() returns, and runs before the event log is released, or refused.
+    public <T> CompletableFuture<T> submit(CommandType type, Function<GameEngine, T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        boolean queued = false;
+        synchronized (admission) {
+            if (closed) {
+                future.completeExceptionally(new IllegalStateException("Game " + id + " is closed"));
+            } else if (!mailbox.offer(new Task<>(type, command, future))) {
+                future.completeExceptionally(
+                        new RejectedExecutionException("Game " + id + " has too many pending commands"));
+            } else {
+                queued = true;
+            }
+        }
+        if (queued) {
+            schedule();
+        }
+        return future;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops accepting commands; commands already queued still run, after which the event log is released
+    public void close() {
+        synchronized (admission) {
+            closed = true;
+        }
+        schedule();
+    }
+
+    // EFFECTS: returns true if this session no longer accepts commands
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // EFFECTS: returns the identifier of this game
+    public long getId() {
+        return id;
+    }
+
+    // EFFECTS: returns the event log of this game; it must only be read once queued commands have completed, and it
+    //          is empty once the session has been closed and its queued commands have run
+    public EventLog getEventLog() {
+        return eventLog;
+    }
+
+    // EFFECTS: returns the number of commands waiting to be run
+    public int getPendingCommands() {
+        return mailbox.size();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: queues a drain of the mailbox on the executor unless one is already queued or running; if the
+    //          executor refuses (e.g. it has been shut down), closes this session and fails every queued command
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                synchronized (admission) {
+                    closed = true;
+                }
+                scheduled.set(false);
+                failQueued(e);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: completes every queued command's future exceptionally with failure, since no thread will run them,
+    //          and releases the event log
+    private void failQueued(RejectedExecutionException failure) {
+        for (Task<?> task = mailbox.poll(); task != null; task = mailbox.poll()) {
+            task.future.completeExceptionally(failure);
+        }
+        eventLog.release();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs up to MAX_BATCH queued commands, then hands the thread back and reschedules if more are waiting
+    //          or the session has been closed; once the session is closed and its mailbox empty, releases the event
+    //          log and leaves scheduled set for good, so that no drain ever runs after the release
+    private void drain() {
+        for (int i = 0; i < MAX_BATCH; i++) {
+            Task<?> task = mailbox.poll();
+            if (task == null) {
+                break;
+            }
+            run(task);
+        }
+
+        synchronized (admission) {
+            if (closed && mailbox.isEmpty()) {
+                eventLog.release();
+                return;
+            }
+        }
+        scheduled.set(false);
+        if (!mailbox.isEmpty() || closed) {
+            schedule();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs task against the game, records its latency and completes its future; latency is recorded first
+    //          so that it is visible to whoever is waiting on the future
+    private <T> void run(Task<T> task) {
+        T result = null;
+        RuntimeException failure = null;
+        try {
+            result = task.command.apply(game);
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+
+        metrics.record(task.type, System.nanoTime() - task.submitNanos);
+        if (failure == null) {
+            task.future.complete(result);
+        } else {
+            task.future.completeExceptionally(failure);
+        }
+    }
+
+    // Represents a command waiting in the mailbox
+    private static class Task<T> {
+        private final CommandType type;
+        private final Function<GameEngine, T> command;
+        private final CompletableFuture<T> future;
+        private final long submitNanos;     // When the command was submitted
+
+        private Task(CommandType type, Function<GameEngine, T> command, CompletableFuture<T> future) {
+            this.type = type;
+            this.command = command;
+            this.future = future;
+            this.submitNanos = System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package server;
+
+import java.util.EnumMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+// Represents latency statistics for every command run by a SessionManager, grouped by CommandType. Latencies are
+// counted into power-of-two nanosecond buckets so that recording is lock-free and percentiles can be estimated
+// without keeping every sample.
+public class LatencyMetrics {
+    private static final int NUM_BUCKETS = Long.SIZE;   // Bucket i holds latencies in [2^(i-1), 2^i) nanoseconds
+
+    private final EnumMap<CommandType, LongAdder> counts;       // Number of commands recorded
+    private final EnumMap<CommandType, LongAdder> totalNanos;   // Sum of recorded latencies
+    private final EnumMap<CommandType, AtomicLong> maxNanos;    // Largest recorded latency
+    private final EnumMap<CommandType, AtomicLongArray> buckets;    // Histogram of recorded latencies
+
+    // EFFECTS: constructs empty metrics for every command type
+    public LatencyMetrics() {
+        counts = new EnumMap<>(CommandType.class);
+        totalNanos = new EnumMap<>(CommandType.class);
+        maxNanos = new EnumMap<>(CommandType.class);
+        buckets = new EnumMap<>(CommandType.class);
+
+        for (CommandType type : CommandType.values()) {
+            counts.put(type, new LongAdder());
+            totalNanos.put(type, new LongAdder());
+            maxNanos.put(type, new AtomicLong());
+            buckets.put(type, new AtomicLongArray(NUM_BUCKETS));
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records that a command of the given type took nanos nanoseconds from submission to completion
+    public void record(CommandType type, long nanos) {
+        long latency = Math.max(0, nanos);
+        counts.get(type).increment();
+        totalNanos.get(type).add(latency);
+        maxNanos.get(type).accumulateAndGet(latency, Math::max);
+        buckets.get(type).incrementAndGet(bucketOf(latency));
+    }
+
+    // EFFECTS: returns the number of commands of the given type recorded
+    public long getCount(CommandType type) {
+        return counts.get(type).sum();
+    }
+
+    // EFFECTS: returns the mean latency of commands of the given type, or 0 if none have been recorded
+    public double getMeanNanos(CommandType type) {
+        long count = getCount(type);
+        if (count == 0) {
+            return 0;
+        }
+        return (double) totalNanos.get(type).sum() / count;
+    }
+
+    // EFFECTS: returns the largest latency recorded for commands of the given type
+    public long getMaxNanos(CommandType type) {
+        return maxNanos.get(type).get();
+    }
+
+    // REQUIRES: 0 < percentile <= 100
+    // EFFECTS: returns an upper bound on the given percentile of latencies for commands of the given type,
+    //          accurate to within a factor of two, or 0 if none have been recorded
+    public long getPercentileNanos(CommandType type, double percentile) {
+        AtomicLongArray histogram = buckets.get(type);
+        long count = getCount(type);
+        long rank = (long) Math.ceil(count * percentile / 100);
+        long seen = 0;
+
+        for (int i = 0; i < NUM_BUCKETS && count > 0; i++) {
+            seen += histogram.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMaxNanos(type));
+            }
+        }
+        return getMaxNanos(type);
+    }
+
+    // EFFECTS: returns a one-line summary of the metrics for the given command type
+    public String summary(CommandType type) {
+        return String.format("%s count=%d mean=%.0fns p50=%dns p99=%dns max=%dns", type, getCount(type),
+                getMeanNanos(type), getPercentileNanos(type, 50), getPercentileNanos(type, 99), getMaxNanos(type));
+    }
+
+    // EFFECTS: returns the histogram bucket that holds the given latency
+    private static int bucketOf(long nanos) {
+        return Math.min(NUM_BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    // EFFECTS: returns the largest latency held by the given histogram bucket
+    private static long upperBoundOf(int bucket) {
+        if (bucket >= NUM_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+        return (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,103 @@
+package server;
+
+import model.AsyncEventLog;
+import model.EventLog;
+import model.GameEngine;
+import model.Team;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Represents a host for many concurrent games in one JVM. Every game is an isolated GameSession with its own
+// board, spymasters, operatives and event log. Sessions share a small pool of threads: a session is only scheduled
+// onto the pool while it has commands queued, so idle games hold memory but no threads. A closed game's event log is
+// released, so the memory held by logs grows with the number of hosted games rather than with uptime.
+public class SessionManager {
+    public static final int DEFAULT_MAILBOX_CAPACITY = 16;  // Commands a game may have queued at once
+
+    private final Map<Long, GameSession> sessions;  // Hosted games by id
+    private final AtomicLong nextId;                // Identifier given to the next game
+    private final ForkJoinPool executor;            // Threads shared by every hosted game
+    private final LatencyMetrics metrics;           // Latency of every command run by every game
+    private final int mailboxCapacity;              // Commands each game may have queued at once
+    private final AsyncEventLog tap;                // Receives the events of every game, or null
+
+    // EFFECTS: constructs a manager with one thread per available processor
+    public SessionManager() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAILBOX_CAPACITY);
+    }
+
+    // REQUIRES: parallelism > 0 and mailboxCapacity > 0
+    // EFFECTS: constructs a manager running games on parallelism threads
+    public SessionManager(int parallelism, int mailboxCapacity) {
+        this(parallelism, mailboxCapacity, null);
+    }
+
+    // REQUIRES: parallelism > 0 and mailboxCapacity > 0
+    // EFFECTS: constructs a manager running games on parallelism threads whose event logs also pass every event on
+    //          to tap, unless tap is null
+    public SessionManager(int parallelism, int mailboxCapacity, AsyncEventLog tap) {
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextId = new AtomicLong(1);
+        this.executor = new ForkJoinPool(parallelism, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.metrics = new LatencyMetrics();
+        this.mailboxCapacity = mailboxCapacity;
+        this.tap = tap;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: deals a new game in which startingTeam goes first, hosts it and returns its session
+    public GameSession createGame(Team startingTeam) {
+        return host(GameEngine.newGame(startingTeam));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: hosts an existing (e.g. loaded) game and returns its session
+    public GameSession host(GameEngine game) {
+        long id = nextId.getAndIncrement();
+        GameSession session = new GameSession(id, game, new EventLog(tap), executor, mailboxCapacity, metrics);
+        sessions.put(id, session);
+        return session;
+    }
+
+    // EFFECTS: returns the session of the game with the given id, or null if no such game is hosted
+    public GameSession getSession(long id) {
+        return sessions.get(id);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: stops hosting the game with the given id and returns true, or returns false if it is not hosted; the
+    //          game's event log is released once its queued commands have run
+    public boolean closeGame(long id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) {
+            return false;
+        }
+        session.close();
+        return true;
+    }
+
+    // EFFECTS: returns the number of games being hosted
+    public int getActiveGames() {
+        return sessions.size();
+    }
+
+    // EFFECTS: returns the latency metrics of every command run so far
+    public LatencyMetrics getMetrics() {
+        return metrics;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes every game and waits up to timeoutMillis for queued commands to finish
+    public void shutdown(long timeoutMillis) throws InterruptedException {
+        for (GameSession session : sessions.values()) {
+            session.close();
+        }
+        sessions.clear();
+        executor.shutdown();
+        executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
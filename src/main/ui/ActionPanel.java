@@ -1,13 +1,11 @@
 package ui;
 
-import model.Spymaster;
+import model.ClueParser;
+import model.Role;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import static java.lang.Integer.parseInt;
 import static ui.CodenamesGUI.*;
 
 // This panel holds the buttons for the user to interact with the game (reveal cards, set hint, end-turn, etc.)
@@ -21,6 +19,7 @@ public class ActionPanel extends JPanel {
     private JButton actionButton;
 
     private CodenamesGUI ui;
+    private final ClueParser clueParser = new ClueParser(); // Parses the hints entered
 
 
     public ActionPanel(CodenamesGUI ui) {
@@ -97,7 +96,7 @@ public class ActionPanel extends JPanel {
     private void actionButtonActionListener() {
         actionButton.addActionListener(e -> {
             // Spymaster functionality
-            if (teamScorePanel.getTeamLabel().getText().contains("SPYMASTER")) {
+            if (ui.getGameBoard().getCurrentPlayer() == Role.SPYMASTER) {
                 // Ask the user for input
                 String hintContext;
                 hintContext = "<html>Give a hint to your operatives!<br><br>"
@@ -106,9 +105,9 @@ public class ActionPanel extends JPanel {
                 String hint = JOptionPane.showInputDialog(hintContext);
 
                 // Tell user if the hint is invalid
-                if (!validHint(hint, ui.selectSpymaster())) {
+                if (!validHint(hint)) {
                     JOptionPane.showMessageDialog(frame,
-                            "Your hint is invalid. Try again!",
+                            "Your hint is invalid: " + clueParser.getStatus().getMessage() + ". Try again!",
                             "INVALID HINT",
                             JOptionPane.WARNING_MESSAGE);
                 } else { // Valid hint provided, switch to Operative's turn
@@ -124,85 +123,25 @@ public class ActionPanel extends JPanel {
     }
 
 
-    // EFFECTS: Returns true if the provided hint is valid
-    //          - One word at most
-    //          - A non-zero integer number of guesses provided
-    //          - A single "/" character between
-    private boolean validHint(String hint, Spymaster selected) {
-
-        // Check if there is a single word/clue given
-        int delimiterIndex = hint.indexOf('/'); // Index of the delimiter
-        if (delimiterIndex == -1) { // No delimiter found
-            return false;
-        }
-        String cluePortion = removeTrailingSpace(hint.substring(0, delimiterIndex));
-        if (!(countChar(cluePortion, ' ') == 0)) { // Multi-word hints have spaces
-            return false;
-        }
-
-        // Extract the # portion of the hint
-        Matcher isDigits = getDigits(hint.substring(delimiterIndex + 1));
-        boolean isNumber = isDigits.find();
-        int numberPortion;
-
-        if (isNumber) {
-            numberPortion = parseInt(isDigits.group(0));
-
-            // Make sure that there are no negative guesses provided
-            if (numberPortion < 0) {
-                return false;
-            }
-
-            setValidHint(selected, cluePortion, numberPortion);
-            return true;
-        } else {
+    // MODIFIES: this
+    // EFFECTS: Returns true if the provided hint is valid, and if so gives it to the current Spymaster's operatives
+    private boolean validHint(String hint) {
+        if (!clueParser.parse(hint, ui.getGameBoard())) {
             return false;
         }
-    }
-
-    // EFFECTS: returns the count of delimiter within hint
-    private int countChar(String string, char delimiter) {
-        int delimiterCounter = 0;
-
-        // Count occurrences of the delimiter
-        for (int i = 0; i < string.length(); i++) {
-            if (string.charAt(i) == delimiter) {
-                delimiterCounter++;
-            }
-        }
-
-        return delimiterCounter;
-    }
-
-    // EFFECTS: Removes a trailing space (if it exists)
-    private String removeTrailingSpace(String str) {
-        int lastCharIndex = str.length() - 1;
-        String lastChar = str.substring(lastCharIndex);
-        if (lastChar.equals(" ")) {
-            return str.substring(0, lastCharIndex);
-        } else {
-            return str;
-        }
-    }
-
-    // EFFECTS: Returns a regex matcher object (matching digits) for a given string
-    private Matcher getDigits(String string) {
-        String digits = "[0-9]+";
-
-        Pattern pattern = Pattern.compile(digits);
 
-        return pattern.matcher(string);
+        setValidHint(clueParser.getClue(), clueParser.getCount());
+        return true;
     }
 
     // MODIFIES: this
-    // EFFECTS: sets the current Spymaster's hint and # of guesses
-    private void setValidHint(Spymaster spymaster, String clue, int numGuesses) {
-        spymaster.setHint(clue);
-        spymaster.setGuesses(numGuesses);
+    // EFFECTS: gives the current Spymaster's hint and # of guesses to their operatives
+    private void setValidHint(String clue, int numGuesses) {
+        int guessesRemaining = ui.getGame().giveClue(clue, numGuesses);
 
         String setText;
-        setText = "Your hint is: " + spymaster.getHint() + ". You have "
-                + ui.guessesRemaining() + " guesses remaining!";
+        setText = "Your hint is: " + clue + ". You have "
+                + guessesRemaining + " guesses remaining!";
         consolePanel.getHintLabel().setText(ui.addHtmlTags(setText));
     }
 
@@ -1,14 +1,13 @@
 package ui;
 
 import model.*;
-import model.Event;
 
 import javax.swing.*;
 import javax.swing.plaf.ColorUIResource;
 
 import java.awt.*;
 
-import static model.Board.*;
+import static model.Team.*;
 import static ui.CodenamesGUI.*;
 
 
@@ -130,113 +129,94 @@ public class CardPanel extends JPanel {
     // EFFECTS:  allows the operative to guess and changes the game-state according to their guess
     private void guess(CardButton btn) {
         Card card = btn.getCard();
-        card.makeVisibleTeam();
+        int position = ui.getGameBoard().getBoard().indexOf(card);
+        GuessResult result = ui.getGame().guess(position);
 
         // Get the card associated with the guesses
-        String selectedTeam = card.getTeam();
-
-        // Get the current team
-        String currentTeam = ui.getGameBoard().getCurrentTeam();
+        Team selectedTeam = result.getCardTeam();
 
         // Log an event
-        model.Event event = new model.Event("The " + currentTeam + " team selected a "
-                + selectedTeam + " card (" + card.getWord() + ")!");
-        eventLog.logEvent(event);
+        ui.getEventLog().logEvent(new CardRevealed(position, result));
 
 
         // Depending on which card was selected
-        if (selectedTeam.equals(ASSASSIN)) {
-            guessAssassin();
-        } else if (selectedTeam.equals(NEUTRAL)) {
+        if (selectedTeam == ASSASSIN) {
+            guessAssassin(result);
+        } else if (selectedTeam == NEUTRAL) {
             guessNeutral(selectedTeam);
-        } else if (selectedTeam.equals(currentTeam)) {
-            guessCorrect(selectedTeam);
+        } else if (result.isCorrect()) {
+            guessCorrect(result);
         } else { // Selected the opposite team's card
-            guessWrong(selectedTeam);
+            guessWrong(result);
         }
 
     }
 
     // MODIFIES: this
-    // EFFECTS: Write to the console that the current team loses and returns false
-    private void guessAssassin() {
-        String assassin = "The " + ui.getGameBoard().getCurrentTeam() + " team has selected the assassin! ";
-        ui.nextTeam(true); // Change the team to show that the OTHER team has won.
-        assassin += "\nThe " + ui.getGameBoard().getCurrentTeam() + " team wins!";
+    // EFFECTS: Write to the console that the current team loses
+    private void guessAssassin(GuessResult result) {
+        String assassin = "The " + result.getGuessingTeam() + " team has selected the assassin! ";
+        ui.showNextTeam(true); // Change the team to show that the OTHER team has won.
+        assassin += "\nThe " + result.getOutcome().getWinner() + " team wins!";
         consolePanel.getConsoleLabel().setText(ui.addHtmlTags(assassin));
 
         // Log event
-        model.Event assassinPlayed = new Event(assassin);
-        eventLog.logEvent(assassinPlayed);
+        ui.getEventLog().logEvent(new GameWon(result.getOutcome().getWinner(), true));
 
         // Display thanks for playing message
         ui.thanksForPlaying();
     }
 
     // MODIFIES: this
-    // EFFECTS: Write to the console that you've selected a neutral card, switches team and returns false
-    private void guessNeutral(String team) {
+    // EFFECTS: Write to the console that you've selected a neutral card and switches team
+    private void guessNeutral(Team team) {
         printSelectedCard(team);
         teamScorePanel.getScoreLabel().setText(ui.getGameBoard().getScoreText());
-        ui.nextTeam(false);
+        ui.showNextTeam(false);
     }
 
 
     // MODIFIES: this
-    // EFFECTS: increments the score for the current team, check if this is sufficient to win (and end the game)
-    //          otherwise, decrement the number of available guesses
-    private void guessCorrect(String team) {
-        Operative operative;
-        Spymaster spymaster;
-
-
-        printSelectedCard(team);
-        operative = ui.selectOperative();
-        operative.incrementScore(); // Increment score
+    // EFFECTS: updates the score for the current team and ends the game if this is sufficient to win,
+    //          otherwise shows the number of available guesses
+    private void guessCorrect(GuessResult result) {
+        printSelectedCard(result.getCardTeam());
         teamScorePanel.getScoreLabel().setText(ui.getGameBoard().getScoreText());
 
         // Check if the current team has won, if yes - immediately exit
-        if (ui.getGameBoard().checkIfGameWon()) {
+        if (result.isGameOver()) {
             ui.gameWonMessage();
+            return;
         }
 
-        // Reduce the number of guesses for this team
-        spymaster = ui.selectSpymaster();
-        spymaster.decrementGuesses();
-
         String setText;
-        setText = "Your hint is: " + spymaster.getHint() + ". You have "
-                + ui.guessesRemaining() + " guesses remaining!";
+        setText = "Your hint is: " + ui.getGame().getSpymaster(result.getGuessingTeam()).getHint() + ". You have "
+                + result.getGuessesRemaining() + " guesses remaining!";
         consolePanel.getHintLabel().setText(ui.addHtmlTags(setText));
 
-        if (ui.guessesRemaining() > 0) {
-            // DO NOTHING
-        } else { // Stop looping for the current team and go to the next team
-            ui.nextTeam(false);
+        if (result.isTurnEnded()) { // Stop looping for the current team and go to the next team
+            ui.showNextTeam(false);
         }
     }
 
     // MODIFIES: this
     // EFFECTS: If you guessed the other team's card, they get a point - immediately check if they have won
     //          If not, go to their turn
-    private void guessWrong(String team) {
-        Operative selectedOperative;
-        printSelectedCard(team);
+    private void guessWrong(GuessResult result) {
+        printSelectedCard(result.getCardTeam());
 
-        ui.nextTeam(false);
-        selectedOperative = ui.selectOperative();
-        selectedOperative.incrementScore();
+        ui.showNextTeam(false);
         teamScorePanel.getScoreLabel().setText(ui.getGameBoard().getScoreText());
 
         // Check if the game is won from this action
-        if (ui.getGameBoard().checkIfGameWon()) {
+        if (result.isGameOver()) {
             ui.gameWonMessage();
         }
     }
 
     // MODIFIES: this
     // EFFECTS: Prints which team's card has just been selected
-    private void printSelectedCard(String team) {
+    private void printSelectedCard(Team team) {
         consolePanel.getConsoleLabel().setText(ui.addHtmlTags("You've selected a " + team + " card!"));
     }
 
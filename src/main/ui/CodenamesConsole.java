@@ -2,11 +2,15 @@ package ui;
 
 import model.Board;
 import model.Card;
-import model.Operative;
+import model.ClueParser;
+import model.GameEngine;
+import model.GuessResult;
+import model.Role;
 import model.Spymaster;
-import org.json.JSONObject;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import model.Team;
+import persistence.GameJournal;
+import persistence.GameReader;
+import persistence.JsonStreamWriter;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -14,11 +18,8 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Scanner;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
-import static java.lang.Integer.parseInt;
-import static model.Board.*;
+import static model.Team.*;
 
 
 // Structure for this console application is inspired by the UBC: CPSC 210 Software Construction TellerApp
@@ -26,16 +27,14 @@ import static model.Board.*;
 
 public class CodenamesConsole {
     private static final String JSON_STORE = "./data/codenames.json";
-    private JsonWriter jsonWriter;
-    private JsonReader jsonReader;
+    private static final String JOURNAL_STORE = "./data/codenames";    // Autosave snapshot and journal
+    private JsonStreamWriter jsonWriter;
+    private GameJournal journal;
     private Scanner input;
 
-    private Board gameBoard;
+    private GameEngine game;
     private boolean gameContinue;
-    private Spymaster redSpymaster;
-    private Spymaster blueSpymaster;
-    private Operative redOperative;
-    private Operative blueOperative;
+    private final ClueParser clueParser = new ClueParser();    // Parses the hints entered
 
     // Get the cards per row (and total number of cards)
     int totalCards = Board.NUM_CARDS;
@@ -47,15 +46,15 @@ public class CodenamesConsole {
         input = new Scanner(System.in);
         gameContinue = true;
 
-        jsonWriter = new JsonWriter(JSON_STORE);
-        jsonReader = new JsonReader(JSON_STORE);
+        jsonWriter = new JsonStreamWriter(JSON_STORE);
+        journal = new GameJournal(JOURNAL_STORE);
         runCodenames();
     }
 
     // MODIFIES: this
     // EFFECTS: processes user input
     private void runCodenames() {
-        String startingPlayer;
+        Team startingPlayer;
         input = new Scanner(System.in);
         input.useDelimiter("\n");
 
@@ -64,7 +63,7 @@ public class CodenamesConsole {
         startingPlayer = getStartingPlayer();
 
         // If either RED or BLUE is provided then initialize a fresh game
-        if (startingPlayer.equals(RED) || startingPlayer.equals(BLUE)) {
+        if (startingPlayer == RED || startingPlayer == BLUE) {
             init(startingPlayer);
         } else { // This is when the player opts to load a game state
             // DO NOTHING
@@ -76,7 +75,8 @@ public class CodenamesConsole {
 
     // MODIFIES: this
     // EFFECTS: prompts the user to start as RED or BLUE (or randomly chooses)
-    private String getStartingPlayer() {
+    // EFFECTS: returns null if the player opts to load a game state instead
+    private Team getStartingPlayer() {
         boolean keepGoing = true;
         String command;
 
@@ -93,7 +93,7 @@ public class CodenamesConsole {
                     return getRandomStartingPlayer();
                 case "l":
                     loadGameState();
-                    return "";
+                    return null;
                 case "q":
                     keepGoing = false;
                     exitGame();
@@ -101,7 +101,7 @@ public class CodenamesConsole {
 
             System.out.println("Invalid input...");
         }
-        return "";
+        return null;
     }
 
     // EFFECTS: Prints the starting player menu to the console
@@ -124,33 +124,13 @@ public class CodenamesConsole {
 
     // MODIFIES: this
     // EFFECTS: initializes the game board, spymasters and operatives
-    private void init(String startingPlayer) {
-        initializeGameBoard(startingPlayer);
-
-
-        gameBoard.setCurrentTeam(startingPlayer);
-
-        redSpymaster = new Spymaster(RED);
-        blueSpymaster = new Spymaster(BLUE);
-        redOperative = new Operative(RED);
-        blueOperative = new Operative(BLUE);
+    private void init(Team startingPlayer) {
+        game = GameEngine.newGame(startingPlayer);
+        startJournal();
     }
 
-    // MODIFIES: this
-    // EFFECTS: randomly initializes the gameboard
-    private void initializeGameBoard(String startingPlayer) {
-        gameBoard = new Board(startingPlayer);
-        gameBoard.initializeGameDictionary();
-        gameBoard.addCards(RED);
-        gameBoard.addCards(BLUE);
-        gameBoard.addCards(NEUTRAL);
-        gameBoard.addCards(ASSASSIN);
-        gameBoard.shuffle();
-        gameBoard.setBoardIndices();
-    }
-
-    // EFFECTS: Returns a randomly generated team to start the game ("RED" or "BLUE")
-    private String getRandomStartingPlayer() {
+    // EFFECTS: Returns a randomly generated team to start the game (RED or BLUE)
+    private Team getRandomStartingPlayer() {
         int min = 0;
         int max = 1;
         int randomNum = ThreadLocalRandom.current().nextInt(min, max + 1);
@@ -163,12 +143,19 @@ public class CodenamesConsole {
     }
 
     // MODIFIES: this
-    // EFFECTS:  play the game until user presses exit or when a winner is decided
+    // EFFECTS:  play the game until user presses exit or when a winner is decided, starting with whichever player's
+    //           turn it is, since a loaded game may have been saved during the operative's turn
     private void playGame() {
+        if (game.getOutcome().isGameOver()) {
+            System.out.println("This game is already over, the " + game.getOutcome().getWinner() + " team won!");
+        }
 
-        while (gameContinue) {
-            playSpymasterRound();
-            playOperativeRound();
+        while (gameContinue && !game.getOutcome().isGameOver()) {
+            if (game.getCurrentPlayer() == Role.SPYMASTER) {
+                playSpymasterRound();
+            } else {
+                playOperativeRound();
+            }
         }
 
         System.out.println("\nThanks for playing!\n");
@@ -223,7 +210,7 @@ public class CodenamesConsole {
 
     // EFFECTS: displays menu of options for the Spymaster
     private void spymasterMenu() {
-        System.out.println("\n[" + gameBoard.getCurrentTeam() + "] Spymasters can:");
+        System.out.println("\n[" + game.getCurrentTeam() + "] Spymasters can:");
         System.out.println("\tk -> Look at key");
         System.out.println("\th -> Give a hint");
         System.out.println("\tq -> Quit");
@@ -283,7 +270,7 @@ public class CodenamesConsole {
             // For each row of cards
             for (int cardIndex = startingIndex; cardIndex < startingIndex + cardsPerRow; cardIndex++) {
                 // Get the card in the current game associated with "cardIndex"
-                card = gameBoard.getBoard().get(cardIndex);
+                card = game.getBoard().getBoard().get(cardIndex);
 
                 // Get the spacer associated with this column
                 centerSpacer = getCenterSpacer(cardIndex == startingIndex + cardsPerRow - 1);
@@ -291,7 +278,7 @@ public class CodenamesConsole {
                 // Accumulate the card's data to be printed
                 actualTeamPrintedLine = printCard(actualTeamPrintedLine, getActualTeam(playerType, card), centerSpacer);
                 dictionaryWordPrintedLine = printCard(dictionaryWordPrintedLine, card.getWord(), centerSpacer);
-                visibleTeamPrintedLine = printCard(visibleTeamPrintedLine, card.getVisibleTeam(), centerSpacer);
+                visibleTeamPrintedLine = printCard(visibleTeamPrintedLine, card.getVisibleTeam().getLabel(), centerSpacer);
                 cardNumPrintedLine = printCard(cardNumPrintedLine, Integer.toString(card.getIndex()), centerSpacer);
 
             }
@@ -349,7 +336,7 @@ public class CodenamesConsole {
     //              - Else (operative), return blank - as operative's do not have access to this information
     private String getActualTeam(int playerType, Card card) {
         if (playerType == 0) {
-            return card.getTeam();
+            return card.getTeam().getLabel();
         } else {
             return " ";
         }
@@ -386,7 +373,6 @@ public class CodenamesConsole {
     // EFFECTS: prompts spymaster for a hint and saves it
     private void provideHint() {
 
-        Spymaster selected = selectSpymaster();
         boolean keepGoing = true;
         String command;
 
@@ -396,10 +382,10 @@ public class CodenamesConsole {
             System.out.println("\tClue / 3\n");
             command = input.next();
 
-            if (validHint(command, selected)) {
+            if (validHint(command)) {
                 keepGoing = false;
             } else {
-                System.out.println("Invalid clue...");
+                System.out.println("Invalid clue: " + clueParser.getStatus().getMessage() + "...");
             }
 
         }
@@ -408,77 +394,23 @@ public class CodenamesConsole {
 
     // EFFECTS: get the Spymaster object whose turn it currently is
     private Spymaster selectSpymaster() {
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            return redSpymaster;
-        } else {
-            return blueSpymaster;
-        }
+        return game.getCurrentSpymaster();
     }
 
-    // EFFECTS: Returns true if the provided hint is valid
-    //          - One word at most
-    //          - A non-zero integer number of guesses provided
-    //          - A single "/" character between
-    private boolean validHint(String hint, Spymaster selected) {
-
-        // Check if there is a single word/clue given
-        int delimiterIndex = hint.indexOf('/'); // Index of the delimiter
-        if (delimiterIndex == -1) { // No delimiter found
+    // EFFECTS: Returns true if the provided hint is valid, and if so gives it to the current Spymaster's operatives
+    private boolean validHint(String hint) {
+        if (!clueParser.parse(hint, game.getBoard())) {
             return false;
         }
-        String cluePortion = removeTrailingSpace(hint.substring(0, delimiterIndex));
-        if (!(countChar(cluePortion, ' ') == 0)) { // Multi-word hints have spaces
-            return false;
-        }
-
-        // Extract the # portion of the hint
-        Matcher isDigits = getDigits(hint.substring(delimiterIndex + 1));
-        boolean isNumber = isDigits.find();
-        int numberPortion;
-
-        if (isNumber) {
-            numberPortion = parseInt(isDigits.group(0));
-
-            // Make sure that there are no negative guesses provided
-            if (numberPortion < 0) {
-                return false;
-            }
 
-            setValidHint(selected, cluePortion, numberPortion);
-            return true;
-        } else {
-            return false;
-        }
+        setValidHint(clueParser.getClue(), clueParser.getCount());
+        return true;
     }
 
     // MODIFIES: this
-    // EFFECTS: sets the current Spymaster's hint and # of guesses
-    private void setValidHint(Spymaster spymaster, String clue, int numGuesses) {
-        spymaster.setHint(clue);
-        spymaster.setGuesses(numGuesses);
-    }
-
-    // EFFECTS: returns the count of delimiter within hint
-    private int countChar(String string, char delimiter) {
-        int delimiterCounter = 0;
-
-        // Count occurrences of the delimiter
-        for (int i = 0; i < string.length(); i++) {
-            if (string.charAt(i) == delimiter) {
-                delimiterCounter++;
-            }
-        }
-
-        return delimiterCounter;
-    }
-
-    // EFFECTS: Returns a regex matcher object (matching digits) for a given string
-    private Matcher getDigits(String string) {
-        String digits = "[0-9]+";
-
-        Pattern pattern = Pattern.compile(digits);
-
-        return pattern.matcher(string);
+    // EFFECTS: gives the current Spymaster's hint and # of guesses to their operatives
+    private void setValidHint(String clue, int numGuesses) {
+        game.giveClue(clue, numGuesses);
     }
 
     // MODIFIES: this
@@ -514,8 +446,8 @@ public class CodenamesConsole {
 
     // EFFECTS: Prints the current score to the console
     private void currentScore() {
-        int redScore = redOperative.getTeamScore();
-        int blueScore = blueOperative.getTeamScore();
+        int redScore = game.getOperative(RED).getTeamScore();
+        int blueScore = game.getOperative(BLUE).getTeamScore();
 
         System.out.println("\n~~~~~~~ SCORE ~~~~~~~");
         System.out.println(" " + RED + " - " + redScore + " // " + BLUE + " - " + blueScore);
@@ -524,8 +456,7 @@ public class CodenamesConsole {
 
     // EFFECTS: Print the number of guesses remaining and returns it
     private int guessesRemaining() {
-        Spymaster selected = selectSpymaster();
-        int guesses = selected.getGuesses() + 1;
+        int guesses = game.getGuessesRemaining();
         System.out.println("You have " + guesses + " guesses remaining!");
 
         return guesses;
@@ -533,7 +464,7 @@ public class CodenamesConsole {
 
     // EFFECTS: displays menu of options for the Operative
     private void operativeMenu() {
-        System.out.println("\n[" + gameBoard.getCurrentTeam() + "] Operatives can:");
+        System.out.println("\n[" + game.getCurrentTeam() + "] Operatives can:");
         System.out.println("\tk -> Look at key");
         System.out.println("\tg -> Guess");
         System.out.println("\th -> Review the hint");
@@ -575,40 +506,40 @@ public class CodenamesConsole {
         System.out.println("Your clue is: " + selected.getHint());
     }
 
-    // EFFECTS: changes which team goes next, given a false parameter print to console which team is coming next
+    // MODIFIES: this
+    // EFFECTS: ends the current team's turn, given a false parameter print to console which team is coming next
     private void nextTeam(boolean suppressPrint) {
-
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            gameBoard.setCurrentTeam(BLUE);
-        } else {
-            gameBoard.setCurrentTeam(RED);
-        }
+        game.endTurn();
 
         if (!suppressPrint) {
-            System.out.println("\nSwitching to the " + gameBoard.getCurrentTeam() + " team's turn!");
+            printNextTeam();
         }
 
     }
 
+    // EFFECTS: prints to console which team is coming next
+    private void printNextTeam() {
+        System.out.println("\nSwitching to the " + game.getCurrentTeam() + " team's turn!");
+    }
+
     // MODIFIES: this
     // EFFECTS:  allows the operative to guesses and changes the game-state according to their guess
     private boolean guess() {
         int guessIndex = getGuessIndex();
 
         // Get the card associated with the guesses
-        Card card = gameBoard.getBoard().get(guessIndex);
-        String selectedTeam = card.getTeam();
-        card.makeVisibleTeam();
+        GuessResult result = game.guess(guessIndex);
+        Team selectedTeam = result.getCardTeam();
 
         // Depending on which card was selected
-        if (selectedTeam.equals(ASSASSIN)) {
-            return guessAssassin();
-        } else if (selectedTeam.equals(NEUTRAL)) {
+        if (selectedTeam == ASSASSIN) {
+            return guessAssassin(result);
+        } else if (selectedTeam == NEUTRAL) {
             return guessNeutral(selectedTeam);
-        } else if (selectedTeam.equals(gameBoard.getCurrentTeam())) {
-            return guessCorrect(selectedTeam);
+        } else if (result.isCorrect()) {
+            return guessCorrect(result);
         } else { // Selected the opposite team's card
-            return guessWrong(selectedTeam);
+            return guessWrong(result);
         }
 
     }
@@ -617,7 +548,7 @@ public class CodenamesConsole {
     private int getGuessIndex() {
         boolean keepGoing = true;
         List<Card> cards;
-        cards = gameBoard.getBoard();
+        cards = game.getBoard().getBoard();
         Card card;
         int index = 0;
 
@@ -642,65 +573,51 @@ public class CodenamesConsole {
     }
 
     // EFFECTS: Write to the console that the current team loses and returns false
-    private boolean guessAssassin() {
-        nextTeam(true); // Change the team to show that the OTHER team has won.
+    private boolean guessAssassin(GuessResult result) {
         System.out.println("You've selected the assassin!");
-        System.out.println("The " + gameBoard.getCurrentTeam() + " team wins!");
+        System.out.println("The " + result.getOutcome().getWinner() + " team wins!");
         gameContinue = false;
 
         return false;
     }
 
     // EFFECTS: Write to the console that you've selected a neutral card, switches team and returns false
-    private boolean guessNeutral(String team) {
+    private boolean guessNeutral(Team team) {
         printSelectedCard(team);
-        nextTeam(false);
+        printNextTeam();
         return false;
     }
 
 
     // MODIFIES: this
-    // EFFECTS: increments the score for the current team, check if this is sufficient to win (and end the game)
-    //          otherwise, decrement the number of available guesses
-    private boolean guessCorrect(String team) {
-        Operative selectedOperative;
-        Spymaster selectedSpymaster;
-
-
-        printSelectedCard(team);
-        selectedOperative = selectOperative();
-        selectedOperative.incrementScore(); // Increment score
+    // EFFECTS: reports the point scored by the current team, ends the game if this is sufficient to win
+    //          otherwise, reports the number of available guesses
+    private boolean guessCorrect(GuessResult result) {
+        printSelectedCard(result.getCardTeam());
 
         // Check if the current team has won, if yes - immediately exit
-        if (checkIfGameWon()) {
+        if (result.isGameOver()) {
             gameWonMessage();
             return false;
         }
 
-        // Reduce the number of guesses for this team
-        selectedSpymaster = selectSpymaster();
-        selectedSpymaster.decrementGuesses();
-
-        if (guessesRemaining() > 0) {
+        System.out.println("You have " + result.getGuessesRemaining() + " guesses remaining!");
+        if (!result.isTurnEnded()) {
             return true; // Keep looping
         } else { // Stop looping for the current team and go to the next team
-            nextTeam(false);
+            printNextTeam();
             return false;
         }
     }
 
     // EFFECTS: If you guessed the other team's card, they get a point - immediately check if they have won
     //          If not, go to their turn
-    private boolean guessWrong(String team) {
-        Operative selectedOperative;
-        printSelectedCard(team);
-
-        nextTeam(false);
-        selectedOperative = selectOperative();
-        selectedOperative.incrementScore();
+    private boolean guessWrong(GuessResult result) {
+        printSelectedCard(result.getCardTeam());
+        printNextTeam();
 
         // Check if the game is won from this action
-        if (checkIfGameWon()) {
+        if (result.isGameOver()) {
             gameWonMessage();
         }
 
@@ -709,98 +626,66 @@ public class CodenamesConsole {
     }
 
     // EFFECTS: Prints which team's card has just been selected
-    private void printSelectedCard(String team) {
+    private void printSelectedCard(Team team) {
         System.out.println("\nYou've selected a " + team + " card!");
     }
 
-    // EFFECTS: get the Spymaster object whose turn it currently is
-    private Operative selectOperative() {
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            return redOperative;
-        } else {
-            return blueOperative;
-        }
-    }
-
-    // EFFECTS: Returns true if the current team has no more visible points
-    private boolean checkIfGameWon() {
-
-        // Respective team has revealed all their cards
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            return gameBoard.getRemainingCards(RED) == 0;
-        } else {
-            return gameBoard.getRemainingCards(BLUE) == 0;
-        }
-    }
-
     // MODIFIES: this
     // EFFECTS: Prints the winner to the console and sets gameContinue to false
     private void gameWonMessage() {
-        System.out.println("The " + gameBoard.getCurrentTeam() + " team has WON by revealing all their agents!\n");
+        System.out.println("The " + game.getOutcome().getWinner()
+                + " team has WON by revealing all their agents!\n");
         currentScore();
         gameContinue = false;
     }
 
-    // EFFECTS: Removes a trailing space (if it exists)
-    private String removeTrailingSpace(String str) {
-        int lastCharIndex = str.length() - 1;
-        String lastChar = str.substring(lastCharIndex);
-        if (lastChar.equals(" ")) {
-            return str.substring(0, lastCharIndex);
-        } else {
-            return str;
-        }
-    }
-
-
     // ==== PHASE 2: Data persistence ====
 
     // MODIFIES: this, "codenames.json"
     // EFFECTS: saves the game state to file
     private void saveGameState() {
         try {
-            // Create fields for each of the respective objects we need to save
-            JSONObject mergedObject;
-            JSONObject gameBoardObj;
-            JSONObject redSpymasterObj;
-            JSONObject blueSpymasterObj;
-            JSONObject redOperativeObj;
-            JSONObject blueOperativeObj;
-
-
-            // Write fields to jsonWriter objects
-            jsonWriter.open();
-            gameBoardObj = jsonWriter.write(gameBoard);
-            redSpymasterObj = jsonWriter.write(redSpymaster);
-            blueSpymasterObj = jsonWriter.write(blueSpymaster);
-            redOperativeObj =  jsonWriter.write(redOperative);
-            blueOperativeObj = jsonWriter.write(blueOperative);
-
-            // Merge into once JSON file
-            mergedObject = jsonWriter.getMergedObject(gameBoardObj,redSpymasterObj,blueSpymasterObj,
-                    redOperativeObj,blueOperativeObj);
-            jsonWriter.write(mergedObject);
-
-            // Clean-up and exit
-            jsonWriter.close();
+            jsonWriter.write(game);
             System.out.println("Saved game state to " + JSON_STORE);
             exitGame();
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             System.out.println("Unable to write to file: " + JSON_STORE);
         }
     }
 
     // MODIFIES: this
-    // EFFECTS: loads game state from file
+    // EFFECTS: autosaves every action taken in the game from now on
+    private void startJournal() {
+        try {
+            journal.start(game);
+            game.addListener(journal);
+        } catch (IOException e) {
+            System.out.println("Unable to write to file: " + JOURNAL_STORE + ", the game will not be autosaved");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the autosaved game if there is one, otherwise loads game state from file
     private void loadGameState() {
+        if (journal.exists()) {
+            try {
+                game = journal.recover();
+                game.addListener(journal);
+                System.out.println("Recovered autosaved game from " + JOURNAL_STORE);
+                return;
+            } catch (IOException e) {
+                System.out.println("Unable to recover autosaved game, loading " + JSON_STORE + " instead");
+            }
+        }
+
         try {
-            jsonReader.read();
-            gameBoard = jsonReader.readBoard();
-            redSpymaster = jsonReader.readSpymaster(RED);
-            blueSpymaster = jsonReader.readSpymaster(BLUE);
-            redOperative = jsonReader.readOperative(RED);
-            blueOperative = jsonReader.readOperative(BLUE);
+            GameReader reader = GameReader.forFile(JSON_STORE);
+            reader.read();
+            game = new GameEngine(reader.readBoard(),
+                    reader.readSpymaster(RED), reader.readSpymaster(BLUE),
+                    reader.readOperative(RED), reader.readOperative(BLUE));
             System.out.println("Loaded game state from " + JSON_STORE);
+            startJournal();
         } catch (IOException e) {
             System.out.println("Unable to read from file: " + JSON_STORE);
         }
@@ -2,9 +2,8 @@ package ui;
 
 import model.Event;
 import model.*;
-import org.json.JSONObject;
-import persistence.JsonReader;
-import persistence.JsonWriter;
+import persistence.GameReader;
+import persistence.JsonStreamWriter;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -12,13 +11,11 @@ import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.concurrent.ThreadLocalRandom;
 
 import static java.lang.Integer.*;
-import static model.Board.*;
+import static model.Team.*;
 
 public class CodenamesGUI {
 
@@ -57,18 +54,13 @@ public class CodenamesGUI {
 
     // Data persistence
     private static final String JSON_STORE = "./data/codenames.json";
-    private JsonWriter jsonWriter;
-    private JsonReader jsonReader;
+    private JsonStreamWriter jsonWriter;
 
     // Game objects
-    private Board gameBoard;
-    protected static Spymaster redSpymaster;
-    protected static Spymaster blueSpymaster;
-    protected static Operative redOperative;
-    protected static Operative blueOperative;
+    private GameEngine game;
 
-    // Event log
-    protected static EventLog eventLog;
+    // Event log of this game
+    private EventLog eventLog;
 
     public CodenamesGUI() {
         // Initialize the screen size
@@ -86,11 +78,12 @@ public class CodenamesGUI {
 
         // For the .jar version, we CAN load from the jar file, but we CANNOT write to the jar file
         // TODO: Create an API that allows user to save or load?
-        initializeGame(getRandomStartingPlayer());
+        long seed = BoardFactory.randomSeed();
+        initializeGame(seed);
 
         // Initialize the EventLog
-        eventLog = EventLog.getInstance();
-        logCards();
+        eventLog = new EventLog();
+        eventLog.logEvent(new BoardDealt(game.getBoard(), seed));
 
         // Initialize JFrame
         frame = new JFrame();
@@ -193,13 +186,14 @@ public class CodenamesGUI {
     }
 
     // MODIFIES: this
-    // EFFECTS: Creates custom close behaviour so that the event log is printed to the console and then closed
+    // EFFECTS: Creates custom close behaviour so that the event log is printed to the console and then released
     // SOURCE: https://stackoverflow.com/questions/15778813/how-to-perform-a-task-before-a-window-frame-is-closed
     private void frameCloseBehaviour() {
         frame.addWindowListener(new WindowAdapter() {
             public void windowClosing(WindowEvent e) {
                 // The window is closing
                 printEventLog();
+                eventLog.release();
                 frame.dispose();
             }
         });
@@ -322,44 +316,27 @@ public class CodenamesGUI {
     }
 
     // MODIFIES: this
-    // EFFECTS: initializes the game board, spymasters and operatives
-    private void initializeGame(String startingPlayer) {
-        initializeGameBoard(startingPlayer);
-
-        // Initialize game objects
-        gameBoard.setCurrentTeam(startingPlayer);
-        redSpymaster = new Spymaster(RED);
-        blueSpymaster = new Spymaster(BLUE);
-        redOperative = new Operative(RED);
-        blueOperative = new Operative(BLUE);
+    // EFFECTS: initializes the game board, spymasters and operatives; the board and starting team are determined by
+    //          seed
+    private void initializeGame(long seed) {
+        game = GameEngine.newGame(seed);
     }
 
+
     // MODIFIES: this
-    // EFFECTS: randomly initializes the game board
-    private void initializeGameBoard(String startingPlayer) {
-        gameBoard = new Board(startingPlayer);
-        gameBoard.initializeGameDictionary();
-        gameBoard.addCards(RED);
-        gameBoard.addCards(BLUE);
-        gameBoard.addCards(NEUTRAL);
-        gameBoard.addCards(ASSASSIN);
-        gameBoard.shuffle();
-        gameBoard.setBoardIndices();
+    // EFFECTS: ends the current team's turn, if !supressPrint parameter then print to console which team is next
+    protected void nextTeam(boolean suppressPrint) {
+        game.endTurn();
+        showNextTeam(suppressPrint);
     }
 
-
     // MODIFIES: this
-    // EFFECTS: changes which team goes next, if !supressPrint parameter then print to console which team is coming next
-    protected void nextTeam(boolean suppressPrint) {
+    // EFFECTS: updates the display once play has passed to the next team,
+    //          if !supressPrint parameter then print to console which team is coming next
+    protected void showNextTeam(boolean suppressPrint) {
         revealKey("DEACTIVATE");
 
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            gameBoard.setCurrentTeam(BLUE);
-            teamScorePanel.getTeamLabel().setText(BLUE);
-        } else {
-            gameBoard.setCurrentTeam(RED);
-            teamScorePanel.getTeamLabel().setText(RED);
-        }
+        teamScorePanel.getTeamLabel().setText(game.getCurrentTeam().getLabel());
 
         updatePlayer();      // Go to next player
         teamScorePanel.setTeamLabelText();      // Update the label
@@ -367,79 +344,37 @@ public class CodenamesGUI {
 
         if (!suppressPrint) {
             consolePanel.getHintLabel().setText(addHtmlTags("Switching to the "
-                    + gameBoard.getCurrentTeam() + " team's turn!"));
+                    + game.getCurrentTeam() + " team's turn!"));
         }
 
     }
 
     // MODIFIES: this
-    // EFFECTS: If the current player is a SPYMASTER, change to OPERATIVE and vice-versa
+    // EFFECTS: Shows the action buttons of whichever player (SPYMASTER or OPERATIVE) is now taking their turn
     protected void updatePlayer() {
-        if (gameBoard.getCurrentPlayer().equals("SPYMASTER")) {
-            gameBoard.setCurrentPlayer("OPERATIVE");
+        if (game.getCurrentPlayer() == Role.OPERATIVE) {
             actionPanel.updatePanelOperative();
         } else {
-            gameBoard.setCurrentPlayer("SPYMASTER");
             actionPanel.updatePanelSpymaster();
         }
     }
 
-    // EFFECTS: get the Spymaster object whose turn it currently is
-    protected Operative selectOperative() {
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            return redOperative;
-        } else {
-            return blueOperative;
-        }
-    }
-
-    // EFFECTS: get the Spymaster object whose turn it currently is
-    protected Spymaster selectSpymaster() {
-        if (gameBoard.getCurrentTeam().equals(RED)) {
-            return redSpymaster;
-        } else {
-            return blueSpymaster;
-        }
-    }
-
     // MODIFIES: this
     // EFFECTS: Prints the winner to the console and sets gameContinue to false
     protected void gameWonMessage() {
         // Display who has won on the console
         setLabelBlank(consolePanel.getHintLabel());
-        String wonMessage = "The " + gameBoard.getCurrentTeam()
+        String wonMessage = "The " + game.getOutcome().getWinner()
                 + " team has WON by revealing all their agents!";
         consolePanel.getConsoleLabel().setText(addHtmlTags(wonMessage));
 
         // Log this event
-        Event gameWon = new Event(wonMessage);
-        eventLog.logEvent(gameWon);
+        eventLog.logEvent(new GameWon(game.getOutcome().getWinner(), false));
 
         // Show thanks for playing message
         thanksForPlaying();
     }
 
-    // EFFECTS: Print the number of guesses remaining and returns it
-    //          Note that per the game rules, we can always guess 1 additional time than the guesses provided
-    protected int guessesRemaining() {
-        Spymaster selected = selectSpymaster();
-
-        return selected.getGuesses() + 1;
-    }
-
-    // EFFECTS: Returns a randomly generated team to start the game ("RED" or "BLUE")
-    private String getRandomStartingPlayer() {
-        int min = 0;
-        int max = 1;
-        int randomNum = ThreadLocalRandom.current().nextInt(min, max + 1);
-
-        if (randomNum == 0) {
-            return RED;
-        } else {
-            return BLUE;
-        }
-    }
-
     // EFFECTS: Returns a string with html tags appended (to center within a JLabel)
     protected String addHtmlTags(String s) {
         return "<html>" + s + "</html>";
@@ -450,40 +385,16 @@ public class CodenamesGUI {
     // MODIFIES: this
     // EFFECTS: initializes JSON objects to read and write
     private void initializeDataPersistence() {
-        jsonWriter = new JsonWriter(JSON_STORE);
-        jsonReader = new JsonReader(JSON_STORE);
+        jsonWriter = new JsonStreamWriter(JSON_STORE);
     }
 
     // MODIFIES: this, "codenames.json"
     // EFFECTS: saves the game state to file
-    @SuppressWarnings({"checkstyle:MethodLength", "checkstyle:SuppressWarnings"})
     protected void saveGameState() {
         try {
-            // Create fields for each of the respective objects we need to save
-            JSONObject mergedObject;
-            JSONObject gameBoardObj;
-            JSONObject redSpymasterObj;
-            JSONObject blueSpymasterObj;
-            JSONObject redOperativeObj;
-            JSONObject blueOperativeObj;
-
-            // Write fields to jsonWriter objects
-            jsonWriter.open();
-            gameBoardObj = jsonWriter.write(gameBoard);
-            redSpymasterObj = jsonWriter.write(redSpymaster);
-            blueSpymasterObj = jsonWriter.write(blueSpymaster);
-            redOperativeObj = jsonWriter.write(redOperative);
-            blueOperativeObj = jsonWriter.write(blueOperative);
-
-            // Merge into once JSON file
-            mergedObject = jsonWriter.getMergedObject(gameBoardObj, redSpymasterObj, blueSpymasterObj,
-                    redOperativeObj, blueOperativeObj);
-            jsonWriter.write(mergedObject);
-
-            // Clean-up and exit
-            jsonWriter.close();
+            jsonWriter.write(game);
             consolePanel.getConsoleLabel().setText("Saved game state to " + JSON_STORE);
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             JOptionPane.showMessageDialog(frame,
                     "Unable to write to file: " + JSON_STORE,
                     "FILE NOT FOUND",
@@ -496,12 +407,11 @@ public class CodenamesGUI {
     // EFFECTS: loads game state from file
     private void loadGameState() {
         try {
-            jsonReader.read();
-            gameBoard = jsonReader.readBoard();
-            redSpymaster = jsonReader.readSpymaster(RED);
-            blueSpymaster = jsonReader.readSpymaster(BLUE);
-            redOperative = jsonReader.readOperative(RED);
-            blueOperative = jsonReader.readOperative(BLUE);
+            GameReader reader = GameReader.forFile(JSON_STORE);
+            reader.read();
+            game = new GameEngine(reader.readBoard(),
+                    reader.readSpymaster(RED), reader.readSpymaster(BLUE),
+                    reader.readOperative(RED), reader.readOperative(BLUE));
         } catch (IOException e) {
             JOptionPane.showMessageDialog(frame,
                     "Unable to read from file: " + JSON_STORE,
@@ -517,25 +427,19 @@ public class CodenamesGUI {
         }
     }
 
-    // MODIFIES: this
-    // EFFECTS: Logs the cards that have been read into the game
-    private void logCards() {
-        String quantifier = "";
-        for (Card card:gameBoard.getBoard()) {
-            // Card is overturned
-            if (card.isVisibleTeam()) {
-                quantifier = "A visible";
-            } else {
-                quantifier = "An invisible";
-            }
-            eventLog.logEvent(new Event(quantifier + " " + card.getTeam()
-                    + " card '" + card.getWord() + "' has been added to the game board!"));
-        }
+    // EFFECTS: Returns the event log of this game
+    protected EventLog getEventLog() {
+        return eventLog;
     }
 
     // EFFECTS: Returns the Board associated with this game
     protected Board getGameBoard() {
-        return gameBoard;
+        return game.getBoard();
+    }
+
+    // EFFECTS: Returns the engine playing this game
+    protected GameEngine getGame() {
+        return game;
     }
 
 }
@@ -5,9 +5,6 @@ import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
 
-import model.Event;
-import model.EventLog;
-
 import javax.imageio.ImageIO;
 
 public class Main {
@@ -1,9 +1,11 @@
 package ui;
 
+import model.Team;
+
 import javax.swing.*;
 import java.awt.*;
 
-import static model.Board.RED;
+import static model.Team.RED;
 import static ui.CodenamesGUI.*;
 
 public class TeamScorePanel extends JPanel {
@@ -49,9 +51,9 @@ public class TeamScorePanel extends JPanel {
     // MODIFIES: this
     // EFFECTS: Changes the team label to the appropriate team's color
     public void setTeamLabelColour() {
-        String currentTeam = ui.getGameBoard().getCurrentTeam();
+        Team currentTeam = ui.getGameBoard().getCurrentTeam();
 
-        if (currentTeam.equals(RED)) {
+        if (currentTeam == RED) {
             teamLabel.setForeground(Color.RED);
         } else {
             teamLabel.setForeground(Color.BLUE);
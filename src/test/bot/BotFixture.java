@@ -0,0 +1,45 @@
+package bot;
+
+import model.Board;
+import model.Card;
+
+import java.util.Arrays;
+
+import static model.Team.*;
+
+// Fixture shared by the bot tests: small embeddings whose dimensions are fruit, furniture, music and water, and a
+// board on which RED's agents are two fruits. Each test adds the words and cards it needs.
+final class BotFixture {
+    static final String[] WORDS = {"APPLE", "BERRY", "CHAIR", "DRESS", "FLUTE", "FRUIT", "FURNITURE", "SONG", "OCEAN"};
+    static final float[][] VECTORS = {
+            {1, 0, 0, 0.1f}, {1, 0, 0.1f, 0}, {0, 1, 0, 0}, {0, 0.5f, 0, 1}, {0, 0, 1, 0},
+            {1, 0, 0.05f, 0.05f}, {0, 1, 0, 0.2f}, {0.2f, 0, 1, 0}, {0, 0, 0, 1}};
+
+    private BotFixture() {
+    }
+
+    // REQUIRES: words.length == vectors.length, and no word is in WORDS
+    // EFFECTS: returns embeddings of WORDS followed by words, with the given vectors
+    static WordEmbeddings embeddings(String[] words, float[][] vectors) {
+        String[] allWords = Arrays.copyOf(WORDS, WORDS.length + words.length);
+        float[][] allVectors = Arrays.copyOf(VECTORS, VECTORS.length + vectors.length);
+        System.arraycopy(words, 0, allWords, WORDS.length, words.length);
+        System.arraycopy(vectors, 0, allVectors, VECTORS.length, vectors.length);
+        return WordEmbeddings.of(allWords, allVectors);
+    }
+
+    // EFFECTS: returns a board started by RED holding APPLE and BERRY (RED), CHAIR (BLUE), DRESS (NEUTRAL) and
+    //          FLUTE (ASSASSIN) in positions 0-4, followed by extra
+    static Board board(Card... extra) {
+        Board board = new Board(RED);
+        board.addCards(new Card("APPLE", RED));
+        board.addCards(new Card("BERRY", RED));
+        board.addCards(new Card("CHAIR", BLUE));
+        board.addCards(new Card("DRESS", NEUTRAL));
+        board.addCards(new Card("FLUTE", ASSASSIN));
+        for (Card card : extra) {
+            board.addCards(card);
+        }
+        return board;
+    }
+}
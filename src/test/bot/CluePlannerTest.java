@@ -0,0 +1,65 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CluePlannerTest {
+    private WordEmbeddings embeddings;
+    private Board board;
+
+    @BeforeEach
+    void setup() {
+        embeddings = BotFixture.embeddings(new String[] {"TABLE", "PEAR"},
+                new float[][] {{0.1f, 1, 0, 0}, {1, 0.1f, 0, 0}});
+        board = BotFixture.board(new Card("TABLE", BLUE));
+    }
+
+    // EFFECTS: returns a planner over the fixture with the given budget
+    private CluePlanner planner(long budgetNanos) {
+        return new CluePlanner(new ClueSuggester(embeddings), new OperativeBot(embeddings), 3, 2, budgetNanos);
+    }
+
+    @Test
+    void testPlanWinsInOneTurn() {
+        CluePlanner planner = new CluePlanner(new ClueSuggester(embeddings), new OperativeBot(embeddings));
+        ClueSuggestion clue = planner.suggest(board, RED);
+
+        assertEquals(2, clue.getCount());
+        assertEquals(0b11, clue.getTargets());
+        assertEquals("FURNITURE", planner.suggest(board, BLUE).getClue());
+    }
+
+    @Test
+    void testTranspositionTable() {
+        CluePlanner planner = planner(CluePlanner.DEFAULT_BUDGET_NANOS);
+        planner.suggest(board, RED);
+        int positions = planner.getCachedPositions(board);
+
+        planner.suggest(board, RED);
+
+        assertTrue(positions > 0);
+        assertEquals(positions, planner.getCachedPositions(board));
+        assertEquals(0, planner.getCachedPositions(new Board(RED)));
+    }
+
+    @Test
+    void testNoBudgetStillAnswers() {
+        ClueSuggestion clue = planner(0).suggest(board, BLUE);
+
+        assertEquals("FURNITURE", clue.getClue());
+        assertEquals(2, clue.getCount());
+    }
+
+    @Test
+    void testNoSafeClue() {
+        board.getBoard().get(0).makeVisibleTeam();
+        board.getBoard().get(1).makeVisibleTeam();
+
+        assertNull(planner(0).suggest(board, RED));
+    }
+}
@@ -0,0 +1,76 @@
+package bot;
+
+import model.Board;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClueSuggesterTest {
+    private WordEmbeddings embeddings;
+    private Board board;
+
+    @BeforeEach
+    void setup() {
+        embeddings = BotFixture.embeddings(new String[] {"APPLES", "HARMONICA"},
+                new float[][] {{1, 0, 0, 0}, {0.3f, 0, 1, 0}});
+        board = BotFixture.board();
+    }
+
+    @Test
+    void testSuggestForTwo() {
+        ClueSuggestion suggestion = new ClueSuggester(embeddings).suggest(board, RED);
+
+        assertEquals("FRUIT", suggestion.getClue());   // APPLES is more similar but contains APPLE
+        assertEquals(2, suggestion.getCount());
+        assertEquals(0b11, suggestion.getTargets());
+        assertTrue(suggestion.getScore() > 2);
+        assertEquals("FRUIT / 2", suggestion.toString());
+    }
+
+    @Test
+    void testFormOfCardSkipped() {
+        WordEmbeddings plural = BotFixture.embeddings(new String[] {"BERRIES"}, new float[][] {{1, 0, 0.1f, 0}});
+        board.getBoard().get(0).makeVisibleTeam();
+        ClueSuggestion suggestion = new ClueSuggester(plural).suggest(board, RED);
+
+        assertEquals("FRUIT", suggestion.getClue());   // BERRIES is more similar but is a form of BERRY
+        assertEquals(1 << 1, suggestion.getTargets());
+    }
+
+    @Test
+    void testSuggestForOtherTeam() {
+        ClueSuggestion suggestion = new ClueSuggester(embeddings).suggest(board, BLUE);
+
+        assertEquals("FURNITURE", suggestion.getClue());
+        assertEquals(1, suggestion.getCount());
+        assertEquals(1 << 2, suggestion.getTargets());
+    }
+
+    @Test
+    void testMaxCount() {
+        ClueSuggestion suggestion = new ClueSuggester(embeddings, 1).suggest(board, RED);
+
+        assertEquals(1, suggestion.getCount());
+        assertEquals(1, Integer.bitCount(suggestion.getTargets()));
+    }
+
+    @Test
+    void testSuggestWithIndex() {
+        IvfIndex index = IvfIndex.build(embeddings, 3, 1);
+        ClueSuggestion suggestion = new ClueSuggester(embeddings, index).suggest(board, RED);
+
+        assertEquals("FRUIT", suggestion.getClue());
+        assertEquals(2, suggestion.getCount());
+        assertEquals(0b11, suggestion.getTargets());
+    }
+
+    @Test
+    void testRevealedCardsIgnored() {
+        board.getBoard().get(0).makeVisibleTeam();
+        board.getBoard().get(1).makeVisibleTeam();
+
+        assertNull(new ClueSuggester(embeddings).suggest(board, RED));
+    }
+}
@@ -0,0 +1,189 @@
+package bot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IvfIndexTest {
+    private static final int WORDS = 500;
+    private static final int DIMENSIONS = 8;
+
+    private WordEmbeddings embeddings;
+
+    // Words are scattered around one of the axes, so they fall into DIMENSIONS clear clusters
+    @BeforeEach
+    void setup() {
+        SplittableRandom random = new SplittableRandom(7);
+        String[] words = new String[WORDS];
+        float[][] vectors = new float[WORDS][DIMENSIONS];
+        for (int i = 0; i < WORDS; i++) {
+            words[i] = "WORD" + i;
+            for (int d = 0; d < DIMENSIONS; d++) {
+                vectors[i][d] = (float) random.nextDouble(0.1);
+            }
+            vectors[i][i % DIMENSIONS] = 1;
+        }
+        embeddings = WordEmbeddings.of(words, vectors);
+    }
+
+    @Test
+    void testBuild() {
+        IvfIndex index = IvfIndex.build(embeddings, 1);
+
+        assertEquals(WORDS, index.size());
+        assertEquals(DIMENSIONS, index.getDimensions());
+        assertEquals(22, index.getLists());
+
+        int total = 0;
+        for (int c = 0; c < index.getLists(); c++) {
+            total += index.getListSize(c);
+        }
+        assertEquals(WORDS, total);
+
+        int[] all = index.search(new float[DIMENSIONS], index.getLists());
+        Arrays.sort(all);
+        for (int row = 0; row < WORDS; row++) {
+            assertEquals(row, all[row]);
+        }
+    }
+
+    @Test
+    void testSearchFindsNeighbours() {
+        IvfIndex index = IvfIndex.build(embeddings, DIMENSIONS, 1);
+        float[] query = new float[DIMENSIONS];
+        embeddings.copyVector(3, query);
+
+        int[] found = index.search(query, 1);
+
+        assertEquals(WORDS / DIMENSIONS, found.length, 1);
+        for (int row : found) {
+            assertEquals(3, row % DIMENSIONS);
+        }
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        File scratch = File.createTempFile("testIndex", ".ivf");
+        scratch.deleteOnExit();
+        IvfIndex index = IvfIndex.build(embeddings, 1);
+        index.save(scratch.getPath());
+
+        IvfIndex loaded = IvfIndex.load(scratch.getPath(), embeddings);
+
+        assertEquals(index.getLists(), loaded.getLists());
+        float[] query = new float[DIMENSIONS];
+        for (int row = 0; row < WORDS; row += 50) {
+            embeddings.copyVector(row, query);
+            assertArrayEquals(index.search(query, 2), loaded.search(query, 2));
+        }
+    }
+
+    @Test
+    void testLoadInvalid() throws IOException {
+        File scratch = File.createTempFile("testIndex", ".ivf");
+        scratch.deleteOnExit();
+        IvfIndex.build(embeddings, 1).save(scratch.getPath());
+        WordEmbeddings other = WordEmbeddings.of(new String[] {"APPLE"}, new float[][] {{1, 0}});
+
+        try {
+            IvfIndex.load(scratch.getPath(), other);
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+
+        Files.write(scratch.toPath(), Arrays.copyOf(Files.readAllBytes(scratch.toPath()), 40));
+        try {
+            IvfIndex.load(scratch.getPath(), embeddings);
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testLoadCorrupt() throws IOException {
+        File scratch = File.createTempFile("testIndex", ".ivf");
+        scratch.deleteOnExit();
+        IvfIndex.build(embeddings, 1).save(scratch.getPath());
+        byte[] saved = Files.readAllBytes(scratch.toPath());
+        int rowsStart = saved.length - embeddings.size() * Integer.BYTES;
+
+        // The last row out of range, then the end of the last list not the number of words
+        ByteBuffer.wrap(saved).putInt(saved.length - Integer.BYTES, embeddings.size());
+        Files.write(scratch.toPath(), saved);
+        assertThrows(IOException.class, () -> IvfIndex.load(scratch.getPath(), embeddings));
+
+        saved = Files.readAllBytes(scratch.toPath());
+        ByteBuffer.wrap(saved).putInt(saved.length - Integer.BYTES, 0).putInt(rowsStart - Integer.BYTES, 1);
+        Files.write(scratch.toPath(), saved);
+        assertThrows(IOException.class, () -> IvfIndex.load(scratch.getPath(), embeddings));
+    }
+
+    @Test
+    void testLoadBadListCount() throws IOException {
+        File scratch = File.createTempFile("testIndex", ".ivf");
+        scratch.deleteOnExit();
+        IvfIndex.build(embeddings, 1).save(scratch.getPath());
+        byte[] saved = Files.readAllBytes(scratch.toPath());
+        int listsAt = Integer.BYTES + 1 + 2 * Integer.BYTES;
+        int savedLists = ByteBuffer.wrap(saved).getInt(listsAt);
+
+        // More lists than words, then a count whose arrays would not fit in memory, then a negative one
+        for (int lists : new int[] {embeddings.size() + 1, Integer.MAX_VALUE, -1}) {
+            ByteBuffer.wrap(saved).putInt(listsAt, lists);
+            Files.write(scratch.toPath(), saved);
+            assertThrows(IOException.class, () -> IvfIndex.load(scratch.getPath(), embeddings));
+        }
+
+        // The right count, but a file one word too short for it
+        ByteBuffer.wrap(saved).putInt(listsAt, savedLists);
+        Files.write(scratch.toPath(), Arrays.copyOf(saved, saved.length - Integer.BYTES));
+        assertThrows(IOException.class, () -> IvfIndex.load(scratch.getPath(), embeddings));
+    }
+
+    @Test
+    void testLoadOrBuild() throws IOException {
+        File scratch = File.createTempFile("testIndex", ".ivf");
+        scratch.deleteOnExit();
+        Files.writeString(scratch.toPath(), "not an index");
+
+        IvfIndex built = IvfIndex.loadOrBuild(scratch.getPath(), embeddings, 1);
+        IvfIndex loaded = IvfIndex.load(scratch.getPath(), embeddings);
+
+        assertEquals(built.getLists(), loaded.getLists());
+        assertEquals(built.getListSize(0), loaded.getListSize(0));
+    }
+
+    @Test
+    void testConcurrentSearches() throws Exception {
+        IvfIndex index = IvfIndex.build(embeddings, 1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<int[]>> results = new ArrayList<>();
+        for (int row = 0; row < WORDS; row++) {
+            float[] query = new float[DIMENSIONS];
+            embeddings.copyVector(row, query);
+            results.add(pool.submit(() -> index.search(query, 2)));
+        }
+
+        float[] query = new float[DIMENSIONS];
+        for (int row = 0; row < WORDS; row++) {
+            embeddings.copyVector(row, query);
+            assertArrayEquals(index.search(query, 2), results.get(row).get());
+        }
+        pool.shutdown();
+    }
+}
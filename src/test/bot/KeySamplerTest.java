@@ -0,0 +1,113 @@
+package bot;
+
+import model.Board;
+import model.BoardFactory;
+import model.Card;
+import model.Team;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class KeySamplerTest {
+    private Board board;
+    private List<Card> cards;
+
+    @BeforeEach
+    void setup() {
+        board = BoardFactory.fromSeed(3);
+        cards = board.getBoard();
+    }
+
+    // EFFECTS: returns the positions of the cards of team, revealed or not
+    private int[] positionsOf(Team team) {
+        return IntStream.range(0, cards.size()).filter(i -> cards.get(i).getTeam() == team).toArray();
+    }
+
+    @Test
+    void testSampleConsistent() {
+        cards.get(positionsOf(RED)[0]).makeVisibleTeam();
+        cards.get(positionsOf(NEUTRAL)[0]).makeVisibleTeam();
+        KeySampler sampler = new KeySampler(board);
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int k = 0; k < 200; k++) {
+            long key = sampler.sample(random);
+            int[] counts = new int[Team.values().length];
+            for (int i = 0; i < cards.size(); i++) {
+                Team team = KeySampler.teamOf(key, i);
+                counts[team.ordinal()]++;
+                if (board.isRevealed(i)) {
+                    assertEquals(cards.get(i).getTeam(), team);
+                }
+            }
+            assertEquals(board.getNumOriginalRedCards(), counts[RED.ordinal()]);
+            assertEquals(board.getNumOriginalBlueCards(), counts[BLUE.ordinal()]);
+            assertEquals(1, counts[ASSASSIN.ordinal()]);
+            assertEquals(Board.NUM_CARDS_NEUTRAL, counts[NEUTRAL.ordinal()]);
+        }
+    }
+
+    @Test
+    void testEvaluateUnknownBoard() {
+        int first = positionsOf(NEUTRAL)[0];
+        RiskEstimate estimate = new KeySampler(board).evaluate(RED, new int[][] {{first}}, 20_000, 1)[0];
+
+        assertEquals(20_000, estimate.getSamples());
+        assertEquals(board.getNumOriginalRedCards() / 25.0, estimate.getExpectedAgents(), 0.02);
+        assertEquals(board.getNumOriginalBlueCards() / 25.0, estimate.getOpponentRisk(), 0.02);
+        assertEquals(1 / 25.0, estimate.getAssassinRisk(), 0.01);
+    }
+
+    @Test
+    void testEvaluateKnownBoard() {
+        int[] red = positionsOf(RED);
+        for (int i = 0; i < cards.size(); i++) {
+            if (cards.get(i).getTeam() != RED && cards.get(i).getTeam() != ASSASSIN) {
+                cards.get(i).makeVisibleTeam();
+            }
+        }
+        int assassin = positionsOf(ASSASSIN)[0];
+        KeySampler sampler = new KeySampler(board);
+
+        RiskEstimate[] estimates = sampler.evaluate(RED, new int[][] {{red[0], red[1]}, {assassin}}, 1000, 1);
+
+        // Only RED's agents and the assassin are hidden, so each guess is the assassin with equal chance
+        double safe = 1 - 1.0 / (red.length + 1);
+        assertEquals(safe + safe * (1 - 1.0 / red.length), estimates[0].getExpectedAgents(), 0.1);
+        assertEquals(0, estimates[0].getOpponentRisk());
+        assertEquals(1 - safe, estimates[1].getAssassinRisk(), 0.05);
+        assertEquals(2 * (1 - safe), estimates[0].getAssassinRisk(), 0.05);
+    }
+
+    @Test
+    void testEvaluateDeterministic() {
+        KeySampler sampler = new KeySampler(board);
+        int[][] sequences = {{0}, {0, 1}, {2, 3, 4}};
+
+        RiskEstimate[] once = sampler.evaluate(BLUE, sequences, 5000, 42);
+        RiskEstimate[] again = sampler.evaluate(BLUE, sequences, 5000, 42);
+
+        for (int s = 0; s < sequences.length; s++) {
+            assertEquals(once[s].toString(), again[s].toString());
+        }
+    }
+
+    @Test
+    void testPrefixes() {
+        List<RankedGuess> ranking = List.of(new RankedGuess(4, "A", 0, 0.5f), new RankedGuess(7, "B", 0, 0.3f),
+                new RankedGuess(1, "C", 0, 0.2f));
+
+        int[][] prefixes = KeySampler.prefixes(ranking, 2);
+
+        assertEquals(2, prefixes.length);
+        assertArrayEquals(new int[] {4}, prefixes[0]);
+        assertArrayEquals(new int[] {4, 7}, prefixes[1]);
+        assertEquals(3, KeySampler.prefixes(ranking, 5).length);
+    }
+}
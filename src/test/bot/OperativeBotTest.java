@@ -0,0 +1,95 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import model.Spymaster;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OperativeBotTest {
+    private WordEmbeddings embeddings;
+    private Board board;
+    private Spymaster spymaster;
+
+    @BeforeEach
+    void setup() {
+        embeddings = BotFixture.embeddings(new String[0], new float[0][]);
+        board = BotFixture.board(new Card("MYSTERY", NEUTRAL));
+        spymaster = new Spymaster(RED, "fruit", 2);
+    }
+
+    @Test
+    void testRank() {
+        List<RankedGuess> ranking = new OperativeBot(embeddings).rank(board, spymaster);
+
+        assertEquals(6, ranking.size());
+        assertTrue(List.of("APPLE", "BERRY").contains(ranking.get(0).getWord()));
+        assertTrue(List.of("APPLE", "BERRY").contains(ranking.get(1).getWord()));
+        assertEquals(0f, ranking.get(5).getSimilarity(), 0.06);
+        float total = 0;
+        for (int i = 0; i < ranking.size(); i++) {
+            total += ranking.get(i).getConfidence();
+            if (i > 0) {
+                assertTrue(ranking.get(i).getConfidence() <= ranking.get(i - 1).getConfidence());
+            }
+        }
+        assertEquals(1f, total, 1e-5);
+    }
+
+    @Test
+    void testRankUnknownHint() {
+        spymaster.setHint("ZEBRA");
+
+        assertTrue(new OperativeBot(embeddings).rank(board, spymaster).isEmpty());
+        assertTrue(new OperativeBot(embeddings).choose(board, spymaster).isEmpty());
+    }
+
+    @Test
+    void testChoose() {
+        OperativeBot bot = new OperativeBot(embeddings);
+        List<RankedGuess> guesses = bot.choose(board, spymaster);
+
+        assertEquals(2, guesses.size());
+        assertEquals(0b11, 1 << guesses.get(0).getPosition() | 1 << guesses.get(1).getPosition());
+
+        spymaster.setGuesses(1);
+        assertEquals(1, bot.choose(board, spymaster).size());
+    }
+
+    @Test
+    void testStopThreshold() {
+        spymaster.setGuesses(5);
+        List<RankedGuess> cautious = new OperativeBot(embeddings, 0.3f).choose(board, spymaster);
+        List<RankedGuess> reckless = new OperativeBot(embeddings, 0f).choose(board, spymaster);
+
+        assertEquals(2, cautious.size());
+        assertEquals(5, reckless.size());
+
+        spymaster.setHint("OCEAN");
+        assertEquals(1, new OperativeBot(embeddings, 0.99f).choose(board, spymaster).size());
+    }
+
+    @Test
+    void testRevealedCardsSkippedAndCached() {
+        OperativeBot bot = new OperativeBot(embeddings);
+        RankedGuess first = bot.rank(board, spymaster).get(0);
+        board.getBoard().get(first.getPosition()).makeVisibleTeam();
+
+        List<RankedGuess> ranking = bot.rank(board, spymaster);
+
+        assertEquals(5, ranking.size());
+        assertNotEquals(first.getPosition(), ranking.get(0).getPosition());
+        assertTrue(ranking.get(0).getConfidence() > first.getConfidence());
+        assertEquals(1, bot.getCachedClues(board));
+
+        spymaster.setHint("OCEAN");
+        assertEquals("DRESS", bot.rank(board, spymaster).get(0).getWord());
+        assertEquals(2, bot.getCachedClues(board));
+        assertEquals(0, bot.getCachedClues(new Board(RED)));
+    }
+}
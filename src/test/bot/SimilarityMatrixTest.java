@@ -0,0 +1,134 @@
+package bot;
+
+import model.Board;
+import model.Card;
+import model.Spymaster;
+import model.WordPool;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimilarityMatrixTest {
+    private static final int DIMENSIONS = 8;
+
+    private WordPool pool;
+    private WordEmbeddings embeddings;
+    private Path file;
+
+    // Every pool word gets a random vector, and the clue CLOSE is a copy of the first pool word's vector
+    @BeforeEach
+    void setup() throws IOException {
+        pool = WordPool.getInstance();
+        SplittableRandom random = new SplittableRandom(5);
+        String[] words = new String[pool.size() + 1];
+        float[][] vectors = new float[words.length][DIMENSIONS];
+        for (int i = 0; i < pool.size(); i++) {
+            words[i] = pool.getWord(i);
+            for (int d = 0; d < DIMENSIONS; d++) {
+                vectors[i][d] = (float) random.nextGaussian();
+            }
+        }
+        words[pool.size()] = "CLOSE";
+        vectors[pool.size()] = vectors[0].clone();
+        embeddings = WordEmbeddings.of(words, vectors);
+        file = Files.createTempFile("matrix", ".cnsm");
+    }
+
+    @AfterEach
+    void teardown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testSimilarities() throws IOException {
+        SimilarityMatrix.build(embeddings, pool, file.toString(), 4);
+        SimilarityMatrix matrix = SimilarityMatrix.open(file.toString());
+
+        assertEquals(pool.size(), matrix.getPoolSize());
+        assertEquals(embeddings.size(), matrix.getClues());
+        assertEquals(4, matrix.getNeighbours());
+        for (int i = 0; i < pool.size(); i += 7) {
+            int row = matrix.cardIndex(pool.getWord(i).toLowerCase());
+            for (int clue = 0; clue < matrix.getClues(); clue += 13) {
+                int column = matrix.clueIndex(matrix.getClue(clue));
+                assertEquals(embeddings.similarity(clue, embeddings.indexOf(pool.getWord(i))),
+                        matrix.similarity(column, row), 0.5f / SimilarityMatrix.QUANTUM + 1e-6f);
+            }
+        }
+        assertEquals(-1, matrix.clueIndex("MISSING"));
+        assertEquals(-1, matrix.cardIndex("CLOSE"));
+    }
+
+    @Test
+    void testNeighbours() throws IOException {
+        SimilarityMatrix.build(embeddings, pool, file.toString(), 4);
+        SimilarityMatrix matrix = SimilarityMatrix.open(file.toString());
+
+        int row = matrix.cardIndex(pool.getWord(0));
+        assertEquals("CLOSE", matrix.getClue(matrix.getNeighbour(row, 0)));
+        for (int word = 0; word < matrix.getPoolSize(); word += 11) {
+            for (int rank = 1; rank < matrix.getNeighbours(); rank++) {
+                assertTrue(matrix.similarity(matrix.getNeighbour(word, rank), word)
+                        <= matrix.similarity(matrix.getNeighbour(word, rank - 1), word));
+                assertNotEquals(pool.getWord(word).toUpperCase(), matrix.getClue(matrix.getNeighbour(word, rank)));
+            }
+        }
+    }
+
+    @Test
+    void testOperativeBot() throws IOException {
+        SimilarityMatrix.build(embeddings, pool, file.toString(), 1);
+        SimilarityMatrix matrix = SimilarityMatrix.open(file.toString());
+        Board board = new Board(RED);
+        for (int i = 0; i < 5; i++) {
+            board.addCards(new Card(pool.getWord(i), i == 0 ? RED : NEUTRAL));
+        }
+
+        List<RankedGuess> ranking = new OperativeBot(matrix).rank(board, new Spymaster(RED, "close", 1));
+
+        assertEquals(pool.getWord(0), ranking.get(0).getWord());
+        assertEquals(1f, ranking.get(0).getSimilarity(), 1 / SimilarityMatrix.QUANTUM);
+    }
+
+    @Test
+    void testOpenMalformed() throws IOException {
+        Files.write(file, new byte[] {'C', 'N', 'S', 'M', 9});
+        assertThrows(IOException.class, () -> SimilarityMatrix.open(file.toString()));
+
+        SimilarityMatrix.build(embeddings, pool, file.toString(), 2);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> SimilarityMatrix.open(file.toString()));
+    }
+
+    @Test
+    void testBuildTooLarge() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SimilarityMatrix.build(embeddings, pool, file.toString(), Integer.MAX_VALUE / Integer.BYTES));
+        assertFalse(Files.exists(Path.of(file + ".tmp")));
+    }
+
+    // The destination is a directory that is not empty, so the temporary file cannot be moved over it
+    @Test
+    void testBuildFailureRemovesTemp() throws IOException {
+        Path directory = Files.createTempDirectory("matrix");
+        Path inside = Files.createFile(directory.resolve("inside"));
+        try {
+            assertThrows(IOException.class, () -> SimilarityMatrix.build(embeddings, pool, directory.toString(), 2));
+            assertFalse(Files.exists(Path.of(directory + ".tmp")));
+        } finally {
+            Files.delete(inside);
+            Files.delete(directory);
+        }
+    }
+}
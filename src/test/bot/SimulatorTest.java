@@ -0,0 +1,119 @@
+package bot;
+
+import model.Board;
+import model.BoardFactory;
+import model.Card;
+import model.GameEngine;
+import model.Team;
+import model.WordPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulatorTest {
+    private static final SpymasterStrategy ONE_AT_A_TIME = (board, team) -> new ClueSuggestion("HINT", 1, 0, 0);
+
+    // EFFECTS: returns an operative that knows every card's team and guesses the unrevealed cards of target
+    private static OperativeStrategy guessing(Team target) {
+        return (board, spymaster) -> {
+            List<RankedGuess> guesses = new ArrayList<>();
+            List<Card> cards = board.getBoard();
+            for (int i = 0; i < cards.size(); i++) {
+                Team team = cards.get(i).getTeam();
+                if (!board.isRevealed(i) && (team == target || target == null && team == spymaster.getTeamName())) {
+                    guesses.add(new RankedGuess(i, cards.get(i).getWord(), 1, 1));
+                }
+            }
+            return guesses;
+        };
+    }
+
+    @Test
+    void testPerfectOperatives() {
+        OperativeStrategy perfect = guessing(null);
+        Simulator simulator = new Simulator(ONE_AT_A_TIME, perfect, ONE_AT_A_TIME, perfect);
+
+        SimulationStats stats = simulator.run(100, 1);
+
+        // Two agents a turn, so the second team finds its 8 agents on its 4th turn, before the first finds its 9
+        assertEquals(100, stats.getGames());
+        assertEquals(1.0, stats.getWinRate(RED) + stats.getWinRate(BLUE), 1e-9);
+        assertEquals(0, stats.getAbandoned());
+        assertEquals(0, stats.getAssassinHits());
+        assertEquals(4.0, stats.getAverageTurnsToWin(), 1e-9);
+        assertEquals(2.0, stats.getClueEfficiency(), 1e-9);
+
+        GameEngine game = simulator.play(7, new SimulationStats());
+        assertEquals(game.getBoard().getStartingTeam().opponent(), game.getOutcome().getWinner());
+    }
+
+    @Test
+    void testAssassinHits() {
+        OperativeStrategy reckless = guessing(ASSASSIN);
+        SimulationStats stats = new Simulator(ONE_AT_A_TIME, reckless, ONE_AT_A_TIME, reckless).run(50, 1);
+
+        assertEquals(50, stats.getAssassinHits());
+        assertEquals(50, stats.getWins(RED) + stats.getWins(BLUE));
+        assertEquals(0.0, stats.getAverageTurnsToWin(), 1e-9);
+        assertEquals(0.0, stats.getClueEfficiency(), 1e-9);
+    }
+
+    @Test
+    void testAbandonedGames() {
+        SpymasterStrategy silent = (board, team) -> null;
+        OperativeStrategy perfect = guessing(null);
+        SimulationStats stats = new Simulator(silent, perfect, silent, perfect).run(10, 1);
+
+        assertEquals(10, stats.getAbandoned());
+        assertEquals(0.0, stats.getWinRate(RED), 1e-9);
+        assertEquals(0.0, stats.getClueEfficiency(), 1e-9);
+        assertEquals(0.0, new SimulationStats().getWinRate(BLUE), 1e-9);
+    }
+
+    @Test
+    void testDeterministicAcrossThreads() {
+        WordPool pool = WordPool.getInstance();
+        String[] words = new String[pool.size()];
+        float[][] vectors = new float[words.length][16];
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < words.length; i++) {
+            words[i] = pool.getWord(i);
+            for (int d = 0; d < vectors[i].length; d++) {
+                vectors[i][d] = (float) (random.nextDouble() - 0.5);
+            }
+        }
+        WordEmbeddings embeddings = WordEmbeddings.of(words, vectors);
+        ClueSuggester spymaster = new ClueSuggester(embeddings);
+        OperativeBot operative = new OperativeBot(embeddings);
+
+        ForkJoinPool four = new ForkJoinPool(4);
+        ForkJoinPool one = new ForkJoinPool(1);
+        SimulationStats parallel;
+        SimulationStats serial;
+        try {
+            parallel = new Simulator(spymaster, operative, spymaster, operative, four).run(40, 11);
+            serial = new Simulator(spymaster, operative, spymaster, operative, one).run(40, 11);
+        } finally {
+            four.shutdown();
+            one.shutdown();
+        }
+
+        assertEquals(40, parallel.getGames());
+        assertEquals(serial.toString(), parallel.toString());
+        assertTrue(parallel.getClueEfficiency() > 0);
+    }
+
+    @Test
+    void testBoardOfSeed() {
+        Board board = new Simulator(ONE_AT_A_TIME, guessing(null), ONE_AT_A_TIME, guessing(null))
+                .play(5, new SimulationStats()).getBoard();
+
+        assertEquals(BoardFactory.fromSeed(5).getBoard().get(0).getWord(), board.getBoard().get(0).getWord());
+    }
+}
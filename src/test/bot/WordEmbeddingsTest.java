@@ -0,0 +1,74 @@
+package bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordEmbeddingsTest {
+
+    @Test
+    void testOf() {
+        WordEmbeddings embeddings = WordEmbeddings.of(new String[] {"apple", "Berry", "CHAIR"},
+                new float[][] {{3, 4}, {6, 8}, {0, 2}});
+
+        assertEquals(3, embeddings.size());
+        assertEquals(2, embeddings.getDimensions());
+        assertEquals(0, embeddings.indexOf("APPLE"));
+        assertEquals(1, embeddings.indexOf("berry"));
+        assertEquals(-1, embeddings.indexOf("DRESS"));
+        assertEquals("CHAIR", embeddings.getWord(2));
+
+        float[] vector = new float[2];
+        embeddings.copyVector(0, vector);
+        assertEquals(0.6f, vector[0], 1e-6);
+        assertEquals(0.8f, vector[1], 1e-6);
+        assertEquals(1f, embeddings.similarity(0, 1), 1e-6);
+        assertEquals(0.8f, embeddings.similarity(0, 2), 1e-6);
+    }
+
+    @Test
+    void testLoad() throws IOException {
+        File scratch = File.createTempFile("testEmbeddings", ".txt");
+        scratch.deleteOnExit();
+        StringBuilder text = new StringBuilder("2000 3\n");
+        for (int i = 0; i < 2000; i++) {
+            text.append("word").append(i).append(' ').append(i).append(" 0 1\n");
+        }
+        Files.writeString(scratch.toPath(), text);
+
+        WordEmbeddings embeddings = WordEmbeddings.load(scratch.getPath());
+        assertEquals(2000, embeddings.size());
+        assertEquals(3, embeddings.getDimensions());
+        assertEquals("WORD1999", embeddings.getWord(1999));
+
+        float[] vector = new float[3];
+        embeddings.copyVector(embeddings.indexOf("word0"), vector);
+        assertArrayEquals(new float[] {0, 0, 1}, vector);
+    }
+
+    @Test
+    void testLoadMalformed() throws IOException {
+        File scratch = File.createTempFile("testEmbeddings", ".txt");
+        scratch.deleteOnExit();
+        Files.writeString(scratch.toPath(), "apple 1 0\nberry 1\n");
+
+        try {
+            WordEmbeddings.load(scratch.getPath());
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+
+        Files.writeString(scratch.toPath(), "apple 1 x\n");
+        try {
+            WordEmbeddings.load(scratch.getPath());
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+}
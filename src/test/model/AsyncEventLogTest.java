@@ -0,0 +1,88 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncEventLogTest {
+
+    @Test
+    void testEventsReachEverySink() throws IOException {
+        MemoryEventSink memory = new MemoryEventSink(10);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncEventLog log = new AsyncEventLog(new PrintStreamEventSink(new PrintStream(bytes)), memory);
+
+        assertTrue(log.logEvent(new Event("The RED team selected a RED card (OCEAN)!")));
+        assertTrue(log.logEvent(new Event("Switching to the BLUE team's turn!")));
+        log.flush();
+
+        assertEquals(2, log.getWritten());
+        assertEquals(2, memory.size());
+        assertEquals("The RED team selected a RED card (OCEAN)!", memory.iterator().next().getDescription());
+        assertTrue(bytes.toString().contains("(OCEAN)"));
+
+        log.close();
+        assertFalse(log.logEvent(new Event("too late")));
+        assertEquals(1, log.getDropped());
+    }
+
+    @Test
+    void testFullBufferDropsInsteadOfBlocking() throws IOException, InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Event> written = new ArrayList<>();
+        AsyncEventLog log = new AsyncEventLog(2, 1, batch -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        });
+
+        int accepted = 0;
+        for (int i = 0; i < 10; i++) {
+            if (log.logEvent(new Event("event " + i))) {
+                accepted++;
+            }
+        }
+        assertTrue(accepted <= 3);  // Two buffered and at most one taken by the stalled drainer
+        assertEquals(10 - accepted, log.getDropped());
+
+        release.countDown();
+        log.close();
+        assertEquals(accepted, written.size());
+        assertEquals("event 0", written.get(0).getDescription());
+    }
+
+    @Test
+    void testMemorySinkKeepsMostRecent() {
+        MemoryEventSink memory = new MemoryEventSink(2);
+        memory.write(List.of(new Event("1"), new Event("2"), new Event("3")));
+
+        List<String> kept = new ArrayList<>();
+        for (Event event : memory) {
+            kept.add(event.getDescription());
+        }
+        assertEquals(List.of("2", "3"), kept);
+    }
+
+    @Test
+    void testFailingSinkIsCounted() throws IOException {
+        MemoryEventSink memory = new MemoryEventSink(10);
+        AsyncEventLog log = new AsyncEventLog(batch -> {
+            throw new IOException("disk full");
+        }, memory);
+
+        log.logEvent(new Event("event"));
+        log.close();
+        assertEquals(1, log.getFailures());
+        assertEquals(1, memory.size());
+    }
+}
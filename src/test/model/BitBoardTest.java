@@ -0,0 +1,101 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.Board.*;
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BitBoardTest {
+    private BitBoard bitBoard;
+
+    @BeforeEach
+    void setup() {
+        bitBoard = new BitBoard();
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(0, bitBoard.size());
+        assertEquals(0, bitBoard.getRevealedMask());
+        assertEquals(0, bitBoard.getRemaining(RED));
+        assertEquals(0, bitBoard.getTeamMask(ASSASSIN));
+    }
+
+    @Test
+    void testAdd() {
+        assertEquals(0, bitBoard.add(RED, false));
+        assertEquals(1, bitBoard.add(BLUE, false));
+        assertEquals(2, bitBoard.add(RED, true));
+        assertEquals(3, bitBoard.add(UNKNOWN, false));
+
+        assertEquals(4, bitBoard.size());
+        assertEquals(0b101, bitBoard.getTeamMask(RED));
+        assertEquals(0b010, bitBoard.getTeamMask(BLUE));
+        assertEquals(0b1000, bitBoard.getTeamMask(UNKNOWN));
+        assertEquals(0b100, bitBoard.getRevealedMask());
+        assertEquals(1, bitBoard.getRemaining(RED));
+        assertEquals(1, bitBoard.getRevealed(RED));
+    }
+
+    @Test
+    void testAddFull() {
+        for (int i = 0; i < BitBoard.MAX_CARDS; i++) {
+            bitBoard.add(NEUTRAL, false);
+        }
+        assertEquals(BitBoard.MAX_CARDS, bitBoard.getRemaining(NEUTRAL));
+
+        try {
+            bitBoard.add(NEUTRAL, false);
+            fail("IllegalStateException was expected");
+        } catch (IllegalStateException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReveal() {
+        bitBoard.add(ASSASSIN, false);
+        bitBoard.add(NEUTRAL, false);
+        assertFalse(bitBoard.isRevealed(0));
+        assertEquals(1, bitBoard.getRemaining(ASSASSIN));
+
+        bitBoard.reveal(0);
+        assertTrue(bitBoard.isRevealed(0));
+        assertFalse(bitBoard.isRevealed(1));
+        assertEquals(0, bitBoard.getRemaining(ASSASSIN));
+        assertEquals(1, bitBoard.getRemaining(NEUTRAL));
+    }
+
+    @Test
+    void testClear() {
+        bitBoard.add(RED, true);
+        bitBoard.clear();
+
+        assertEquals(0, bitBoard.size());
+        assertEquals(0, bitBoard.getRevealedMask());
+        assertEquals(0, bitBoard.getTeamMask(RED));
+    }
+
+    @Test
+    void testBoardKeepsMasksInSyncWithCards() {
+        Board board = new Board(RED);
+        board.initializeGameDictionary();
+        board.addCards(RED);
+        board.addCards(BLUE);
+        board.addCards(NEUTRAL);
+        board.addCards(ASSASSIN);
+        board.shuffle();
+
+        for (int i = 0; i < NUM_CARDS; i++) {
+            Card card = board.getBoard().get(i);
+            assertTrue((board.getBitBoard().getTeamMask(card.getTeam()) & (1 << i)) != 0);
+        }
+
+        Card revealed = board.getBoard().get(3);
+        revealed.makeVisibleTeam();
+        assertTrue(board.isRevealed(3));
+        assertFalse(board.isRevealed(4));
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BoardFactoryTest {
+
+    @Test
+    void testFromSeed() {
+        Board board = BoardFactory.fromSeed(12345L);
+        Board sameSeed = BoardFactory.fromSeed(12345L);
+
+        assertEquals(Board.NUM_CARDS, board.getBoard().size());
+        assertEquals(board.getStartingTeam(), sameSeed.getStartingTeam());
+        assertEquals(board.getCurrentTeam(), board.getStartingTeam());
+        assertEquals(layout(board), layout(sameSeed));
+        assertEquals(board.getBitBoard().getTeamMask(RED), sameSeed.getBitBoard().getTeamMask(RED));
+        assertEquals(Board.NUM_CARDS_TEAM0, board.getRemainingCards(board.getStartingTeam()));
+        assertEquals(Board.NUM_CARDS_TEAM1, board.getRemainingCards(board.getStartingTeam().opponent()));
+    }
+
+    @Test
+    void testDifferentSeeds() {
+        assertNotEquals(layout(BoardFactory.fromSeed(1L)), layout(BoardFactory.fromSeed(2L)));
+    }
+
+    @Test
+    void testStartingTeamVaries() {
+        boolean redStarts = false;
+        boolean blueStarts = false;
+        for (long seed = 0; seed < 50; seed++) {
+            Team startingTeam = BoardFactory.fromSeed(seed).getStartingTeam();
+            redStarts |= startingTeam == RED;
+            blueStarts |= startingTeam == BLUE;
+        }
+        assertTrue(redStarts && blueStarts);
+    }
+
+    @Test
+    void testFromSeeds() {
+        List<Board> boards = BoardFactory.fromSeeds(100L, 64);
+
+        assertEquals(64, boards.size());
+        for (int i = 0; i < boards.size(); i++) {
+            assertEquals(layout(BoardFactory.fromSeed(100L + i)), layout(boards.get(i)));
+        }
+    }
+
+    @Test
+    void testNewGameFromSeed() {
+        GameEngine game = GameEngine.newGame(77L);
+        assertEquals(layout(BoardFactory.fromSeed(77L)), layout(game.getBoard()));
+        assertEquals(Outcome.IN_PROGRESS, game.getOutcome());
+    }
+
+    @Test
+    void testShuffleSeeded() {
+        Board board = BoardFactory.fromSeed(5L);
+        List<String> before = layout(board);
+        board.shuffle(new SplittableRandom(9L));
+        Board other = BoardFactory.fromSeed(5L);
+        other.shuffle(new SplittableRandom(9L));
+
+        assertEquals(layout(other), layout(board));
+        assertNotEquals(before, layout(board));
+        assertEquals(board.getBoard().get(0).getTeam() == RED,
+                (board.getBitBoard().getTeamMask(RED) & 1) == 1);
+    }
+
+    // EFFECTS: returns the word and team of every card on board, in board order
+    private List<String> layout(Board board) {
+        List<String> layout = new ArrayList<>();
+        for (Card card : board.getBoard()) {
+            layout.add(card.getWord() + ":" + card.getTeam());
+        }
+        return layout;
+    }
+}
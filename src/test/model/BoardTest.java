@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static model.Board.*;
+import static model.Team.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class BoardTest {
@@ -49,9 +50,9 @@ class BoardTest {
 
     @Test
     void testConstructorForLoadedGame() {
-        String startingTeam = RED;
-        String currentTeam = BLUE;
-        String currentPlayer = "Operative";
+        Team startingTeam = RED;
+        Team currentTeam = BLUE;
+        Role currentPlayer = Role.OPERATIVE;
         int numRedCards = 5;
         int numBlueCards = 8;
 
@@ -100,8 +101,8 @@ class BoardTest {
         bd2.addCards(ASSASSIN);
         assertEquals(1, bd2.getRemainingCards(ASSASSIN));
 
-        bd3.addCards("???");
-        assertEquals(0, bd2.getRemainingCards("???"));
+        bd3.addCards(UNKNOWN);
+        assertEquals(0, bd3.getRemainingCards(UNKNOWN));
 
         bd4.addCards(NEUTRAL);
         assertEquals(7, bd4.getRemainingCards(NEUTRAL));
@@ -263,8 +264,8 @@ class BoardTest {
 
     @Test
     void testGetStartingTeam() {
-        String redStartingTeam = redStartBoard.getStartingTeam();
-        String blueStartingTeam = blueAddedCards.getStartingTeam();
+        Team redStartingTeam = redStartBoard.getStartingTeam();
+        Team blueStartingTeam = blueAddedCards.getStartingTeam();
 
         assertEquals(RED, redStartingTeam);
         assertEquals(BLUE, blueStartingTeam);
@@ -304,8 +305,9 @@ class BoardTest {
         JSONObject json = new JSONObject();
         json = redAddedCards.toJson();
 
-        assertEquals(RED,json.get("startingTeam"));
-        assertEquals(RED,json.get("currentTeam"));
+        assertEquals(RED.getLabel(),json.get("startingTeam"));
+        assertEquals(RED.getLabel(),json.get("currentTeam"));
+        assertEquals(Role.SPYMASTER.name(),json.get("currentPlayer"));
         assertEquals(NUM_CARDS_TEAM0,json.get("numRedCards"));
         assertEquals(NUM_CARDS_TEAM1,json.get("numBlueCards"));
     }
@@ -322,4 +324,18 @@ class BoardTest {
         assertEquals(25, jsonArray.length());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testIsLegalClue() {
+        Board board = new Board(RED);
+        board.addCards(new Card("APPLE", RED));
+        assertFalse(board.isLegalClue("apples"));
+        assertTrue(board.isLegalClue("CHAIRS"));
+
+        board.addCards(new Card("CHAIR", BLUE));
+        assertFalse(board.isLegalClue("CHAIRS"));
+
+        board.getBoard().get(0).makeVisibleTeam();
+        assertTrue(board.isLegalClue("apples"));
+        assertSame(board.getClueIndex(), board.getClueIndex());
+    }
+}
@@ -6,16 +6,16 @@ import org.junit.jupiter.api.Test;
 
 import java.awt.*;
 
-import static model.Board.*;
+import static model.Team.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class CardTest {
     private Card cardRed;
     private Card cardBlue;
     private String word = "TESTING";
-    private String redTeamString = RED;
-    private String blueTeamString = BLUE;
-    private String invisibleTeamString = "?";
+    private Team redTeamString = RED;
+    private Team blueTeamString = BLUE;
+    private Team invisibleTeamString = UNKNOWN;
 
     @BeforeEach
     void setup() {
@@ -39,8 +39,8 @@ public class CardTest {
     @Test
     void testConstructorForLoadedGame() {
         String aWord = "Word";
-        String aTeam = redTeamString;
-        String visibleTeam = redTeamString;
+        Team aTeam = redTeamString;
+        Team visibleTeam = redTeamString;
         int index = 14;
 
         Card card = new Card(aWord,aTeam,visibleTeam,index);
@@ -89,8 +89,8 @@ public class CardTest {
         redJSON = cardRed.toJson();
 
         assertEquals(word, redJSON.get("word"));
-        assertEquals(redTeamString, redJSON.get("team"));
-        assertEquals(invisibleTeamString, redJSON.get("visibleTeam"));
+        assertEquals(redTeamString.getLabel(), redJSON.get("team"));
+        assertEquals("?", redJSON.get("visibleTeam"));
         assertEquals(0, redJSON.get("index"));
     }
 
@@ -109,14 +109,14 @@ public class CardTest {
     @Test
     void testGetCardColorNeutral() {
         Color clr = new Color(184, 172, 160);
-        Card neutralCard = new Card("Card", NEUTRAL,"?", 5);
+        Card neutralCard = new Card("Card", NEUTRAL, UNKNOWN, 5);
         assertEquals(clr, neutralCard.getCardColor());
     }
 
     @Test
     void testGetCardColorDefault() {
         Color clr = new Color(54, 54, 54);
-        Card card = new Card("Card", ASSASSIN,"?", 5);
+        Card card = new Card("Card", ASSASSIN, UNKNOWN, 5);
         assertEquals(clr, card.getCardColor());
     }
 }
@@ -0,0 +1,104 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClueIndexTest {
+    private ClueIndex index;
+
+    // Slots: 0 BAKE, 1 SNOW, 2 SPY, 3 STUDY, 4 RUN, 5 PIE
+    @BeforeEach
+    void setup() {
+        index = new ClueIndex(List.of(new Card("BAKE", RED), new Card("Snow", RED), new Card("SPY", BLUE),
+                new Card("STUDY", BLUE), new Card("RUN", NEUTRAL), new Card("PIE", ASSASSIN)));
+    }
+
+    @Test
+    void testConflictsExact() {
+        assertEquals(1 << 1, index.conflicts("snow"));
+        assertEquals(1 << 2, index.conflicts(" S-p-y! "));
+        assertEquals(0, index.conflicts("OCEAN"));
+        assertEquals(0, index.conflicts("42"));
+    }
+
+    @Test
+    void testConflictsStem() {
+        assertEquals(1, index.conflicts("BAKING"));
+        assertEquals(1, index.conflicts("baked"));
+        assertEquals(1 << 2, index.conflicts("SPIES"));
+        assertEquals(1 << 3, index.conflicts("STUDIES"));
+        assertEquals(1 << 4, index.conflicts("RUNNING"));
+        assertEquals(1 << 5, index.conflicts("PIES"));
+    }
+
+    @Test
+    void testConflictsUnrelated() {
+        assertEquals(0, index.conflicts("baker"));
+        assertEquals(0, index.conflicts("BAKEST"));
+        assertEquals(0, index.conflicts("SNO"));
+        assertEquals(0, index.conflicts("SPORT"));
+        assertEquals(0, index.conflicts("RUG"));
+    }
+
+    @Test
+    void testConflictsCompound() {
+        assertEquals(1 << 1, index.conflicts("SNOWBOARD"));
+        assertEquals(1 << 1, index.conflicts("SNOWBOARDS"));
+        assertEquals(1 << 2, index.conflicts("SPYGLASS"));
+        assertEquals(1 << 5, index.conflicts("APPLEPIE"));
+        assertEquals(1 << 1, index.conflicts("SNOWBALL"));
+    }
+
+    @Test
+    void testConflictsNotCompound() {
+        ClueIndex cards = new ClueIndex(List.of(new Card("CAR", RED), new Card("CAT", RED), new Card("PAN", BLUE),
+                new Card("BAND", BLUE), new Card("STAR", NEUTRAL), new Card("TOWER", NEUTRAL),
+                new Card("FOREST", NEUTRAL), new Card("HORSESHOE", ASSASSIN)));
+        for (String clue : List.of("CARPET", "CATALOG", "CATERPILLAR", "PANIC", "PANDEMONIUM", "BANDAGE", "STARK",
+                "STARE", "TOWING", "FORE")) {
+            assertEquals(0, cards.conflicts(clue), clue);
+        }
+        assertEquals(1 << 7, cards.conflicts("SHOE"));
+        assertEquals(1 << 7, cards.conflicts("HORSE"));
+        assertEquals(1 << 3 | 1 << 4, cards.conflicts("BANDSTAR"));
+    }
+
+    @Test
+    void testIsLegal() {
+        assertFalse(index.isLegal("SNOWS", 0));
+        assertTrue(index.isLegal("SNOWS", 1 << 1));
+        assertFalse(index.isLegal("SNOWS", ~(1 << 1)));
+        assertTrue(index.isLegal("OCEAN", 0));
+    }
+
+    @Test
+    void testForms() {
+        assertArrayEquals(new String[] {"BAKED", "BAK", "BAKE"}, ClueIndex.forms("BAKED"));
+        assertArrayEquals(new String[] {"HORSES", "HORS", "HORSE"}, ClueIndex.forms("HORSES"));
+        assertArrayEquals(new String[] {"PASSED", "PASS", "PAS"}, ClueIndex.forms("PASSED"));
+        assertArrayEquals(new String[] {"SPIES", "SPY"}, ClueIndex.forms("SPIES"));
+        assertArrayEquals(new String[] {"RED"}, ClueIndex.forms("RED"));
+        assertArrayEquals(new String[] {"TOWER"}, ClueIndex.forms("TOWER"));
+    }
+
+    @Test
+    void testIsCompound() {
+        assertTrue(ClueIndex.isCompound("HORSESHOE", "SHOE", false));
+        assertTrue(ClueIndex.isCompound("ARMCHAIR", "CHAIR", false));
+        assertFalse(ClueIndex.isCompound("HORSESHOE", "SHOE", true));
+        assertFalse(ClueIndex.isCompound("CARPET", "CAR", true));
+        assertFalse(ClueIndex.isCompound("ARTICHOKE", "ART", true));
+        assertFalse(ClueIndex.isCompound("SNOW", "SNOW", true));
+    }
+
+    @Test
+    void testNormalise() {
+        assertEquals("\u00C9CLAIR", ClueIndex.normalise("\u00E9clair!"));
+        assertEquals("", ClueIndex.normalise(" 1-2 "));
+    }
+}
@@ -0,0 +1,104 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.ClueStatus.*;
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClueParserTest {
+    private ClueParser parser;
+    private Board board;
+
+    @BeforeEach
+    void setup() {
+        parser = new ClueParser();
+        board = new Board(RED);
+        board.addCards(new Card("APPLE", RED));
+        board.addCards(new Card("CHAIR", BLUE));
+        board.addCards(new Card("FLUTE", ASSASSIN));
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(MISSING_DELIMITER, parser.getStatus());
+    }
+
+    @Test
+    void testParseValid() {
+        assertTrue(parser.parse("Fruit / 3", board));
+        assertEquals(VALID, parser.getStatus());
+        assertEquals("Fruit", parser.getClue());
+        assertEquals(3, parser.getCount());
+
+        assertTrue(parser.parse("Music/0", board));
+        assertEquals("Music", parser.getClue());
+        assertEquals(0, parser.getCount());
+
+        assertTrue(parser.parse("Sea /  12  ", board));
+        assertEquals("Sea", parser.getClue());
+        assertEquals(12, parser.getCount());
+    }
+
+    @Test
+    void testParseMissingDelimiter() {
+        assertFalse(parser.parse("Fruit 3", board));
+        assertEquals(MISSING_DELIMITER, parser.getStatus());
+        assertFalse(parser.parse("", board));
+        assertEquals(MISSING_DELIMITER, parser.getStatus());
+        assertFalse(parser.parse(null, board));
+        assertEquals(MISSING_DELIMITER, parser.getStatus());
+    }
+
+    @Test
+    void testParseNotOneWord() {
+        assertFalse(parser.parse("Red fruit / 3", board));
+        assertEquals(NOT_ONE_WORD, parser.getStatus());
+        assertFalse(parser.parse("Fruit  / 3", board));
+        assertEquals(NOT_ONE_WORD, parser.getStatus());
+        assertFalse(parser.parse(" Fruit / 3", board));
+        assertEquals(NOT_ONE_WORD, parser.getStatus());
+        assertFalse(parser.parse("/ 3", board));
+        assertEquals(NOT_ONE_WORD, parser.getStatus());
+    }
+
+    @Test
+    void testParseBadCount() {
+        assertFalse(parser.parse("Fruit / ", board));
+        assertEquals(BAD_COUNT, parser.getStatus());
+        assertFalse(parser.parse("Fruit / -1", board));
+        assertEquals(BAD_COUNT, parser.getStatus());
+        assertFalse(parser.parse("Fruit / 3 guesses", board));
+        assertEquals(BAD_COUNT, parser.getStatus());
+        assertFalse(parser.parse("Fruit / 2 / 3", board));
+        assertEquals(BAD_COUNT, parser.getStatus());
+        assertFalse(parser.parse("Fruit / 99999999999", board));
+        assertEquals(BAD_COUNT, parser.getStatus());
+        assertTrue(parser.parse("Fruit / " + ClueParser.MAX_COUNT, board));
+        assertFalse(parser.parse("Fruit / " + (ClueParser.MAX_COUNT + 1), board));
+    }
+
+    @Test
+    void testParseOnBoard() {
+        assertFalse(parser.parse("apple / 1", board));
+        assertEquals(ON_BOARD, parser.getStatus());
+        assertFalse(parser.parse("CHAIR/2", board));
+        assertEquals(ON_BOARD, parser.getStatus());
+        assertFalse(parser.parse("Apples / 1", board));
+        assertEquals(ON_BOARD, parser.getStatus());
+        assertFalse(parser.parse("Armchair / 1", board));
+        assertTrue(parser.parse("Music / 1", board));
+
+        board.getBoard().get(0).makeVisibleTeam();
+        assertTrue(parser.parse("apple / 1", board));
+    }
+
+    @Test
+    void testParseReused() {
+        assertFalse(parser.parse("Red fruit / 3", board));
+        assertTrue(parser.parse("Fruit / 2", board));
+        assertEquals("Fruit", parser.getClue());
+        assertEquals(2, parser.getCount());
+    }
+}
@@ -3,11 +3,13 @@ package model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Scanner;
+import java.util.SplittableRandom;
 
+import static model.Board.NUM_CARDS;
 import static model.Dictionary.NUM_DICTIONARY_WORDS;
-import static model.Dictionary.SKIP;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class DictionaryTest {
@@ -40,12 +42,19 @@ public class DictionaryTest {
     void testShuffleDictionary() {
         myDict.initializeDictionary();
         String firstWord = myDict.getNextWord();
-        assertEquals("AMAZON", firstWord);
+        assertEquals("AFRICA", firstWord);
 
         myDict.shuffleDictionary();
-        String firstWordAgain = myDict.getNextWord();
-        assertNotEquals(firstWord, firstWordAgain);
-
+        assertEquals(0, myDict.getCounter());
+        assertEquals(NUM_CARDS, myDict.getDictionary().size());
+        assertEquals(NUM_CARDS, new HashSet<>(myDict.getDictionary()).size());
+
+        // Different seeds draw different words
+        Dictionary otherSeed = new Dictionary();
+        otherSeed.initializeDictionary();
+        myDict.shuffleDictionary(new WordSampler(new SplittableRandom(1)));
+        otherSeed.shuffleDictionary(new WordSampler(new SplittableRandom(2)));
+        assertNotEquals(myDict.getDictionary(), otherSeed.getDictionary());
     }
 
 
@@ -55,7 +64,22 @@ public class DictionaryTest {
         assertEquals(0, dictionaryCounter);
         initializedAndShuffled.getNextWord();
         dictionaryCounter = initializedAndShuffled.getCounter();
-        assertEquals(SKIP, dictionaryCounter);
+        assertEquals(1, dictionaryCounter);
+    }
+
+    @Test
+    void testDrawWords() {
+        Dictionary sameSeed = new Dictionary();
+        sameSeed.initializeDictionary();
+
+        myDict.initializeDictionary();
+        myDict.drawWords(3, new WordSampler(new SplittableRandom(42)));
+        sameSeed.drawWords(3, new WordSampler(new SplittableRandom(42)));
+        assertEquals(3, myDict.getDictionary().size());
+        assertEquals(myDict.getDictionary(), sameSeed.getDictionary());
+
+        myDict.drawWords(NUM_DICTIONARY_WORDS, new WordSampler(new SplittableRandom(42)));
+        assertEquals(NUM_DICTIONARY_WORDS, new HashSet<>(myDict.getDictionary()).size());
     }
 
     @Test
@@ -76,7 +100,7 @@ public class DictionaryTest {
         listDict = initializedAndShuffled.getDictionary();
 
         assertFalse(listDict.isEmpty());
-        assertEquals(NUM_DICTIONARY_WORDS, listDict.size());
+        assertEquals(NUM_CARDS, listDict.size());
     }
 
     @Test
@@ -94,14 +118,14 @@ public class DictionaryTest {
         myDict.initializeDictionary();
         myDict.shuffleDictionary();
         assertFalse(myDict.isEmpty());
-        for (int i = 1; i < NUM_DICTIONARY_WORDS/SKIP; i++) {
-            correctWord = myDict.getDictionary().get(i*SKIP);
+        for (int i = 0; i < NUM_CARDS; i++) {
+            correctWord = myDict.getDictionary().get(i);
             nextWord = myDict.getNextWord();
             assertEquals(correctWord, nextWord);
         }
 
         // Initialized dictionary - out of bounds
-        for (int i = NUM_DICTIONARY_WORDS; i < NUM_DICTIONARY_WORDS + 10; i++) {
+        for (int i = NUM_CARDS; i < NUM_CARDS + 10; i++) {
             blank = myDict.getNextWord();
             assertEquals("", blank);
         }
@@ -0,0 +1,59 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventLogTest {
+
+    @Test
+    void testLogsAreSeparate() {
+        EventLog first = new EventLog();
+        EventLog second = new EventLog();
+        first.logEvent(new Event("first game"));
+
+        assertEquals(1, first.size());
+        assertEquals(0, second.size());
+        assertEquals("first game", first.iterator().next().getDescription());
+    }
+
+    @Test
+    void testClear() {
+        EventLog log = new EventLog();
+        log.logEvent(new Event("before"));
+        log.clear();
+
+        assertEquals(1, log.size());
+        assertEquals("Event log cleared.", log.iterator().next().getDescription());
+    }
+
+    @Test
+    void testRelease() {
+        EventLog log = new EventLog();
+        log.logEvent(new Event("before"));
+        log.release();
+        log.logEvent(new Event("after"));
+
+        assertTrue(log.isReleased());
+        assertEquals(0, log.size());
+        assertFalse(log.iterator().hasNext());
+    }
+
+    @Test
+    void testTap() throws IOException {
+        MemoryEventSink aggregate = new MemoryEventSink(10);
+        AsyncEventLog tap = new AsyncEventLog(aggregate);
+        EventLog first = new EventLog(tap);
+        EventLog second = new EventLog(tap);
+
+        first.logEvent(new TurnEnded(Team.BLUE));
+        second.logEvent(new TurnEnded(Team.RED));
+        second.release();
+        second.logEvent(new TurnEnded(Team.BLUE));
+        tap.close();
+
+        assertEquals(2, aggregate.size());
+    }
+}
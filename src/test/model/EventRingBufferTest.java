@@ -0,0 +1,70 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventRingBufferTest {
+
+    @Test
+    void testCapacityRoundsUp() {
+        assertEquals(1, new EventRingBuffer(1).capacity());
+        assertEquals(8, new EventRingBuffer(5).capacity());
+        assertEquals(8, new EventRingBuffer(8).capacity());
+    }
+
+    @Test
+    void testOfferAndPollInOrder() {
+        EventRingBuffer buffer = new EventRingBuffer(4);
+        Event first = new Event("first");
+        Event second = new Event("second");
+
+        assertNull(buffer.poll());
+        assertTrue(buffer.offer(first));
+        assertTrue(buffer.offer(second));
+        assertEquals(2, buffer.getPublished());
+        assertSame(first, buffer.poll());
+        assertSame(second, buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void testOfferWhenFull() {
+        EventRingBuffer buffer = new EventRingBuffer(2);
+        assertTrue(buffer.offer(new Event("1")));
+        assertTrue(buffer.offer(new Event("2")));
+        assertFalse(buffer.offer(new Event("3")));
+
+        buffer.poll();
+        assertTrue(buffer.offer(new Event("4")));
+
+        List<Event> batch = new ArrayList<>();
+        assertEquals(2, buffer.drainTo(batch, 10));
+        assertEquals("2", batch.get(0).getDescription());
+        assertEquals("4", batch.get(1).getDescription());
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        EventRingBuffer buffer = new EventRingBuffer(1 << 12);
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    assertTrue(buffer.offer(new Event("event")));
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        List<Event> batch = new ArrayList<>();
+        assertEquals(4000, buffer.drainTo(batch, Integer.MAX_VALUE));
+        assertNull(buffer.poll());
+    }
+}
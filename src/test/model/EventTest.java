@@ -0,0 +1,75 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventTest {
+
+    @Test
+    void testTextEvent() {
+        long before = System.currentTimeMillis();
+        Event event = new Event("Event log cleared.");
+
+        assertEquals("Event log cleared.", event.getDescription());
+        assertTrue(Math.abs(event.getDate().getTime() - before) < 1000);
+        assertEquals(event.getDate().getTime(), event.getTimestampNanos() / 1_000_000L);
+        assertTrue(event.toString().endsWith("\nEvent log cleared."));
+        assertEquals(event, event);
+        assertNotEquals(event, new ClueGiven(RED, "OCEAN", 2));
+    }
+
+    @Test
+    void testTimestampsNeverGoBack() {
+        Event first = new Event("first");
+        Event second = new TurnEnded(BLUE);
+        assertTrue(second.getTimestampNanos() >= first.getTimestampNanos());
+    }
+
+    @Test
+    void testCardRevealed() {
+        CardRevealed event = new CardRevealed(3, RED, BLUE, "OCEAN");
+        assertEquals(3, event.getPosition());
+        assertFalse(event.isCorrect());
+        assertEquals("The RED team selected a BLUE card (OCEAN)!", event.getDescription());
+    }
+
+    @Test
+    void testClueAndTurn() {
+        ClueGiven clue = new ClueGiven(BLUE, "WATER", 2);
+        assertEquals(2, clue.getCount());
+        assertEquals("The BLUE spymaster gave the clue WATER / 2", clue.getDescription());
+        assertEquals("Switching to the RED team's turn!", new TurnEnded(RED).getDescription());
+    }
+
+    @Test
+    void testGameWon() {
+        assertEquals("The RED team has WON by revealing all their agents!",
+                new GameWon(RED, false).getDescription());
+        assertEquals("The RED team has selected the assassin! \nThe BLUE team wins!",
+                new GameWon(BLUE, true).getDescription());
+    }
+
+    @Test
+    void testBoardDealt() {
+        Board board = new Board(RED);
+        board.addCards(new Card("APPLE", RED));
+        board.addCards(new Card("FLUTE", ASSASSIN));
+        board.getBoard().get(1).makeVisibleTeam();
+
+        BoardDealt event = new BoardDealt(board, 42L);
+        board.addCards(new Card("LATER", BLUE));
+
+        assertTrue(event.isSeeded());
+        assertEquals(42L, event.getSeed());
+        assertEquals(2, event.getNumCards());
+        assertEquals(ASSASSIN, event.getTeam(1));
+        assertTrue(event.isRevealed(1));
+        assertEquals("Dealt the board from seed 42\n"
+                + "An invisible RED card 'APPLE' has been added to the game board!\n"
+                + "A visible ASSASSIN card 'FLUTE' has been added to the game board!", event.getDescription());
+        assertFalse(new BoardDealt(board).isSeeded());
+        assertTrue(new BoardDealt(board).getDescription().startsWith("Loaded the board\n"));
+    }
+}
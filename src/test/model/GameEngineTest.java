@@ -0,0 +1,211 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameEngineTest {
+    private GameEngine game;
+
+    // Cards 0-1 are RED, 2-3 are BLUE, 4 is NEUTRAL and 5 is the ASSASSIN
+    @BeforeEach
+    void setup() {
+        Board board = new Board(RED);
+        board.addCards(new Card("APPLE", RED));
+        board.addCards(new Card("BERRY", RED));
+        board.addCards(new Card("CHAIR", BLUE));
+        board.addCards(new Card("DRESS", BLUE));
+        board.addCards(new Card("EAGLE", NEUTRAL));
+        board.addCards(new Card("FLUTE", ASSASSIN));
+        board.setBoardIndices();
+
+        game = new GameEngine(board);
+    }
+
+    @Test
+    void testConstructor() {
+        assertEquals(Outcome.IN_PROGRESS, game.getOutcome());
+        assertEquals(RED, game.getCurrentTeam());
+        assertEquals(Role.SPYMASTER, game.getCurrentPlayer());
+        assertEquals(RED, game.getSpymaster(RED).getTeamName());
+        assertEquals(BLUE, game.getOperative(BLUE).getTeamName());
+    }
+
+    @Test
+    void testNewGame() {
+        GameEngine newGame = GameEngine.newGame(BLUE);
+        assertEquals(Board.NUM_CARDS, newGame.getBoard().getBoard().size());
+        assertEquals(BLUE, newGame.getCurrentTeam());
+        assertEquals(Board.NUM_CARDS_TEAM0, newGame.getBoard().getRemainingCards(BLUE));
+    }
+
+    @Test
+    void testGiveClue() {
+        assertEquals(2, game.giveClue("FRUIT", 1));
+        assertEquals(Role.OPERATIVE, game.getCurrentPlayer());
+        assertEquals("FRUIT", game.getCurrentSpymaster().getHint());
+
+        try {
+            game.giveClue("AGAIN", 1);
+            fail("IllegalStateException was expected");
+        } catch (IllegalStateException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testGuessBeforeClue() {
+        try {
+            game.guess(0);
+            fail("IllegalStateException was expected");
+        } catch (IllegalStateException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testGuessCorrect() {
+        game.giveClue("FRUIT", 1);
+        GuessResult result = game.guess(0);
+
+        assertTrue(result.isCorrect());
+        assertFalse(result.isTurnEnded());
+        assertFalse(result.isGameOver());
+        assertEquals(1, result.getGuessesRemaining());
+        assertEquals(1, game.getOperative(RED).getTeamScore());
+        assertTrue(game.getBoard().isRevealed(0));
+
+        try {
+            game.guess(0);
+            fail("IllegalArgumentException was expected");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testGuessCorrectWins() {
+        game.giveClue("FRUIT", 2);
+        game.guess(0);
+        GuessResult result = game.guess(1);
+
+        assertTrue(result.isGameOver());
+        assertEquals(Outcome.RED_WINS, game.getOutcome());
+        assertEquals(RED, game.getOutcome().getWinner());
+    }
+
+    @Test
+    void testGuessCorrectUsesUpGuesses() {
+        Board board = new Board(RED);
+        board.addCards(new Card("APPLE", RED));
+        board.addCards(new Card("BERRY", RED));
+        board.addCards(new Card("CHERRY", RED));
+        board.addCards(new Card("CHAIR", BLUE));
+        GameEngine longGame = new GameEngine(board);
+
+        // One more guess than the clue's number is allowed
+        longGame.giveClue("FRUIT", 1);
+        assertFalse(longGame.guess(0).isTurnEnded());
+        GuessResult last = longGame.guess(1);
+
+        assertTrue(last.isTurnEnded());
+        assertEquals(0, last.getGuessesRemaining());
+        assertEquals(BLUE, longGame.getCurrentTeam());
+    }
+
+    @Test
+    void testGuessNeutral() {
+        game.giveClue("BIRD", 1);
+        GuessResult result = game.guess(4);
+
+        assertFalse(result.isCorrect());
+        assertTrue(result.isTurnEnded());
+        assertEquals(NEUTRAL, result.getCardTeam());
+        assertEquals(RED, result.getGuessingTeam());
+        assertEquals(BLUE, game.getCurrentTeam());
+        assertEquals(Role.SPYMASTER, game.getCurrentPlayer());
+    }
+
+    @Test
+    void testGuessWrong() {
+        game.giveClue("FURNITURE", 1);
+        GuessResult result = game.guess(2);
+
+        assertTrue(result.isTurnEnded());
+        assertFalse(result.isGameOver());
+        assertEquals(1, game.getOperative(BLUE).getTeamScore());
+        assertEquals(0, game.getOperative(RED).getTeamScore());
+        assertEquals(BLUE, game.getCurrentTeam());
+    }
+
+    @Test
+    void testGuessAssassin() {
+        game.giveClue("MUSIC", 1);
+        GuessResult result = game.guess(5);
+
+        assertTrue(result.isGameOver());
+        assertEquals(Outcome.BLUE_WINS, result.getOutcome());
+
+        try {
+            game.endTurn();
+            fail("IllegalStateException was expected");
+        } catch (IllegalStateException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testEndTurn() {
+        game.giveClue("FRUIT", 1);
+        assertEquals(BLUE, game.endTurn());
+        assertEquals(Role.SPYMASTER, game.getCurrentPlayer());
+        assertEquals(RED, game.endTurn());
+    }
+
+    @Test
+    void testLoadedGameOutcome() {
+        Board board = new Board(RED, BLUE, Role.SPYMASTER, 1, 1);
+        board.addCards(new Card("APPLE", RED, UNKNOWN, 1));
+        board.addCards(new Card("CHAIR", BLUE, UNKNOWN, 2));
+        board.addCards(new Card("FLUTE", ASSASSIN, ASSASSIN, 3));
+
+        GameEngine loaded = new GameEngine(board, new Spymaster(RED), new Spymaster(BLUE),
+                new Operative(RED), new Operative(BLUE));
+        assertEquals(Outcome.BLUE_WINS, loaded.getOutcome());
+    }
+
+    @Test
+    void testListener() {
+        List<String> actions = new ArrayList<>();
+        GameListener listener = new GameListener() {
+            @Override
+            public void clueGiven(GameEngine game, String clue, int count) {
+                actions.add("clue " + clue + " " + count);
+            }
+
+            @Override
+            public void cardGuessed(GameEngine game, int position, GuessResult result) {
+                actions.add("guess " + position + " " + result.getCardTeam());
+            }
+
+            @Override
+            public void turnEnded(GameEngine game, Team team) {
+                actions.add("turn " + team);
+            }
+        };
+
+        game.addListener(listener);
+        game.giveClue("FRUIT", 1);
+        game.guess(0);
+        game.endTurn();
+        game.removeListener(listener);
+        game.giveClue("CHAIR", 1);
+
+        assertEquals(List.of("clue FRUIT 1", "guess 0 RED", "turn BLUE"), actions);
+    }
+}
@@ -4,16 +4,16 @@ import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static model.Board.RED;
-import static model.Board.BLUE;
+import static model.Team.RED;
+import static model.Team.BLUE;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class OperativeTest {
     private Operative redOperative;
     private Operative blueOperative;
-    private String redTeamString = RED;
-    private String blueTeamString = BLUE;
+    private Team redTeamString = RED;
+    private Team blueTeamString = BLUE;
 
     @BeforeEach
     void setup() {
@@ -64,10 +64,10 @@ public class OperativeTest {
         redJSON = redOperative.toJson();
         blueJSON = blueOperative.toJson();
 
-        assertEquals(redTeamString,redJSON.get("redOperativeTeamName"));
+        assertEquals(redTeamString.getLabel(),redJSON.get("redOperativeTeamName"));
         assertEquals(0,redJSON.get("redOperativeScore"));
 
-        assertEquals(blueTeamString,blueJSON.get("blueOperativeTeamName"));
+        assertEquals(blueTeamString.getLabel(),blueJSON.get("blueOperativeTeamName"));
         assertEquals(0,blueJSON.get("blueOperativeScore"));
     }
 }
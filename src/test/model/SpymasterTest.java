@@ -4,15 +4,15 @@ import org.json.JSONObject;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import static model.Board.RED;
-import static model.Board.BLUE;
+import static model.Team.RED;
+import static model.Team.BLUE;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class SpymasterTest {
     private Spymaster redSpymaster;
     private Spymaster blueSpymaster;
-    private String redTeamString = RED;
-    private String blueTeamString = BLUE;
+    private Team redTeamString = RED;
+    private Team blueTeamString = BLUE;
     private int redGuesses = 5;
     private int blueGuesses = 1;
 
@@ -92,11 +92,11 @@ public class SpymasterTest {
         redJSON = redSpymaster.toJson();
         blueJSON = blueSpymaster.toJson();
 
-        assertEquals(redTeamString,redJSON.get("redSpymasterTeamName"));
+        assertEquals(redTeamString.getLabel(),redJSON.get("redSpymasterTeamName"));
         assertEquals("",redJSON.get("redSpymasterHint"));
         assertEquals(0,redJSON.get("redSpymasterGuesses"));
 
-        assertEquals(blueTeamString,blueJSON.get("blueSpymasterTeamName"));
+        assertEquals(blueTeamString.getLabel(),blueJSON.get("blueSpymasterTeamName"));
         assertEquals("",blueJSON.get("blueSpymasterHint"));
         assertEquals(0,blueJSON.get("blueSpymasterGuesses"));
     }
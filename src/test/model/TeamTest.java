@@ -0,0 +1,48 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TeamTest {
+
+    @Test
+    void testGetLabel() {
+        assertEquals("RED", RED.getLabel());
+        assertEquals("?", UNKNOWN.getLabel());
+        assertEquals("BLUE", BLUE.toString());
+    }
+
+    @Test
+    void testOpponent() {
+        assertEquals(BLUE, RED.opponent());
+        assertEquals(RED, BLUE.opponent());
+        assertEquals(NEUTRAL, NEUTRAL.opponent());
+        assertEquals(ASSASSIN, ASSASSIN.opponent());
+    }
+
+    @Test
+    void testFromLabel() {
+        assertEquals(RED, Team.fromLabel("RED"));
+        assertEquals(BLUE, Team.fromLabel("blue"));
+        assertEquals(ASSASSIN, Team.fromLabel("Assassin"));
+        assertEquals(UNKNOWN, Team.fromLabel("?"));
+
+        try {
+            Team.fromLabel("GREEN");
+            fail("IllegalArgumentException was expected");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testBoardStartingTeamMatchesCurrentTeam() {
+        Board board = new Board(Team.fromLabel("blue"));
+        assertEquals(BLUE, board.getStartingTeam());
+        assertEquals(BLUE, board.getCurrentTeam());
+        assertEquals(Role.SPYMASTER, board.getCurrentPlayer());
+        assertEquals(Role.OPERATIVE, board.getCurrentPlayer().next());
+    }
+}
@@ -0,0 +1,53 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static model.Dictionary.NUM_DICTIONARY_WORDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordPoolTest {
+
+    @Test
+    void testGetInstance() {
+        assertSame(WordPool.getInstance(), WordPool.getInstance());
+    }
+
+    @Test
+    void testGetWord() {
+        WordPool pool = WordPool.getInstance();
+        assertEquals(NUM_DICTIONARY_WORDS, pool.size());
+        assertEquals("AFRICA", pool.getWord(0));
+
+        for (int i = 0; i < pool.size(); i++) {
+            String word = pool.getWord(i);
+            assertFalse(word.isEmpty());
+            assertFalse(word.contains("\r"));
+            assertSame(word, word.intern());
+        }
+    }
+
+    @Test
+    void testGetWords() {
+        List<String> words = WordPool.getInstance().getWords();
+        assertEquals(NUM_DICTIONARY_WORDS, words.size());
+
+        try {
+            words.set(0, "CHANGED");
+            fail("UnsupportedOperationException was expected");
+        } catch (UnsupportedOperationException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testDictionariesShareWords() {
+        Dictionary first = new Dictionary();
+        Dictionary second = new Dictionary();
+        first.initializeDictionary();
+        second.initializeDictionary();
+
+        assertSame(first.getDictionary().get(7), second.getDictionary().get(7));
+    }
+}
@@ -0,0 +1,93 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WordSamplerTest {
+    private WordSampler sampler;
+
+    @BeforeEach
+    void setup() {
+        sampler = new WordSampler(new SplittableRandom(7));
+    }
+
+    @Test
+    void testSampleDistinct() {
+        int[] drawn = sampler.sample(400, 25);
+        assertEquals(25, drawn.length);
+        assertEquals(25, distinctInRange(drawn, 25, 400));
+    }
+
+    @Test
+    void testSampleEverything() {
+        int[] drawn = sampler.sample(30, 30);
+        assertEquals(30, distinctInRange(drawn, 30, 30));
+        assertEquals(0, sampler.sample(30, 0).length);
+    }
+
+    @Test
+    void testSampleLargePool() {
+        int[] drawn = new int[1000];
+        sampler.sample(100_000, 25, drawn);
+        assertEquals(25, distinctInRange(drawn, 25, 100_000));
+
+        // Scratch space is reused by later, larger draws
+        sampler.sample(100_000, 1000, drawn);
+        assertEquals(1000, distinctInRange(drawn, 1000, 100_000));
+    }
+
+    @Test
+    void testSampleSeeded() {
+        int[] first = new WordSampler(new SplittableRandom(99)).sample(400, 25);
+        int[] second = new WordSampler(new SplittableRandom(99)).sample(400, 25);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void testSampleUniform() {
+        int[] counts = new int[10];
+        int[] drawn = new int[3];
+        for (int i = 0; i < 10_000; i++) {
+            sampler.sample(10, 3, drawn);
+            for (int index : drawn) {
+                counts[index]++;
+            }
+        }
+
+        // Every index is expected 3000 times
+        for (int count : counts) {
+            assertTrue(count > 2700 && count < 3300);
+        }
+    }
+
+    @Test
+    void testSampleInvalid() {
+        try {
+            sampler.sample(5, 6);
+            fail("IllegalArgumentException was expected");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testCurrent() {
+        assertSame(WordSampler.current(), WordSampler.current());
+    }
+
+    // EFFECTS: returns the number of distinct values in drawn[0, k), failing if any is outside [0, n)
+    private int distinctInRange(int[] drawn, int k, int n) {
+        Set<Integer> distinct = new HashSet<>();
+        for (int i = 0; i < k; i++) {
+            assertTrue(drawn[i] >= 0 && drawn[i] < n);
+            distinct.add(drawn[i]);
+        }
+        return distinct.size();
+    }
+}
@@ -0,0 +1,95 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryReaderTest extends BinaryWriterTest {
+
+    @Test
+    void testReaderNonExistentFile() {
+        try {
+            new BinaryReader("./data/noSuchFile.bin").read();
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderNotASnapshot() {
+        try {
+            new BinaryReader(file).read("{\"cards\": []}".getBytes());
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderUnsupportedVersion() {
+        byte[] bytes = BinaryWriter.toBytes(game);
+        bytes[Integer.BYTES] = BinaryWriter.VERSION + 1;
+
+        try {
+            new BinaryReader(file).read(bytes);
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderTruncated() {
+        byte[] bytes = BinaryWriter.toBytes(game);
+
+        try {
+            new BinaryReader(file).read(Arrays.copyOf(bytes, bytes.length - 1));
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderTooManyCards() {
+        byte[] bytes = BinaryWriter.toBytes(game);
+        bytes[Integer.BYTES + 4] = (byte) (BinaryWriter.MAX_CARDS + 1);
+
+        try {
+            new BinaryReader(file).read(bytes);
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testDetectFormat() throws IOException {
+        new BinaryWriter(file).write(game);
+        assertEquals(SaveFormat.BINARY, SaveFormat.detect(file));
+        assertTrue(GameReader.forFile(file) instanceof BinaryReader);
+
+        assertEquals(SaveFormat.JSON, SaveFormat.detect("./data/testWriterGeneralGamestate.json"));
+        assertTrue(GameReader.forFile("./data/testWriterGeneralGamestate.json") instanceof JsonStreamReader);
+
+        Files.write(Paths.get(file), new byte[0]);
+        assertEquals(SaveFormat.JSON, SaveFormat.detect(file));
+    }
+
+    @Test
+    void testForFileReadsGame() throws IOException {
+        new BinaryWriter(file).write(game);
+        GameReader reader = GameReader.forFile(file);
+        reader.read();
+
+        assertEquals(game.getOperative(RED).getTeamScore(), reader.readOperative(RED).getTeamScore());
+        assertEquals(game.getBoard().getBoard().get(3).getWord(), reader.readBoard().getBoard().get(3).getWord());
+    }
+}
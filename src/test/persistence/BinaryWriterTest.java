@@ -0,0 +1,102 @@
+package persistence;
+
+import model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BinaryWriterTest {
+    protected GameEngine game;
+    protected String file;
+
+    @BeforeEach
+    void setup() throws IOException {
+        game = GameEngine.newGame(42L);
+        game.giveClue("OCEAN", 2);
+        game.guess(3);
+
+        File scratch = File.createTempFile("testBinaryGamestate", ".bin");
+        scratch.deleteOnExit();
+        file = scratch.getPath();
+    }
+
+    @Test
+    void testWriterGeneralGamestate() throws IOException {
+        new BinaryWriter(file).write(game);
+        BinaryReader reader = new BinaryReader(file);
+        reader.read();
+
+        assertSameGame(game, new GameEngine(reader.readBoard(), reader.readSpymaster(RED),
+                reader.readSpymaster(BLUE), reader.readOperative(RED), reader.readOperative(BLUE)));
+    }
+
+    @Test
+    void testWriterCompact() {
+        assertTrue(BinaryWriter.toBytes(game).length < 100);
+    }
+
+    @Test
+    void testWriterWordNotInPool() throws IOException {
+        Board board = new Board(BLUE);
+        board.addCards(new Card("NOT A DICTIONARY WORD", BLUE));
+        board.addCards(new Card("APPLE", ASSASSIN));
+        board.getBoard().get(1).makeVisibleTeam();
+        GameEngine custom = new GameEngine(board);
+
+        BinaryReader reader = new BinaryReader(file);
+        reader.read(BinaryWriter.toBytes(custom));
+
+        List<Card> cards = reader.readBoard().getBoard();
+        assertEquals("NOT A DICTIONARY WORD", cards.get(0).getWord());
+        assertEquals(UNKNOWN, cards.get(0).getVisibleTeam());
+        assertEquals(ASSASSIN, cards.get(1).getVisibleTeam());
+        assertEquals(BLUE, reader.readBoard().getStartingTeam());
+    }
+
+    @Test
+    void testWriterCardWithoutTeam() {
+        Board board = new Board(RED);
+        board.addCards(new Card("AFRICA", UNKNOWN));
+
+        try {
+            BinaryWriter.toBytes(new GameEngine(board));
+            fail("IllegalArgumentException was expected");
+        } catch (IllegalArgumentException e) {
+            // pass
+        }
+    }
+
+    // EFFECTS: asserts that actual holds the same game state as expected
+    protected void assertSameGame(GameEngine expected, GameEngine actual) {
+        Board expectedBoard = expected.getBoard();
+        Board actualBoard = actual.getBoard();
+        assertEquals(expectedBoard.getStartingTeam(), actualBoard.getStartingTeam());
+        assertEquals(expectedBoard.getCurrentTeam(), actualBoard.getCurrentTeam());
+        assertEquals(expectedBoard.getCurrentPlayer(), actualBoard.getCurrentPlayer());
+        assertEquals(expectedBoard.getNumOriginalRedCards(), actualBoard.getNumOriginalRedCards());
+        assertEquals(expectedBoard.getNumOriginalBlueCards(), actualBoard.getNumOriginalBlueCards());
+        assertEquals(expectedBoard.getBitBoard().getRevealedMask(), actualBoard.getBitBoard().getRevealedMask());
+
+        for (int i = 0; i < expectedBoard.getBoard().size(); i++) {
+            Card expectedCard = expectedBoard.getBoard().get(i);
+            Card actualCard = actualBoard.getBoard().get(i);
+            assertEquals(expectedCard.getWord(), actualCard.getWord());
+            assertEquals(expectedCard.getTeam(), actualCard.getTeam());
+            assertEquals(expectedCard.getVisibleTeam(), actualCard.getVisibleTeam());
+            assertEquals(expectedCard.getIndex(), actualCard.getIndex());
+        }
+
+        for (Team team : new Team[]{RED, BLUE}) {
+            assertEquals(expected.getSpymaster(team).getHint(), actual.getSpymaster(team).getHint());
+            assertEquals(expected.getSpymaster(team).getGuesses(), actual.getSpymaster(team).getGuesses());
+            assertEquals(expected.getOperative(team).getTeamScore(), actual.getOperative(team).getTeamScore());
+        }
+        assertEquals(expected.getOutcome(), actual.getOutcome());
+    }
+}
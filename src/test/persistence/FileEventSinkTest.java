@@ -0,0 +1,41 @@
+package persistence;
+
+import model.AsyncEventLog;
+import model.Event;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileEventSinkTest {
+
+    @Test
+    void testEventsAppendedOnePerLine() throws IOException {
+        File scratch = File.createTempFile("testEventLog", ".log");
+        scratch.deleteOnExit();
+        Files.writeString(scratch.toPath(), "0\tearlier\n");
+
+        AsyncEventLog log = new AsyncEventLog(new FileEventSink(scratch.getPath()));
+        Event event = new Event("Multi\nline");
+        log.logEvent(event);
+        log.close();
+
+        List<String> lines = Files.readAllLines(Paths.get(scratch.getPath()));
+        assertEquals(List.of("0\tearlier", event.getTimestampNanos() + "\tMulti line"), lines);
+    }
+
+    @Test
+    void testInvalidDestination() {
+        try {
+            new FileEventSink("./data/no such directory/events.log");
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+}
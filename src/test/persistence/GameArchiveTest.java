@@ -0,0 +1,159 @@
+package persistence;
+
+import model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameArchiveTest {
+    private String directory;
+    private GameArchive archive;
+
+    @BeforeEach
+    void setup() throws IOException {
+        directory = Files.createTempDirectory("testGameArchive").toString();
+        archive = GameArchive.open(directory, 2);
+    }
+
+    @AfterEach
+    void teardown() {
+        archive.close();
+        File[] files = new File(directory).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        new File(directory).delete();
+    }
+
+    @Test
+    void testAppendAndGet() throws IOException {
+        GameEngine game = GameEngine.newGame(42L);
+        GameRecorder recorder = new GameRecorder();
+        game.addListener(recorder);
+        game.giveClue("OCEAN", 2);
+        int position = positionOf(game, game.getCurrentTeam());
+        game.guess(position);
+        game.endTurn();
+
+        assertEquals(0, archive.append(game, recorder));
+        ArchivedGame archived = archive.get(0);
+
+        assertEquals(0, archived.getId());
+        assertEquals(game.getOutcome(), archived.getOutcome());
+        assertEquals(game.getBoard().getStartingTeam(), archived.getStartingTeam());
+        assertEquals(Board.NUM_CARDS, archived.getNumCards());
+        for (int i = 0; i < Board.NUM_CARDS; i++) {
+            Card card = game.getBoard().getBoard().get(i);
+            assertEquals(card.getWord(), archived.getWord(i));
+            assertEquals(card.getTeam(), archived.getTeam(i));
+        }
+        assertEquals(game.getBoard().getBitBoard().getTeamMask(ASSASSIN), archived.getTeamMask(ASSASSIN));
+        assertEquals(1 << position, archived.getRevealedMask());
+        assertEquals(1, archived.getNumClues());
+        assertEquals("OCEAN", archived.getClue(0));
+        assertEquals(2, archived.getClueCount(0));
+        assertEquals(1, archived.getNumGuesses());
+        assertEquals(position, archived.getGuessPosition(0));
+        assertEquals(0, archived.getGuessClue(0));
+    }
+
+    @Test
+    void testGetMissing() {
+        try {
+            archive.get(0);
+            fail("IndexOutOfBoundsException was expected");
+        } catch (IndexOutOfBoundsException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testScanAcrossSegments() throws IOException {
+        for (long seed = 0; seed < 5; seed++) {
+            archive.append(GameEngine.newGame(seed), new GameRecorder());
+        }
+        assertEquals(3, new File(directory).listFiles().length);
+
+        List<Long> ids = new ArrayList<>();
+        archive.scan(archived -> ids.add(archived.getId()));
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), ids);
+
+        ids.clear();
+        archive.scan(1, 3, archived -> ids.add(archived.getId()));
+        assertEquals(List.of(1L, 2L), ids);
+        assertEquals(GameEngine.newGame(3L).getBoard().getBoard().get(0).getWord(), archive.get(3).getWord(0));
+    }
+
+    @Test
+    void testReopen() throws IOException {
+        for (long seed = 0; seed < 3; seed++) {
+            archive.append(GameEngine.newGame(seed), new GameRecorder());
+        }
+        archive.close();
+
+        archive = GameArchive.open(directory, 2);
+        assertEquals(3, archive.size());
+        assertEquals(3, archive.append(GameEngine.newGame(3L), new GameRecorder()));
+        assertEquals(3, archive.get(3).getId());
+    }
+
+    @Test
+    void testReopenWrongSegmentSize() throws IOException {
+        archive.append(GameEngine.newGame(0L), new GameRecorder());
+        archive.close();
+
+        try {
+            archive = GameArchive.open(directory, 4);
+            fail("IOException was expected");
+        } catch (IOException e) {
+            archive = GameArchive.open(directory, 2);
+        }
+    }
+
+    @Test
+    void testCustomBoardAndLongClues() throws IOException {
+        Board board = new Board(BLUE);
+        board.addCards(new Card("NOT A DICTIONARY WORD", BLUE));
+        board.addCards(new Card("APPLE", RED));
+        board.addCards(new Card("AFRICA", ASSASSIN));
+        GameEngine game = new GameEngine(board);
+        GameRecorder recorder = new GameRecorder();
+        game.addListener(recorder);
+        for (int i = 0; i < GameArchive.MAX_CLUES + 1; i++) {
+            game.giveClue("\u00C9CLAIRSANDCREAMPUFFS", 1);
+            game.endTurn();
+        }
+
+        ArchivedGame archived = archive.get(archive.append(game, recorder));
+        assertNull(archived.getWord(0));
+        assertEquals(-1, archived.getWordId(0));
+        assertEquals("AFRICA", archived.getWord(2));
+        assertEquals(BLUE, archived.getStartingTeam());
+        assertTrue(archived.isCluesTruncated());
+        assertEquals(GameArchive.MAX_CLUES, archived.getNumClues());
+        assertEquals("\u00C9CLAIRSANDCREA", archived.getClue(GameArchive.MAX_CLUES - 1));
+        assertEquals(0, archived.getNumGuesses());
+    }
+
+    // EFFECTS: returns the position of the first card on game's board belonging to team
+    private static int positionOf(GameEngine game, Team team) {
+        List<Card> cards = game.getBoard().getBoard();
+        for (int i = 0; i < cards.size(); i++) {
+            if (cards.get(i).getTeam() == team) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
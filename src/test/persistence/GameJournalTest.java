@@ -0,0 +1,216 @@
+package persistence;
+
+import model.GameEngine;
+import model.Outcome;
+import model.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameJournalTest extends BinaryWriterTest {
+    private Path directory;
+    private String base;
+    private GameEngine journaled;
+    private GameJournal journal;
+
+    @BeforeEach
+    void setupJournal() throws IOException {
+        directory = Files.createTempDirectory("testJournal");
+        base = directory.resolve("game").toString();
+        journaled = GameEngine.newGame(11L);
+        journal = new GameJournal(base, 5, false);
+        journal.start(journaled);
+        journaled.addListener(journal);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        journal.close();
+        for (Path file : Files.newDirectoryStream(directory)) {
+            Files.delete(file);
+        }
+        Files.delete(directory);
+    }
+
+    @Test
+    void testRecoverSnapshotOnly() throws IOException {
+        assertTrue(journal.exists());
+        assertSameGame(journaled, recover());
+    }
+
+    @Test
+    void testRecoverReplaysJournal() throws IOException {
+        play(journaled);
+        assertEquals(3, journal.getPendingRecords());
+        assertSameGame(journaled, recover());
+    }
+
+    @Test
+    void testCompaction() throws IOException {
+        play(journaled);
+        journaled.endTurn();
+        journaled.endTurn();
+        assertEquals(0, journal.getPendingRecords());
+        assertEquals(12L, Files.size(directory.resolve("game.journal")));
+
+        journaled.endTurn();
+        assertEquals(1, journal.getPendingRecords());
+        assertSameGame(journaled, recover());
+    }
+
+    @Test
+    void testRecoverTornRecord() throws IOException {
+        play(journaled);
+        Path journalFile = directory.resolve("game.journal");
+        long intact = Files.size(journalFile);
+        journaled.endTurn();
+        GameEngine beforeEndTurn = recoverFrom(journalFile, intact + 3);
+
+        // The torn record is cut off and appends carry on after the last intact one
+        assertEquals(intact, Files.size(journalFile));
+        GameJournal recovered = new GameJournal(base, 5, false);
+        GameEngine game = recovered.recover();
+        game.addListener(recovered);
+        game.endTurn();
+        recovered.close();
+        assertSameGame(journaled, new GameJournal(base).recover());
+        assertNotEquals(journaled.getCurrentTeam(), beforeEndTurn.getCurrentTeam());
+    }
+
+    @Test
+    void testRecoverCorruptRecord() throws IOException {
+        play(journaled);
+        Path journalFile = directory.resolve("game.journal");
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            file.seek(file.length() - 1);
+            int last = file.read();
+            file.seek(file.length() - 1);
+            file.write(last ^ 0xFF);
+        }
+
+        // The clue and guess are replayed but the corrupt end of turn is not
+        GameEngine recovered = recover();
+        assertEquals(Outcome.IN_PROGRESS, recovered.getOutcome());
+        assertEquals(Role.OPERATIVE, recovered.getCurrentPlayer());
+        assertEquals(1, Long.bitCount(recovered.getBoard().getBitBoard().getRevealedMask()));
+    }
+
+    @Test
+    void testStaleJournalIgnored() throws IOException {
+        play(journaled);
+        Path journalFile = directory.resolve("game.journal");
+        Path stale = directory.resolve("stale");
+        Files.copy(journalFile, stale);
+
+        // Crash after the new snapshot was written but before the journal was emptied
+        journal.compact(journaled);
+        Files.move(stale, journalFile, StandardCopyOption.REPLACE_EXISTING);
+        assertSameGame(journaled, recover());
+    }
+
+    @Test
+    void testRecoverDuringOperativeTurn() throws IOException {
+        journaled.giveClue("RIVER", 2);
+        GameEngine recovered = recover();
+
+        // The game resumes with the operative, who can guess straight away
+        assertEquals(Role.OPERATIVE, recovered.getCurrentPlayer());
+        assertEquals(journaled.getGuessesRemaining(), recovered.getGuessesRemaining());
+        recovered.endTurn();
+        assertEquals(Role.SPYMASTER, recovered.getCurrentPlayer());
+    }
+
+    @Test
+    void testFinishedGameCleared() throws IOException {
+        journaled.giveClue("RIVER", 1);
+        int position = 0;
+        while (journaled.getBoard().getBoard().get(position).getTeam() != ASSASSIN) {
+            position++;
+        }
+        journaled.guess(position);
+
+        assertTrue(journaled.getOutcome().isGameOver());
+        assertFalse(journal.exists());
+        assertFalse(Files.exists(directory.resolve("game.journal")));
+        assertNull(journal.getFailure());
+    }
+
+    @Test
+    void testWriteFailureDisablesAutosave() throws IOException {
+        // Compaction cannot write its temporary snapshot over a directory
+        Path blocker = directory.resolve("game.snapshot.tmp");
+        Files.createDirectory(blocker);
+        Files.createFile(blocker.resolve("file"));
+
+        for (int i = 0; i < 3; i++) {
+            journaled.giveClue("HINT", 1);
+            journaled.endTurn();
+        }
+        assertNotNull(journal.getFailure());
+        assertEquals(Role.SPYMASTER, journaled.getCurrentPlayer());
+
+        Files.delete(blocker.resolve("file"));
+        Files.delete(blocker);
+        journal.start(journaled);
+        assertNull(journal.getFailure());
+    }
+
+    @Test
+    void testNotStarted() throws IOException {
+        GameJournal unstarted = new GameJournal(directory.resolve("other").toString());
+        assertFalse(unstarted.exists());
+        GameEngine game = GameEngine.newGame(RED);
+        game.addListener(unstarted);
+
+        try {
+            game.endTurn();
+            fail("IllegalStateException was expected");
+        } catch (IllegalStateException e) {
+            // pass
+        }
+        try {
+            unstarted.recover();
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    // MODIFIES: game
+    // EFFECTS: gives a clue and guesses the first card of the current team, leaving three journal records
+    private void play(GameEngine game) {
+        game.giveClue("RIVER", 2);
+        int position = 0;
+        while (game.getBoard().getBoard().get(position).getTeam() != game.getCurrentTeam()) {
+            position++;
+        }
+        game.guess(position);
+        game.endTurn();
+    }
+
+    // EFFECTS: returns the game recovered from a fresh journal on base
+    private GameEngine recover() throws IOException {
+        GameJournal recovered = new GameJournal(base);
+        GameEngine game = recovered.recover();
+        recovered.close();
+        return game;
+    }
+
+    // MODIFIES: journalFile
+    // EFFECTS: cuts journalFile to length, as if a crash tore its last record, and returns the recovered game
+    private GameEngine recoverFrom(Path journalFile, long length) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(journalFile.toFile(), "rw")) {
+            file.setLength(length);
+        }
+        return recover();
+    }
+}
@@ -0,0 +1,157 @@
+package persistence;
+
+import model.BitBoard;
+import model.Board;
+import model.Card;
+import model.GameEngine;
+import model.Role;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonStreamReaderTest {
+
+    @Test
+    void testReaderMatchesJsonReader() throws IOException {
+        JsonReader expected = new JsonReader("./data/codenames.json");
+        JsonStreamReader actual = new JsonStreamReader("./data/codenames.json");
+        expected.read();
+        actual.read();
+
+        Board expectedBoard = expected.readBoard();
+        Board actualBoard = actual.readBoard();
+        assertEquals(expectedBoard.getStartingTeam(), actualBoard.getStartingTeam());
+        assertEquals(expectedBoard.getCurrentTeam(), actualBoard.getCurrentTeam());
+        assertEquals(expectedBoard.getCurrentPlayer(), actualBoard.getCurrentPlayer());
+        assertEquals(expectedBoard.getNumOriginalRedCards(), actualBoard.getNumOriginalRedCards());
+        assertEquals(expectedBoard.getBitBoard().getRevealedMask(), actualBoard.getBitBoard().getRevealedMask());
+        assertEquals(expectedBoard.getBoard().size(), actualBoard.getBoard().size());
+        for (int i = 0; i < expectedBoard.getBoard().size(); i++) {
+            Card expectedCard = expectedBoard.getBoard().get(i);
+            Card actualCard = actualBoard.getBoard().get(i);
+            assertEquals(expectedCard.getWord(), actualCard.getWord());
+            assertEquals(expectedCard.getTeam(), actualCard.getTeam());
+            assertEquals(expectedCard.getVisibleTeam(), actualCard.getVisibleTeam());
+            assertEquals(expectedCard.getIndex(), actualCard.getIndex());
+        }
+
+        assertEquals(expected.readSpymaster(BLUE).getHint(), actual.readSpymaster(BLUE).getHint());
+        assertEquals(expected.readSpymaster(RED).getGuesses(), actual.readSpymaster(RED).getGuesses());
+        assertEquals(expected.readOperative(RED).getTeamScore(), actual.readOperative(RED).getTeamScore());
+        assertEquals(expected.readOperative(BLUE).getTeamName(), actual.readOperative(BLUE).getTeamName());
+    }
+
+    @Test
+    void testReaderStreamWriterOutput() throws IOException {
+        GameEngine game = GameEngine.newGame(3L);
+        game.giveClue("QUOTE \"\\/\" \u00e9\t", 1);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamWriter.write(game, out);
+
+        JsonStreamReader reader = new JsonStreamReader("memory");
+        reader.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals("QUOTE \"\\/\" \u00e9\t", reader.readSpymaster(game.getCurrentTeam()).getHint());
+        assertEquals(1, reader.readSpymaster(game.getCurrentTeam()).getGuesses());
+        assertEquals(Role.OPERATIVE, reader.readBoard().getCurrentPlayer());
+        assertEquals(game.getBoard().getBoard().get(24).getWord(), reader.readBoard().getBoard().get(24).getWord());
+    }
+
+    @Test
+    void testReaderAnyOrderAndUnknownFields() throws IOException {
+        JsonStreamReader reader = read("{\"cards\": [{\"index\": 1, \"team\": \"RED\", \"extra\": [1, {\"a\": null}],"
+                + " \"word\": \"A\\u0042C\", \"visibleTeam\": \"RED\"}], \"version\": 2.5,"
+                + " \"blueOperativeScore\": 4, \"startingTeam\": \"BLUE\", \"currentTeam\": \"RED\","
+                + " \"currentPlayer\": \"SPYMASTER\", \"numRedCards\": 8, \"numBlueCards\": -9, \"flag\": true}");
+
+        Board board = reader.readBoard();
+        assertEquals(BLUE, board.getStartingTeam());
+        assertEquals(-9, board.getNumOriginalBlueCards());
+        assertEquals("ABC", board.getBoard().get(0).getWord());
+        assertTrue(board.isRevealed(0));
+        assertEquals(4, reader.readOperative(BLUE).getTeamScore());
+        assertEquals("", reader.readSpymaster(RED).getHint());
+    }
+
+    @Test
+    void testReaderMalformed() {
+        String[] malformed = {
+            "",
+            "{\"startingTeam\": \"RED\"}",
+            "{\"startingTeam\": \"PURPLE\"}",
+            "{\"numRedCards\": 1.5}",
+            "{\"numRedCards\": 99999999999}",
+            "{\"cards\": [{\"word\": \"A\"}]}",
+            "{\"blueSpymasterHint\": \"unterminated}",
+            "{\"redSpymasterHint\": \"\\q\"}",
+            "[]"
+        };
+
+        for (String json : malformed) {
+            try {
+                read(json);
+                fail("IOException was expected for " + json);
+            } catch (IOException e) {
+                // pass
+            }
+        }
+    }
+
+    @Test
+    void testReaderMissingCardCounts() throws IOException {
+        String state = "{\"startingTeam\": \"RED\", \"currentTeam\": \"RED\", \"currentPlayer\": \"SPYMASTER\","
+                + " \"cards\": []";
+        JsonStreamReader reader = read(state + ", \"numRedCards\": 9, \"numBlueCards\": 8}");
+        assertEquals(8, reader.readBoard().getNumOriginalBlueCards());
+
+        // A reused reader does not keep the counts of the last state it read
+        for (String json : new String[] {state + ", \"numRedCards\": 9}", state + ", \"numBlueCards\": 8}"}) {
+            try {
+                reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+                fail("IOException was expected for " + json);
+            } catch (IOException e) {
+                // pass
+            }
+        }
+    }
+
+    @Test
+    void testReaderTooManyCards() {
+        StringBuilder json = new StringBuilder("{\"cards\": [");
+        for (int i = 0; i <= BitBoard.MAX_CARDS; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"word\": \"W").append(i).append("\", \"team\": \"RED\"}");
+        }
+        json.append("], \"startingTeam\": \"RED\", \"currentTeam\": \"RED\", \"currentPlayer\": \"SPYMASTER\","
+                + " \"numRedCards\": 9, \"numBlueCards\": 8}");
+
+        try {
+            read(json.toString());
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    @Test
+    void testReaderNonExistentFile() {
+        try {
+            new JsonStreamReader("./data/noSuchFile.json").read();
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+
+    // EFFECTS: returns a reader that has read json
+    private JsonStreamReader read(String json) throws IOException {
+        JsonStreamReader reader = new JsonStreamReader("memory");
+        reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        return reader;
+    }
+}
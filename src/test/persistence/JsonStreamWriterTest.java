@@ -0,0 +1,72 @@
+package persistence;
+
+import model.GameEngine;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonStreamWriterTest {
+    private GameEngine game;
+
+    @BeforeEach
+    void setup() {
+        game = GameEngine.newGame(7L);
+        game.giveClue("SEA \"salt\"\n\\ \u0001", 2);
+        game.guess(0);
+    }
+
+    @Test
+    void testWriterSameSchema() throws IOException {
+        StringWriter out = new StringWriter();
+        JsonStreamWriter.write(game, out);
+
+        JsonWriter writer = new JsonWriter("unused.json");
+        JSONObject expected = writer.getMergedObject(writer.write(game.getBoard()),
+                writer.write(game.getSpymaster(RED)), writer.write(game.getSpymaster(BLUE)),
+                writer.write(game.getOperative(RED)), writer.write(game.getOperative(BLUE)));
+
+        assertTrue(expected.similar(new JSONObject(out.toString())));
+    }
+
+    @Test
+    void testWriterOutputStream() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonStreamWriter.write(game, out);
+
+        JSONObject json = new JSONObject(out.toString("UTF-8"));
+        assertEquals(game.getSpymaster(RED).getHint(), json.getString("redSpymasterHint"));
+        assertEquals(game.getBoard().getBoard().size(), json.getJSONArray("cards").length());
+    }
+
+    @Test
+    void testWriterRoundTrip() throws IOException {
+        File file = File.createTempFile("testStreamWriterGamestate", ".json");
+        file.deleteOnExit();
+        new JsonStreamWriter(file.getPath()).write(game);
+
+        JsonReader reader = new JsonReader(file.getPath());
+        reader.read();
+        assertEquals(game.getSpymaster(RED).getHint(), reader.readSpymaster(RED).getHint());
+        assertEquals(game.getOperative(RED).getTeamScore(), reader.readOperative(RED).getTeamScore());
+        assertEquals(game.getBoard().getBoard().get(0).getWord(), reader.readBoard().getBoard().get(0).getWord());
+        assertTrue(reader.readBoard().isRevealed(0));
+    }
+
+    @Test
+    void testWriterInvalidFile() {
+        try {
+            new JsonStreamWriter("./data/my\0illegal:fileName.json").write(game);
+            fail("IOException was expected");
+        } catch (IOException e) {
+            // pass
+        }
+    }
+}
@@ -8,8 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 
-import static model.Board.*;
-import static model.Board.ASSASSIN;
+import static model.Team.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
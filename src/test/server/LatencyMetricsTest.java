@@ -0,0 +1,42 @@
+package server;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyMetricsTest {
+    private LatencyMetrics metrics;
+
+    @BeforeEach
+    void setup() {
+        metrics = new LatencyMetrics();
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, metrics.getCount(CommandType.GUESS));
+        assertEquals(0, metrics.getMeanNanos(CommandType.GUESS));
+        assertEquals(0, metrics.getMaxNanos(CommandType.GUESS));
+        assertEquals(0, metrics.getPercentileNanos(CommandType.GUESS, 99));
+    }
+
+    @Test
+    void testRecord() {
+        for (int i = 1; i <= 99; i++) {
+            metrics.record(CommandType.GUESS, 100);
+        }
+        metrics.record(CommandType.GUESS, 5000);
+
+        assertEquals(100, metrics.getCount(CommandType.GUESS));
+        assertEquals(149, metrics.getMeanNanos(CommandType.GUESS));
+        assertEquals(5000, metrics.getMaxNanos(CommandType.GUESS));
+        assertEquals(0, metrics.getCount(CommandType.END_TURN));
+
+        // Percentiles are accurate to within a factor of two
+        long p50 = metrics.getPercentileNanos(CommandType.GUESS, 50);
+        assertTrue(p50 >= 100 && p50 < 200);
+        assertEquals(5000, metrics.getPercentileNanos(CommandType.GUESS, 100));
+        assertTrue(metrics.summary(CommandType.GUESS).startsWith("GUESS count=100"));
+    }
+}
@@ -0,0 +1,242 @@
+package server;
+
+import model.AsyncEventLog;
+import model.Event;
+import model.EventLog;
+import model.GameEngine;
+import model.GuessResult;
+import model.MemoryEventSink;
+import model.Outcome;
+import model.Role;
+import model.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static model.Team.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SessionManagerTest {
+    private SessionManager manager;
+
+    @BeforeEach
+    void setup() {
+        manager = new SessionManager(2, 4);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        manager.shutdown(1000);
+    }
+
+    @Test
+    void testCreateGame() {
+        GameSession first = manager.createGame(RED);
+        GameSession second = manager.createGame(BLUE);
+
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(2, manager.getActiveGames());
+        assertSame(first, manager.getSession(first.getId()));
+        assertNull(manager.getSession(-1));
+    }
+
+    @Test
+    void testPlayTurn() throws ExecutionException, InterruptedException {
+        GameEngine game = GameEngine.newGame(RED);
+        GameSession session = manager.host(game);
+        int position = positionOf(game, RED);
+
+        assertEquals(3, session.giveClue("HINT", 2).get());
+        GuessResult result = session.guess(position).get();
+        assertTrue(result.isCorrect());
+        assertEquals(RED, result.getGuessingTeam());
+        assertEquals(Outcome.IN_PROGRESS, session.outcome().get());
+
+        assertEquals(2, countEvents(session.getEventLog()));
+        assertEquals(1, manager.getMetrics().getCount(CommandType.GIVE_CLUE));
+        assertEquals(1, manager.getMetrics().getCount(CommandType.GUESS));
+    }
+
+    @Test
+    void testGamesAreIsolated() throws ExecutionException, InterruptedException {
+        List<GameSession> sessions = new ArrayList<>();
+        List<CompletableFuture<Integer>> clues = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GameSession session = manager.createGame(RED);
+            sessions.add(session);
+            clues.add(session.giveClue("CLUE" + i, 1));
+        }
+
+        for (int i = 0; i < sessions.size(); i++) {
+            assertEquals(2, clues.get(i).get());
+            assertEquals(1, countEvents(sessions.get(i).getEventLog()));
+        }
+        assertEquals(100, manager.getMetrics().getCount(CommandType.GIVE_CLUE));
+    }
+
+    @Test
+    void testFailedCommand() throws InterruptedException {
+        GameSession session = manager.createGame(RED);
+
+        try {
+            session.guess(0).get();
+            fail("ExecutionException was expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    void testIllegalClue() throws InterruptedException {
+        GameSession session = manager.createGame(RED);
+        String word = session.submit(CommandType.QUERY, g -> g.getBoard().getBoard().get(0).getWord()).join();
+
+        try {
+            session.giveClue(word.toLowerCase() + "s", 1).get();
+            fail("ExecutionException was expected");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        assertEquals(0, countEvents(session.getEventLog()));
+    }
+
+    @Test
+    void testMailboxFull() {
+        GameSession session = new GameSession(1, GameEngine.newGame(RED), new EventLog(), r -> { }, 1,
+                new LatencyMetrics());
+
+        assertFalse(session.endTurn().isDone());
+        CompletableFuture<Role> rejected = session.submit(CommandType.QUERY, GameEngine::getCurrentPlayer);
+        assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.join();
+            fail("Exception was expected");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    void testExecutorRejects() {
+        GameSession session = new GameSession(1, GameEngine.newGame(RED), new EventLog(), r -> {
+            throw new RejectedExecutionException("Shut down");
+        }, 4, new LatencyMetrics());
+
+        CompletableFuture<Team> rejected = session.endTurn();
+        assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.join();
+            fail("Exception was expected");
+        } catch (RuntimeException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        assertTrue(session.isClosed());
+        assertEquals(0, session.getPendingCommands());
+        assertTrue(session.getEventLog().isReleased());
+        assertTrue(session.outcome().isCompletedExceptionally());
+    }
+
+    @Test
+    void testCloseGame() {
+        GameSession session = manager.createGame(BLUE);
+
+        assertTrue(manager.closeGame(session.getId()));
+        assertFalse(manager.closeGame(session.getId()));
+        assertTrue(session.isClosed());
+        assertTrue(session.outcome().isCompletedExceptionally());
+        assertEquals(0, manager.getActiveGames());
+    }
+
+    @Test
+    void testCloseReleasesEventLog() {
+        GameSession session = new GameSession(1, GameEngine.newGame(RED), new EventLog(), Runnable::run, 4,
+                new LatencyMetrics());
+        session.giveClue("HINT", 1);
+        assertEquals(1, countEvents(session.getEventLog()));
+
+        session.close();
+        assertTrue(session.getEventLog().isReleased());
+        assertEquals(0, countEvents(session.getEventLog()));
+    }
+
+    // Closes sessions while another thread submits to them; a command that was accepted must run before the event log
+    // is released, and every other one must be refused
+    @Test
+    void testNoCommandRunsAfterRelease() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger late = new AtomicInteger();
+        List<CompletableFuture<Role>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                EventLog eventLog = new EventLog();
+                GameSession session = new GameSession(i, GameEngine.newGame(RED), eventLog, executor, 64,
+                        new LatencyMetrics());
+                Thread submitter = new Thread(() -> {
+                    for (int j = 0; j < 16; j++) {
+                        futures.add(session.submit(CommandType.QUERY, g -> {
+                            if (eventLog.isReleased()) {
+                                late.incrementAndGet();
+                            }
+                            return g.getCurrentPlayer();
+                        }));
+                    }
+                });
+                submitter.start();
+                session.close();
+                submitter.join();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(0, late.get());
+        for (CompletableFuture<Role> future : futures) {
+            assertTrue(future.isDone());
+        }
+    }
+
+    @Test
+    void testTapSeesEveryGame() throws ExecutionException, InterruptedException, IOException {
+        MemoryEventSink aggregate = new MemoryEventSink(100);
+        AsyncEventLog tap = new AsyncEventLog(aggregate);
+        SessionManager tapped = new SessionManager(2, 4, tap);
+
+        tapped.createGame(RED).giveClue("FIRST", 1).get();
+        tapped.createGame(BLUE).giveClue("SECOND", 1).get();
+        tapped.shutdown(1000);
+        tap.close();
+
+        assertEquals(2, aggregate.size());
+        assertEquals(0, tap.getDropped());
+    }
+
+    // EFFECTS: returns the position of the first card of team on game's board
+    private int positionOf(GameEngine game, Team team) {
+        int position = 0;
+        while (game.getBoard().getBoard().get(position).getTeam() != team) {
+            position++;
+        }
+        return position;
+    }
+
+    // EFFECTS: returns the number of events in eventLog
+    private int countEvents(EventLog eventLog) {
+        int count = 0;
+        for (Event ignored : eventLog) {
+            count++;
+        }
+        return count;
+    }
+}